@@ -0,0 +1,103 @@
+#!/usr/bin/env python3
+"""Compares two JMH JSON result files and reports how each benchmark changed.
+
+Usage: compare_benchmarks.py BASELINE.json RESULTS.json [THRESHOLD_PERCENT]
+
+Benchmarks are matched by name and parameters. A benchmark whose score got worse by more than the
+threshold (10% by default) and by more than the combined error of both runs is reported as a
+regression, and the script exits with status 1 if there are any.
+"""
+
+import json
+import sys
+
+
+def load_results(file_name):
+    with open(file_name, 'r') as f:
+        results = json.load(f)
+    return {result_key(result): result for result in results}
+
+
+def result_key(result):
+    params = ','.join(
+        f'{name}={value}'
+        for name, value in sorted(result.get('params', {}).items()))
+    name = result['benchmark'].split('.', 1)[-1]
+    return f'{name}({params})' if params else name
+
+
+def lower_is_better(result):
+    # Throughput is measured in operations per unit of time, the other modes in time per operation.
+    return result['mode'] != 'thrpt'
+
+
+def compare(baseline, current, threshold_percent):
+    regressions = []
+    rows = []
+    for key in sorted(set(baseline) | set(current)):
+        if key not in baseline:
+            rows.append((key, '-', format_score(current[key]), 'new'))
+            continue
+        if key not in current:
+            rows.append((key, format_score(baseline[key]), '-', 'removed'))
+            continue
+
+        before = baseline[key]['primaryMetric']
+        after = current[key]['primaryMetric']
+        change_percent = (after['score'] - before['score']) / before['score'] * 100
+        if not lower_is_better(current[key]):
+            change_percent = -change_percent
+        error = nan_to_zero(before['scoreError']) + nan_to_zero(after['scoreError'])
+        significant = abs(after['score'] - before['score']) > error
+
+        verdict = ''
+        if significant and change_percent > threshold_percent:
+            verdict = 'REGRESSION'
+            regressions.append(key)
+        elif significant and change_percent < -threshold_percent:
+            verdict = 'improved'
+        rows.append(
+            (
+                key, format_score(baseline[key]), format_score(current[key]),
+                f'{change_percent:+.1f}% {verdict}'.strip()))
+    return rows, regressions
+
+
+def nan_to_zero(value):
+    return 0 if value == 'NaN' or value != value else value
+
+
+def format_score(result):
+    metric = result['primaryMetric']
+    return f'{metric["score"]:.3f} {metric["scoreUnit"]}'
+
+
+def print_table(rows):
+    headers = ('Benchmark', 'Baseline', 'Current', 'Change (+ is worse)')
+    widths = [
+        max(len(row[column]) for row in rows + [headers])
+        for column in range(len(headers))
+    ]
+    for row in [headers] + rows:
+        sys.stdout.write(
+            '  '.join(cell.ljust(width) for cell, width in zip(row, widths)).rstrip() +
+            '\n')
+
+
+def main(args):
+    if len(args) not in (2, 3):
+        sys.stderr.write(__doc__)
+        sys.exit(2)
+    threshold_percent = float(args[2]) if len(args) == 3 else 10
+    rows, regressions = compare(
+        load_results(args[0]), load_results(args[1]), threshold_percent)
+    print_table(rows)
+    if regressions:
+        sys.stdout.write(
+            f'\n{len(regressions)} benchmark(s) regressed by more than '
+            f'{threshold_percent:g}%.\n')
+        sys.exit(1)
+
+
+if __name__ == '__main__':
+    main(sys.argv[1:])
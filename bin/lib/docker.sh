@@ -164,7 +164,8 @@ function docker::do_dockerhub_login() {
 # Arguments:
 #   The function takes optional params
 #   1. The port to connect the debugger to
-#   2. The command to run.
+#   2. The commands to run. Each argument is passed to sbt as one command, so a
+#      command with arguments, like "testOnly MyTest", must be a single argument.
 # If no command to run is passed sbt starts in interactive shell mode.
 # Globals:
 #   COMPOSE_PROJECT_NAME
@@ -175,5 +176,5 @@ function docker::dev_and_test_server_sbt_command() {
   local server_container_ip=$(docker inspect -f '{{range .NetworkSettings.Networks}}{{.IPAddress}}{{end}}' $server_container_name)
 
   # -Dsbt.offline tells sbt to run in "offline" mode and not re-download dependancies.
-  docker exec -it $server_container_name ./entrypoint.sh -jvm-debug "$server_container_ip:$1" -Dsbt.offline $2
+  docker exec -it $server_container_name ./entrypoint.sh -jvm-debug "$server_container_ip:$1" -Dsbt.offline "${@:2}"
 }
@@ -0,0 +1,54 @@
+package auth;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+import javax.inject.Singleton;
+
+/**
+ * Remembers which accounts were recently found to exist, so that {@link
+ * filters.ValidAccountFilter} doesn't look up the current user's account in the database on every
+ * request.
+ *
+ * <p>Only accounts that exist are remembered, since a profile whose account doesn't exist is logged
+ * out. Entries expire after a short time so that accounts deleted through another server are
+ * noticed. Code that deletes accounts or moves applicants between them invalidates the affected
+ * entries directly.
+ */
+@Singleton
+public final class AccountExistenceCache {
+
+  // How long an account is trusted to still exist after it was last found in the database.
+  private static final Duration EXPIRATION = Duration.ofSeconds(60);
+  // Bounds the memory used by the cache. Each entry is a boxed account ID.
+  private static final long MAXIMUM_SIZE = 100_000;
+
+  private final Cache<Long, Boolean> existingAccounts =
+      CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).expireAfterWrite(EXPIRATION).build();
+
+  /**
+   * Returns true if the account exists. The lookup is only called if the account hasn't been found
+   * to exist recently.
+   */
+  public boolean accountExists(long accountId, BooleanSupplier lookup) {
+    if (existingAccounts.getIfPresent(accountId) != null) {
+      return true;
+    }
+    boolean exists = lookup.getAsBoolean();
+    if (exists) {
+      existingAccounts.put(accountId, true);
+    }
+    return exists;
+  }
+
+  /** Forgets that the account exists, so the next check looks it up again. */
+  public void invalidate(long accountId) {
+    existingAccounts.invalidate(accountId);
+  }
+
+  /** Forgets every account, for example after the accounts table is cleared. */
+  public void invalidateAll() {
+    existingAccounts.invalidateAll();
+  }
+}
@@ -7,6 +7,7 @@ import models.Account;
 import models.Applicant;
 import org.pac4j.core.profile.CommonProfile;
 import repository.DatabaseExecutionContext;
+import services.BlockingJoins;
 
 /**
  * This class is specifically intended to be serialized, encrypted, and stored in the Play session
@@ -38,7 +39,8 @@ public class CiviFormProfileData extends CommonProfile {
     // We use this async only to make sure we run in the db execution context - this method cannot
     // be
     // asynchronous because the security code that executes it is entirely synchronous.
-    supplyAsync(
+    BlockingJoins.join(
+        supplyAsync(
             () -> {
               Account acc = new Account();
               acc.save();
@@ -49,7 +51,6 @@ public class CiviFormProfileData extends CommonProfile {
               setId(Preconditions.checkNotNull(acc.id).toString());
               return null;
             },
-            dbContext)
-        .join();
+            dbContext));
   }
 }
@@ -7,6 +7,7 @@ import models.Account;
 import models.Applicant;
 import org.pac4j.core.profile.UserProfile;
 import repository.UserRepository;
+import services.BlockingJoins;
 
 /** Helper class for common {@code UserProfile} merging logic. */
 public final class CiviFormProfileMerger {
@@ -56,14 +57,13 @@ public final class CiviFormProfileMerger {
   private CiviFormProfile mergeProfiles(
       Applicant applicantInDatabase, CiviFormProfile sessionGuestProfile) {
     // Merge guest applicant data into already existing account in database
-    Applicant guestApplicant = sessionGuestProfile.getApplicant().join();
+    Applicant guestApplicant = BlockingJoins.join(sessionGuestProfile.getApplicant());
     Account existingAccount = applicantInDatabase.getAccount();
     Applicant mergedApplicant =
-        applicantRepositoryProvider
-            .get()
-            .mergeApplicants(guestApplicant, applicantInDatabase, existingAccount)
-            .toCompletableFuture()
-            .join();
+        BlockingJoins.join(
+            applicantRepositoryProvider
+                .get()
+                .mergeApplicants(guestApplicant, applicantInDatabase, existingAccount));
     return profileFactory.wrap(mergedApplicant);
   }
 }
@@ -15,6 +15,7 @@ import play.libs.concurrent.HttpExecutionContext;
 import repository.DatabaseExecutionContext;
 import repository.UserRepository;
 import repository.VersionRepository;
+import services.BlockingJoins;
 import services.apikey.ApiKeyService;
 
 /**
@@ -62,15 +63,15 @@ public final class ProfileFactory {
   public CiviFormProfileData createNewAdmin(Optional<String> maybeAuthorityId) {
     CiviFormProfileData profileData = create(new Roles[] {Roles.ROLE_CIVIFORM_ADMIN});
 
-    wrapProfileData(profileData)
-        .getAccount()
-        .thenAccept(
-            account -> {
-              account.setGlobalAdmin(true);
-              maybeAuthorityId.ifPresent(account::setAuthorityId);
-              account.save();
-            })
-        .join();
+    BlockingJoins.join(
+        wrapProfileData(profileData)
+            .getAccount()
+            .thenAccept(
+                account -> {
+                  account.setGlobalAdmin(true);
+                  maybeAuthorityId.ifPresent(account::setAuthorityId);
+                  account.save();
+                }));
 
     return profileData;
   }
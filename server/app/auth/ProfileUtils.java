@@ -11,6 +11,7 @@ import org.pac4j.core.profile.BasicUserProfile;
 import org.pac4j.core.profile.ProfileManager;
 import org.pac4j.play.PlayWebContext;
 import play.mvc.Http;
+import services.BlockingJoins;
 
 // NON_ABSTRACT_CLASS_ALLOWS_SUBCLASSING ProfileUtils
 
@@ -85,7 +86,7 @@ public class ProfileUtils {
   /** Return true if the account referenced by the profile exists. */
   public boolean validCiviFormProfile(CiviFormProfile profile) {
     try {
-      profile.getAccount().join();
+      BlockingJoins.join(profile.getAccount());
       return true;
     } catch (CompletionException e) {
       if (e.getCause() instanceof AccountNonexistentException) {
@@ -24,6 +24,7 @@ import org.pac4j.oidc.profile.creator.OidcProfileCreator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import repository.UserRepository;
+import services.BlockingJoins;
 
 /**
  * This class ensures that the OidcProfileCreator that both the AD and IDCS clients use will
@@ -113,14 +114,14 @@ public abstract class OidcProfileAdapter extends OidcProfileCreator {
         getEmail(oidcProfile)
             .orElseThrow(
                 () -> new InvalidOidcProfileException("Unable to get email from profile."));
-    civiformProfile.setEmailAddress(emailAddress).join();
+    BlockingJoins.join(civiformProfile.setEmailAddress(emailAddress));
 
     String authorityId =
         getAuthorityId(oidcProfile)
             .orElseThrow(
                 () -> new InvalidOidcProfileException("Unable to get authority ID from profile."));
 
-    civiformProfile.setAuthorityId(authorityId).join();
+    BlockingJoins.join(civiformProfile.setAuthorityId(authorityId));
 
     civiformProfile.getProfileData().addAttribute(CommonProfileDefinition.EMAIL, emailAddress);
 
@@ -172,11 +173,8 @@ public abstract class OidcProfileAdapter extends OidcProfileCreator {
                 () -> new InvalidOidcProfileException("Unable to get authority ID from profile."));
 
     Optional<Applicant> applicantOpt =
-        applicantRepositoryProvider
-            .get()
-            .lookupApplicantByAuthorityId(authorityId)
-            .toCompletableFuture()
-            .join();
+        BlockingJoins.join(
+            applicantRepositoryProvider.get().lookupApplicantByAuthorityId(authorityId));
     if (applicantOpt.isPresent()) {
       logger.debug("Found user using authority ID: {}", authorityId);
       return applicantOpt;
@@ -186,11 +184,8 @@ public abstract class OidcProfileAdapter extends OidcProfileCreator {
     // authority ID and will be keyed on their email.
     String userEmail = profile.getAttribute(emailAttributeName(), String.class);
     logger.debug("Looking up user using email {}", userEmail);
-    return applicantRepositoryProvider
-        .get()
-        .lookupApplicantByEmail(userEmail)
-        .toCompletableFuture()
-        .join();
+    return BlockingJoins.join(
+        applicantRepositoryProvider.get().lookupApplicantByEmail(userEmail));
   }
 
   protected abstract void possiblyModifyConfigBasedOnCred(Credentials cred);
@@ -15,6 +15,7 @@ import org.pac4j.oidc.profile.OidcProfile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import repository.UserRepository;
+import services.BlockingJoins;
 
 /**
  * This class takes an existing CiviForm profile and augments it with the information from an AD
@@ -54,14 +55,14 @@ public class AdfsProfileAdapter extends OidcProfileAdapter {
   @Override
   protected void adaptForRole(CiviFormProfile profile, ImmutableSet<Roles> roles) {
     if (roles.contains(Roles.ROLE_CIVIFORM_ADMIN)) {
-      profile
-          .getAccount()
-          .thenAccept(
-              account -> {
-                account.setGlobalAdmin(true);
-                account.save();
-              })
-          .join();
+      BlockingJoins.join(
+          profile
+              .getAccount()
+              .thenAccept(
+                  account -> {
+                    account.setGlobalAdmin(true);
+                    account.save();
+                  }));
     }
   }
 
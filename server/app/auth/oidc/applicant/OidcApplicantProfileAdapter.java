@@ -20,6 +20,7 @@ import org.pac4j.oidc.client.OidcClient;
 import org.pac4j.oidc.config.OidcConfiguration;
 import org.pac4j.oidc.profile.OidcProfile;
 import repository.UserRepository;
+import services.BlockingJoins;
 
 /**
  * This class ensures that the OidcProfileCreator that both the AD and IDCS clients use will
@@ -80,7 +81,7 @@ public abstract class OidcApplicantProfileAdapter extends OidcProfileAdapter {
   }
 
   protected final boolean isTrustedIntermediary(CiviFormProfile profile) {
-    return profile.getAccount().join().getMemberOfGroup().isPresent();
+    return BlockingJoins.join(profile.getAccount()).getMemberOfGroup().isPresent();
   }
 
   @Override
@@ -109,23 +110,22 @@ public abstract class OidcApplicantProfileAdapter extends OidcProfileAdapter {
     final Optional<String> maybeName = getName(oidcProfile);
 
     if (maybeLocale.isPresent() || maybeName.isPresent()) {
-      civiformProfile
-          .getApplicant()
-          .thenApplyAsync(
-              applicant -> {
-                maybeLocale.ifPresent(
-                    locale ->
-                        applicant
-                            .getApplicantData()
-                            .setPreferredLocale(Locale.forLanguageTag(locale)));
-
-                maybeName.ifPresent(name -> applicant.getApplicantData().setUserName(name));
-
-                applicant.save();
-                return null;
-              })
-          .toCompletableFuture()
-          .join();
+      BlockingJoins.join(
+          civiformProfile
+              .getApplicant()
+              .thenApplyAsync(
+                  applicant -> {
+                    maybeLocale.ifPresent(
+                        locale ->
+                            applicant
+                                .getApplicantData()
+                                .setPreferredLocale(Locale.forLanguageTag(locale)));
+    
+                    maybeName.ifPresent(name -> applicant.getApplicantData().setUserName(name));
+    
+                    applicant.save();
+                    return null;
+                  }));
     }
 
     return super.mergeCiviFormProfile(civiformProfile, oidcProfile);
@@ -28,6 +28,7 @@ import org.pac4j.saml.profile.SAML2Profile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import repository.UserRepository;
+import services.BlockingJoins;
 
 public class SamlProfileAdapter extends AuthenticatorProfileCreator {
 
@@ -92,11 +93,8 @@ public class SamlProfileAdapter extends AuthenticatorProfileCreator {
             .orElseThrow(
                 () -> new InvalidSamlProfileException("Unable to get authority ID from profile."));
 
-    return applicantRepositoryProvider
-        .get()
-        .lookupApplicantByAuthorityId(authorityId)
-        .toCompletableFuture()
-        .join();
+    return BlockingJoins.join(
+        applicantRepositoryProvider.get().lookupApplicantByAuthorityId(authorityId));
   }
 
   protected Optional<String> getAuthorityId(SAML2Profile profile) {
@@ -134,7 +132,7 @@ public class SamlProfileAdapter extends AuthenticatorProfileCreator {
         getAuthorityId(saml2Profile)
             .orElseThrow(
                 () -> new InvalidSamlProfileException("Unable to get authority ID from profile"));
-    civiFormProfile.setAuthorityId(authorityId).join();
+    BlockingJoins.join(civiFormProfile.setAuthorityId(authorityId));
 
     final String locale = saml2Profile.getAttribute("locale", String.class);
     final boolean hasLocale = !Strings.isNullOrEmpty(locale);
@@ -148,30 +146,31 @@ public class SamlProfileAdapter extends AuthenticatorProfileCreator {
     final boolean hasLastName = !Strings.isNullOrEmpty(lastName);
 
     if (hasLocale || hasFirstName || hasLastName) {
-      civiFormProfile
-          .getApplicant()
-          .thenApplyAsync(
-              applicant -> {
-                if (hasLocale) {
-                  applicant.getApplicantData().setPreferredLocale(Locale.forLanguageTag(locale));
-                }
-                if (hasFirstName && hasLastName) {
-                  applicant
-                      .getApplicantData()
-                      .setUserName(String.format("%s %s", firstName, lastName));
-                } else if (hasFirstName) {
-                  applicant.getApplicantData().setUserName(firstName);
-                } else if (hasLastName) {
-                  applicant.getApplicantData().setUserName(lastName);
-                }
-                applicant.save();
-                return null;
-              })
-          .toCompletableFuture()
-          .join();
+      BlockingJoins.join(
+          civiFormProfile
+              .getApplicant()
+              .thenApplyAsync(
+                  applicant -> {
+                    if (hasLocale) {
+                      applicant
+                          .getApplicantData()
+                          .setPreferredLocale(Locale.forLanguageTag(locale));
+                    }
+                    if (hasFirstName && hasLastName) {
+                      applicant
+                          .getApplicantData()
+                          .setUserName(String.format("%s %s", firstName, lastName));
+                    } else if (hasFirstName) {
+                      applicant.getApplicantData().setUserName(firstName);
+                    } else if (hasLastName) {
+                      applicant.getApplicantData().setUserName(lastName);
+                    }
+                    applicant.save();
+                    return null;
+                  }));
     }
     String emailAddress = saml2Profile.getEmail();
-    civiFormProfile.setEmailAddress(emailAddress).join();
+    BlockingJoins.join(civiFormProfile.setEmailAddress(emailAddress));
 
     civiFormProfile.getProfileData().addAttribute(CommonProfileDefinition.EMAIL, emailAddress);
     // Meaning: whatever you signed in with most recently is the role you have.
@@ -196,7 +195,7 @@ public class SamlProfileAdapter extends AuthenticatorProfileCreator {
   }
 
   protected ImmutableSet<Roles> roles(CiviFormProfile profile) {
-    if (profile.getAccount().join().getMemberOfGroup().isPresent()) {
+    if (BlockingJoins.join(profile.getAccount()).getMemberOfGroup().isPresent()) {
       return ImmutableSet.of(Roles.ROLE_APPLICANT, Roles.ROLE_TI);
     }
     return ImmutableSet.of(Roles.ROLE_APPLICANT);
@@ -17,6 +17,7 @@ import play.libs.concurrent.HttpExecutionContext;
 import play.mvc.Http.Request;
 import play.mvc.Result;
 import repository.StoredFileRepository;
+import services.BlockingJoins;
 import services.cloud.StorageClient;
 import services.program.ProgramDefinition;
 import services.program.ProgramNotFoundException;
@@ -106,14 +107,14 @@ public class FileController extends CiviFormController {
     String decodedFileKey = URLDecoder.decode(fileKey, StandardCharsets.UTF_8);
 
     Optional<StoredFile> maybeFile =
-        storedFileRepository.lookupFile(decodedFileKey).toCompletableFuture().join();
+        BlockingJoins.join(storedFileRepository.lookupFile(decodedFileKey));
 
     if (maybeFile.isEmpty()) {
       return notFound();
     }
 
     Account adminAccount =
-        profileUtils.currentUserProfile(request).orElseThrow().getAccount().join();
+        BlockingJoins.join(profileUtils.currentUserProfile(request).orElseThrow().getAccount());
 
     if (!maybeFile.get().getAcls().hasProgramReadPermission(adminAccount)) {
       // If the request includes a program ID in the URL, try the legacy logic
@@ -137,7 +138,8 @@ public class FileController extends CiviFormController {
   private Result legacyAdminShow(Request request, long programId, String fileKey) {
     try {
       ProgramDefinition program = programService.getProgramDefinition(programId);
-      checkProgramAdminAuthorization(profileUtils, request, program.adminName()).join();
+      BlockingJoins.join(
+          checkProgramAdminAuthorization(profileUtils, request, program.adminName()));
       // Ensure the file being accessed indeed belongs to the program.
       if (!fileKey.contains(String.format("program-%d", programId))) {
         return notFound();
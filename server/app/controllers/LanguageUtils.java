@@ -6,6 +6,7 @@ import javax.inject.Inject;
 import models.Applicant;
 import play.i18n.Langs;
 import repository.UserRepository;
+import services.BlockingJoins;
 import services.LocalizedStrings;
 import services.applicant.ApplicantData;
 
@@ -28,7 +29,7 @@ public final class LanguageUtils {
         langs.availables().isEmpty()
             ? LocalizedStrings.DEFAULT_LOCALE
             : langs.availables().get(0).toLocale());
-    userRepository.updateApplicant(applicant).toCompletableFuture().join();
+    BlockingJoins.join(userRepository.updateApplicant(applicant));
     return applicant;
   }
 }
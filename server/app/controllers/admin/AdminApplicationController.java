@@ -6,6 +6,8 @@ import static views.admin.programs.ProgramApplicationView.NEW_STATUS;
 import static views.admin.programs.ProgramApplicationView.NOTE;
 import static views.admin.programs.ProgramApplicationView.SEND_EMAIL;
 
+import akka.stream.javadsl.Source;
+import akka.util.ByteString;
 import annotations.BindingAnnotations.Now;
 import auth.Authorizers;
 import auth.ProfileUtils;
@@ -34,6 +36,7 @@ import play.mvc.Http;
 import play.mvc.Result;
 import repository.SubmittedApplicationFilter;
 import repository.TimeFilter;
+import services.BlockingJoins;
 import services.DateConverter;
 import services.IdentifierBasedPaginationSpec;
 import services.PageNumberBasedPaginationSpec;
@@ -50,6 +53,7 @@ import services.applications.StatusEmailNotFoundException;
 import services.export.CsvExporterService;
 import services.export.JsonExporter;
 import services.export.PdfExporter;
+import services.export.PdfZipExporter;
 import services.program.ProgramDefinition;
 import services.program.ProgramNotFoundException;
 import services.program.ProgramService;
@@ -75,6 +79,7 @@ public final class AdminApplicationController extends CiviFormController {
   private final FormFactory formFactory;
   private final JsonExporter jsonExporter;
   private final PdfExporter pdfExporter;
+  private final PdfZipExporter pdfZipExporter;
   private final ProfileUtils profileUtils;
   private final Provider<LocalDateTime> nowProvider;
   private final MessagesApi messagesApi;
@@ -89,6 +94,7 @@ public final class AdminApplicationController extends CiviFormController {
       FormFactory formFactory,
       JsonExporter jsonExporter,
       PdfExporter pdfExporter,
+      PdfZipExporter pdfZipExporter,
       ProgramApplicationListView applicationListView,
       ProgramApplicationView applicationView,
       ProgramAdminApplicationService programAdminApplicationService,
@@ -108,12 +114,16 @@ public final class AdminApplicationController extends CiviFormController {
     this.formFactory = checkNotNull(formFactory);
     this.jsonExporter = checkNotNull(jsonExporter);
     this.pdfExporter = checkNotNull(pdfExporter);
+    this.pdfZipExporter = checkNotNull(pdfZipExporter);
     this.messagesApi = checkNotNull(messagesApi);
     this.dateConverter = checkNotNull(dateConverter);
     this.featureFlags = checkNotNull(featureFlags);
   }
 
-  /** Download a JSON file containing all applications to all versions of the specified program. */
+  /**
+   * Download a JSON file containing all applications to all versions of the specified program. The
+   * JSON is streamed to the client as it is generated rather than built in memory first.
+   */
   @Secure(authorizers = Authorizers.Labels.ANY_ADMIN)
   public Result downloadAllJson(
       Http.Request request,
@@ -128,7 +138,8 @@ public final class AdminApplicationController extends CiviFormController {
 
     try {
       program = programService.getProgramDefinition(programId);
-      checkProgramAdminAuthorization(profileUtils, request, program.adminName()).join();
+      BlockingJoins.join(
+          checkProgramAdminAuthorization(profileUtils, request, program.adminName()));
     } catch (CompletionException | NoSuchElementException e) {
       return unauthorized();
     }
@@ -149,17 +160,23 @@ public final class AdminApplicationController extends CiviFormController {
     }
 
     String filename = String.format("%s-%s.json", program.adminName(), nowProvider.get());
-    String json =
-        jsonExporter
-            .export(program, IdentifierBasedPaginationSpec.MAX_PAGE_SIZE_SPEC_LONG, filters)
-            .getLeft();
+    Source<ByteString, ?> json =
+        jsonExporter.streamPage(
+            program,
+            IdentifierBasedPaginationSpec.MAX_PAGE_SIZE_SPEC_LONG,
+            filters,
+            JsonExporter.PageEnvelope.NONE);
 
-    return ok(json)
+    return ok()
+        .chunked(json)
         .as(Http.MimeTypes.JSON)
         .withHeader("Content-Disposition", String.format("attachment; filename=\"%s\"", filename));
   }
 
-  /** Download a CSV file containing all applications to all versions of the specified program. */
+  /**
+   * Download a CSV file containing all applications to all versions of the specified program. The
+   * CSV is streamed to the client as it is generated rather than built in memory first.
+   */
   @Secure(authorizers = Authorizers.Labels.ANY_ADMIN)
   public Result downloadAll(
       Http.Request request,
@@ -186,10 +203,12 @@ public final class AdminApplicationController extends CiviFormController {
                 .build();
       }
       ProgramDefinition program = programService.getProgramDefinition(programId);
-      checkProgramAdminAuthorization(profileUtils, request, program.adminName()).join();
+      BlockingJoins.join(
+          checkProgramAdminAuthorization(profileUtils, request, program.adminName()));
       String filename = String.format("%s-%s.csv", program.adminName(), nowProvider.get());
-      String csv = exporterService.getProgramAllVersionsCsv(programId, filters);
-      return ok(csv)
+      Source<ByteString, ?> csv = exporterService.getProgramAllVersionsCsv(programId, filters);
+      return ok()
+          .chunked(csv)
           .as(Http.MimeTypes.BINARY)
           .withHeader(
               "Content-Disposition", String.format("attachment; filename=\"%s\"", filename));
@@ -198,6 +217,51 @@ public final class AdminApplicationController extends CiviFormController {
     }
   }
 
+  /**
+   * Download a ZIP file containing a PDF of each application to all versions of the specified
+   * program. The ZIP is streamed to the client as the PDFs are rendered rather than built in memory
+   * first.
+   */
+  @Secure(authorizers = Authorizers.Labels.ANY_ADMIN)
+  public Result downloadAllPdfs(
+      Http.Request request,
+      long programId,
+      Optional<String> search,
+      Optional<String> fromDate,
+      Optional<String> untilDate,
+      Optional<String> applicationStatus,
+      Optional<String> ignoreFilters)
+      throws ProgramNotFoundException {
+    boolean shouldApplyFilters = ignoreFilters.orElse("").isEmpty();
+    try {
+      SubmittedApplicationFilter filters = SubmittedApplicationFilter.EMPTY;
+      if (shouldApplyFilters) {
+        filters =
+            SubmittedApplicationFilter.builder()
+                .setSearchNameFragment(search)
+                .setSubmitTimeFilter(
+                    TimeFilter.builder()
+                        .setFromTime(parseDateFromQuery(dateConverter, fromDate))
+                        .setUntilTime(parseDateFromQuery(dateConverter, untilDate))
+                        .build())
+                .setApplicationStatus(applicationStatus)
+                .build();
+      }
+      ProgramDefinition program = programService.getProgramDefinition(programId);
+      BlockingJoins.join(
+          checkProgramAdminAuthorization(profileUtils, request, program.adminName()));
+      String filename = String.format("%s-%s.zip", program.adminName(), nowProvider.get());
+      Source<ByteString, ?> zip = pdfZipExporter.exportProgramApplications(programId, filters);
+      return ok()
+          .chunked(zip)
+          .as("application/zip")
+          .withHeader(
+              "Content-Disposition", String.format("attachment; filename=\"%s\"", filename));
+    } catch (CompletionException | NoSuchElementException e) {
+      return unauthorized();
+    }
+  }
+
   /**
    * Download a CSV file containing all applications to the specified program version. This was the
    * original behavior for the program admin CSV download but is currently unused as of 10/13/2021.
@@ -207,7 +271,8 @@ public final class AdminApplicationController extends CiviFormController {
       throws ProgramNotFoundException {
     try {
       ProgramDefinition program = programService.getProgramDefinition(programId);
-      checkProgramAdminAuthorization(profileUtils, request, program.adminName()).join();
+      BlockingJoins.join(
+          checkProgramAdminAuthorization(profileUtils, request, program.adminName()));
       String filename = String.format("%s-%s.csv", program.adminName(), nowProvider.get());
       String csv = exporterService.getProgramCsv(programId);
       return ok(csv)
@@ -240,7 +305,8 @@ public final class AdminApplicationController extends CiviFormController {
   /**
    * Download a CSV file containing demographics information of the current live version.
    * Demographics information is collected from answers to a collection of questions specially
-   * marked by CiviForm admins.
+   * marked by CiviForm admins. The CSV is streamed to the client as it is generated rather than
+   * built in memory first.
    */
   @Secure(authorizers = Authorizers.Labels.CIVIFORM_ADMIN)
   public Result downloadDemographics(
@@ -251,8 +317,9 @@ public final class AdminApplicationController extends CiviFormController {
             .setUntilTime(parseDateFromQuery(dateConverter, untilDate))
             .build();
     String filename = String.format("demographics-%s.csv", nowProvider.get());
-    String csv = exporterService.getDemographicsCsv(submitTimeFilter);
-    return ok(csv)
+    Source<ByteString, ?> csv = exporterService.getDemographicsCsv(submitTimeFilter);
+    return ok()
+        .chunked(csv)
         .as(Http.MimeTypes.BINARY)
         .withHeader("Content-Disposition", String.format("attachment; filename=\"%s\"", filename));
   }
@@ -263,7 +330,8 @@ public final class AdminApplicationController extends CiviFormController {
       throws ProgramNotFoundException {
     ProgramDefinition program = programService.getProgramDefinition(programId);
     try {
-      checkProgramAdminAuthorization(profileUtils, request, program.adminName()).join();
+      BlockingJoins.join(
+          checkProgramAdminAuthorization(profileUtils, request, program.adminName()));
     } catch (CompletionException | NoSuchElementException e) {
       return unauthorized();
     }
@@ -295,7 +363,7 @@ public final class AdminApplicationController extends CiviFormController {
     String programName = program.adminName();
 
     try {
-      checkProgramAdminAuthorization(profileUtils, request, programName).join();
+      BlockingJoins.join(checkProgramAdminAuthorization(profileUtils, request, programName));
     } catch (CompletionException | NoSuchElementException e) {
       return unauthorized();
     }
@@ -316,10 +384,7 @@ public final class AdminApplicationController extends CiviFormController {
             application.id);
 
     ReadOnlyApplicantProgramService roApplicantService =
-        applicantService
-            .getReadOnlyApplicantProgramService(application)
-            .toCompletableFuture()
-            .join();
+        BlockingJoins.join(applicantService.getReadOnlyApplicantProgramService(application));
     ImmutableList<Block> blocks = roApplicantService.getAllActiveBlocks();
     ImmutableList<AnswerData> answers = roApplicantService.getSummaryData();
     Optional<String> noteMaybe = programAdminApplicationService.getNote(application);
@@ -352,7 +417,7 @@ public final class AdminApplicationController extends CiviFormController {
     String programName = program.adminName();
 
     try {
-      checkProgramAdminAuthorization(profileUtils, request, programName).join();
+      BlockingJoins.join(checkProgramAdminAuthorization(profileUtils, request, programName));
     } catch (CompletionException | NoSuchElementException e) {
       return unauthorized();
     }
@@ -413,7 +478,7 @@ public final class AdminApplicationController extends CiviFormController {
             .setStatusText(newStatus)
             .setEmailSent(sendEmail)
             .build(),
-        profileUtils.currentUserProfile(request).get().getAccount().join());
+        BlockingJoins.join(profileUtils.currentUserProfile(request).get().getAccount()));
     // Only allow relative URLs to ensure that we redirect to the same domain.
     String redirectUrl = UrlUtils.checkIsRelativeUrl(maybeRedirectUri.orElse(""));
     return redirect(redirectUrl).flashing("success", "Application status updated");
@@ -433,7 +498,7 @@ public final class AdminApplicationController extends CiviFormController {
     String programName = program.adminName();
 
     try {
-      checkProgramAdminAuthorization(profileUtils, request, programName).join();
+      BlockingJoins.join(checkProgramAdminAuthorization(profileUtils, request, programName));
     } catch (CompletionException | NoSuchElementException e) {
       return unauthorized();
     }
@@ -459,7 +524,7 @@ public final class AdminApplicationController extends CiviFormController {
     programAdminApplicationService.setNote(
         application,
         ApplicationEventDetails.NoteEvent.create(note),
-        profileUtils.currentUserProfile(request).get().getAccount().join());
+        BlockingJoins.join(profileUtils.currentUserProfile(request).get().getAccount()));
 
     // Only allow relative URLs to ensure that we redirect to the same domain.
     String redirectUrl = UrlUtils.checkIsRelativeUrl(maybeRedirectUri.orElse(""));
@@ -504,7 +569,8 @@ public final class AdminApplicationController extends CiviFormController {
     final ProgramDefinition program;
     try {
       program = programService.getProgramDefinition(programId);
-      checkProgramAdminAuthorization(profileUtils, request, program.adminName()).join();
+      BlockingJoins.join(
+          checkProgramAdminAuthorization(profileUtils, request, program.adminName()));
     } catch (CompletionException | NoSuchElementException e) {
       return unauthorized();
     }
@@ -18,6 +18,7 @@ import play.data.Form;
 import play.data.FormFactory;
 import play.mvc.Http.Request;
 import play.mvc.Result;
+import services.BlockingJoins;
 import services.applicant.question.Scalar;
 import services.program.BlockDefinition;
 import services.program.EligibilityDefinition;
@@ -164,7 +165,7 @@ public class AdminProgramBlockPredicatesController extends CiviFormController {
     requestChecker.throwIfProgramNotDraft(programId);
 
     ReadOnlyQuestionService roQuestionService =
-        questionService.getReadOnlyQuestionService().toCompletableFuture().join();
+        BlockingJoins.join(questionService.getReadOnlyQuestionService());
 
     if (featureFlags.isPredicatesMultipleQuestionsEnabled(request)) {
       try {
@@ -395,7 +396,7 @@ public class AdminProgramBlockPredicatesController extends CiviFormController {
     requestChecker.throwIfProgramNotDraft(programId);
 
     ReadOnlyQuestionService roQuestionService =
-        questionService.getReadOnlyQuestionService().toCompletableFuture().join();
+        BlockingJoins.join(questionService.getReadOnlyQuestionService());
 
     if (featureFlags.isPredicatesMultipleQuestionsEnabled(request)) {
       try {
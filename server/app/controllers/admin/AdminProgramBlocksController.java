@@ -15,6 +15,7 @@ import play.data.Form;
 import play.data.FormFactory;
 import play.mvc.Http.Request;
 import play.mvc.Result;
+import services.BlockingJoins;
 import services.CiviFormError;
 import services.ErrorAnd;
 import services.program.BlockDefinition;
@@ -191,7 +192,7 @@ public final class AdminProgramBlocksController extends CiviFormController {
       BlockDefinition block,
       Optional<ToastMessage> message) {
     ReadOnlyQuestionService roQuestionService =
-        questionService.getReadOnlyQuestionService().toCompletableFuture().join();
+        BlockingJoins.join(questionService.getReadOnlyQuestionService());
 
     return ok(
         editView.render(
@@ -207,7 +208,7 @@ public final class AdminProgramBlocksController extends CiviFormController {
     try {
       BlockDefinition blockDefinition = program.getBlockDefinition(blockId);
       ReadOnlyQuestionService roQuestionService =
-          questionService.getReadOnlyQuestionService().toCompletableFuture().join();
+          BlockingJoins.join(questionService.getReadOnlyQuestionService());
 
       return ok(
           editView.render(
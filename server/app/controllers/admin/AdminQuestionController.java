@@ -21,6 +21,7 @@ import play.data.FormFactory;
 import play.libs.concurrent.HttpExecutionContext;
 import play.mvc.Http.Request;
 import play.mvc.Result;
+import services.BlockingJoins;
 import services.CiviFormError;
 import services.ErrorAnd;
 import services.LocalizedStrings;
@@ -117,11 +118,7 @@ public final class AdminQuestionController extends CiviFormController {
     }
 
     ImmutableList<EnumeratorQuestionDefinition> enumeratorQuestionDefinitions =
-        service
-            .getReadOnlyQuestionService()
-            .toCompletableFuture()
-            .join()
-            .getUpToDateEnumeratorQuestions();
+        BlockingJoins.join(service.getReadOnlyQuestionService()).getUpToDateEnumeratorQuestions();
 
     try {
       return ok(
@@ -156,7 +153,7 @@ public final class AdminQuestionController extends CiviFormController {
     if (result.isError()) {
       ToastMessage errorMessage = new ToastMessage(joinErrors(result.getErrors()), ERROR);
       ReadOnlyQuestionService roService =
-          service.getReadOnlyQuestionService().toCompletableFuture().join();
+          BlockingJoins.join(service.getReadOnlyQuestionService());
       ImmutableList<EnumeratorQuestionDefinition> enumeratorQuestionDefinitions =
           roService.getUpToDateEnumeratorQuestions();
       return ok(
@@ -266,7 +263,7 @@ public final class AdminQuestionController extends CiviFormController {
     }
 
     ReadOnlyQuestionService roService =
-        service.getReadOnlyQuestionService().toCompletableFuture().join();
+        BlockingJoins.join(service.getReadOnlyQuestionService());
 
     Optional<QuestionDefinition> maybeExisting;
     try {
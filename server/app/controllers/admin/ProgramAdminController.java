@@ -11,6 +11,7 @@ import javax.inject.Inject;
 import org.pac4j.play.java.Secure;
 import play.mvc.Http;
 import play.mvc.Result;
+import services.BlockingJoins;
 import services.program.ActiveAndDraftPrograms;
 import services.program.ProgramService;
 import views.admin.programs.ProgramAdministratorProgramListView;
@@ -41,7 +42,7 @@ public class ProgramAdminController extends CiviFormController {
     }
 
     ImmutableList<String> administeredPrograms =
-        profile.get().getAccount().join().getAdministeredProgramNames();
+        BlockingJoins.join(profile.get().getAccount()).getAdministeredProgramNames();
     ActiveAndDraftPrograms activeAndDraftPrograms = this.programService.getActiveAndDraftPrograms();
 
     return ok(listView.render(activeAndDraftPrograms, administeredPrograms, profile));
@@ -21,6 +21,7 @@ import play.data.FormFactory;
 import play.mvc.Http;
 import play.mvc.Result;
 import repository.ProgramRepository;
+import services.BlockingJoins;
 import services.CiviFormError;
 import services.program.ProgramNotFoundException;
 import services.role.RoleService;
@@ -93,7 +94,7 @@ public final class ProgramAdminManagementController {
   private Result loadProgram(Http.Request request, long programId, Optional<ToastMessage> message) {
     try {
       Optional<Program> program =
-          programRepository.lookupProgram(programId).toCompletableFuture().join();
+          BlockingJoins.join(programRepository.lookupProgram(programId));
 
       if (program.isEmpty()) {
         return notFound(String.format("Program with ID %s was not found", programId));
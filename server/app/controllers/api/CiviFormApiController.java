@@ -6,10 +6,9 @@ import auth.AccountNonexistentException;
 import auth.ApiKeyGrants;
 import auth.ProfileUtils;
 import auth.UnauthorizedApiRequestException;
-import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import controllers.CiviFormController;
 import java.io.IOException;
-import java.io.StringWriter;
 import java.util.Optional;
 import javax.inject.Inject;
 import models.ApiKey;
@@ -52,30 +51,27 @@ public class CiviFormApiController extends CiviFormController {
     }
   }
 
-  protected String getResponseJson(
-      String payload, Optional<ApiPaginationTokenPayload> paginationTokenPayload) {
-    var writer = new StringWriter();
-
-    try {
-      var jsonGenerator = new JsonFactory().createGenerator(writer);
-      jsonGenerator.writeStartObject();
-      jsonGenerator.writeFieldName("payload");
-      jsonGenerator.writeRawValue(payload);
-
-      jsonGenerator.writeFieldName("nextPageToken");
-      if (paginationTokenPayload.isPresent()) {
-        jsonGenerator.writeString(
-            apiPaginationTokenSerializer.serialize(paginationTokenPayload.get()));
-      } else {
-        jsonGenerator.writeNull();
-      }
+  /**
+   * Writes the start of a paginated response, up to where its payload goes. The payload is written
+   * next, followed by {@link #writeResponseEnd}.
+   */
+  protected void writeResponseStart(JsonGenerator jsonGenerator) throws IOException {
+    jsonGenerator.writeStartObject();
+    jsonGenerator.writeFieldName("payload");
+  }
 
-      jsonGenerator.writeEndObject();
-      jsonGenerator.close();
-    } catch (IOException e) {
-      throw new RuntimeException(e);
+  /** Writes the end of a paginated response, after its payload. */
+  protected void writeResponseEnd(
+      JsonGenerator jsonGenerator, Optional<ApiPaginationTokenPayload> paginationTokenPayload)
+      throws IOException {
+    jsonGenerator.writeFieldName("nextPageToken");
+    if (paginationTokenPayload.isPresent()) {
+      jsonGenerator.writeString(
+          apiPaginationTokenSerializer.serialize(paginationTokenPayload.get()));
+    } else {
+      jsonGenerator.writeNull();
     }
 
-    return writer.toString();
+    jsonGenerator.writeEndObject();
   }
 }
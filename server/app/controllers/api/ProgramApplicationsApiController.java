@@ -2,11 +2,16 @@ package controllers.api;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import akka.stream.Materializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.util.ByteString;
 import auth.ProfileUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Iterables;
 import com.google.inject.Inject;
 import com.typesafe.config.Config;
+import java.io.IOException;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.util.Map;
@@ -14,8 +19,6 @@ import java.util.Optional;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import javax.annotation.Nullable;
-import models.Application;
-import play.libs.F;
 import play.libs.concurrent.HttpExecutionContext;
 import play.mvc.Http;
 import play.mvc.Result;
@@ -23,7 +26,6 @@ import repository.SubmittedApplicationFilter;
 import repository.TimeFilter;
 import services.DateConverter;
 import services.IdentifierBasedPaginationSpec;
-import services.PaginationResult;
 import services.export.JsonExporter;
 import services.program.ProgramNotFoundException;
 import services.program.ProgramService;
@@ -38,6 +40,7 @@ public final class ProgramApplicationsApiController extends CiviFormApiControlle
   private final ProgramService programService;
   private final HttpExecutionContext httpContext;
   private final JsonExporter jsonExporter;
+  private final Materializer materializer;
   private final int maxPageSize;
 
   @Inject
@@ -48,12 +51,14 @@ public final class ProgramApplicationsApiController extends CiviFormApiControlle
       JsonExporter jsonExporter,
       HttpExecutionContext httpContext,
       ProgramService programService,
+      Materializer materializer,
       Config config) {
     super(apiPaginationTokenSerializer, profileUtils);
     this.dateConverter = checkNotNull(dateConverter);
     this.httpContext = checkNotNull(httpContext);
     this.jsonExporter = checkNotNull(jsonExporter);
     this.programService = checkNotNull(programService);
+    this.materializer = checkNotNull(materializer);
     this.maxPageSize = checkNotNull(config).getInt("api_applications_list_max_page_size");
   }
 
@@ -98,31 +103,49 @@ public final class ProgramApplicationsApiController extends CiviFormApiControlle
 
     return programService
         .getActiveProgramDefinitionAsync(programSlug)
-        .thenApplyAsync(
+        .thenComposeAsync(
             programDefinition -> {
-              PaginationResult<Application> paginationResult;
-
-              // By now the program specified by the request has already been found and
-              // retrieved, so if a ProgramNotFoundException occurs in the following code
-              // it's due to an error in the server code, not a bad request.
-              try {
-                paginationResult =
-                    programService.getSubmittedProgramApplicationsAllVersions(
-                        programDefinition.id(), F.Either.Left(paginationSpec), filters);
-              } catch (ProgramNotFoundException e) {
-                throw new RuntimeException(e);
-              }
-
-              String applicationsJson =
-                  jsonExporter.export(programDefinition, paginationResult).getLeft();
-
-              String responseJson =
-                  getResponseJson(
-                      applicationsJson,
-                      getNextPageToken(
-                          paginationResult, programSlug, pageSize, filters.submitTimeFilter()));
-
-              return ok(responseJson).as("application/json");
+              // The applications are streamed as they're loaded, so large pages don't have to fit
+              // in memory and the response starts before the whole page has been loaded.
+              Source<ByteString, ?> responseJson =
+                  jsonExporter.streamPage(
+                      programDefinition,
+                      paginationSpec,
+                      filters,
+                      new JsonExporter.PageEnvelope() {
+                        @Override
+                        public void writeStart(JsonGenerator generator) throws IOException {
+                          writeResponseStart(generator);
+                        }
+
+                        @Override
+                        public void writeEnd(
+                            JsonGenerator generator, Optional<Long> nextPageOffsetIdentifier)
+                            throws IOException {
+                          writeResponseEnd(
+                              generator,
+                              nextPageOffsetIdentifier.map(
+                                  offsetIdentifier ->
+                                      getNextPageToken(
+                                          offsetIdentifier,
+                                          programSlug,
+                                          pageSize,
+                                          filters.submitTimeFilter())));
+                        }
+                      });
+
+              // Wait for the first chunk before responding, so a failure to load the page still
+              // gets an error status. A failure after that can only truncate the response body,
+              // since the status has already been sent.
+              return responseJson
+                  .prefixAndTail(1)
+                  .runWith(Sink.head(), materializer)
+                  .thenApply(
+                      firstChunkAndRest ->
+                          ok().chunked(
+                                  Source.from(firstChunkAndRest.first())
+                                      .concat(firstChunkAndRest.second()))
+                              .as("application/json"));
             },
             httpContext.current())
         .exceptionally(
@@ -138,18 +161,10 @@ public final class ProgramApplicationsApiController extends CiviFormApiControlle
             });
   }
 
-  private Optional<ApiPaginationTokenPayload> getNextPageToken(
-      PaginationResult<Application> paginationResult,
-      String programSlug,
-      int pageSize,
-      TimeFilter timeFilter) {
-    if (!paginationResult.hasMorePages()) {
-      return Optional.empty();
-    }
-
+  private ApiPaginationTokenPayload getNextPageToken(
+      long offsetIdentifier, String programSlug, int pageSize, TimeFilter timeFilter) {
     var pageSpec =
-        new ApiPaginationTokenPayload.PageSpec(
-            Iterables.getLast(paginationResult.getPageContents()).id.toString(), pageSize);
+        new ApiPaginationTokenPayload.PageSpec(Long.toString(offsetIdentifier), pageSize);
 
     ImmutableMap.Builder<String, String> requestSpec = ImmutableMap.builder();
     requestSpec.put(PROGRAM_SLUG_PARAM_NAME, programSlug);
@@ -166,7 +181,7 @@ public final class ProgramApplicationsApiController extends CiviFormApiControlle
                 requestSpec.put(
                     UNTIL_DATE_PARAM_NAME, dateConverter.formatIso8601Date(untilInstant)));
 
-    return Optional.of(new ApiPaginationTokenPayload(pageSpec, requestSpec.build()));
+    return new ApiPaginationTokenPayload(pageSpec, requestSpec.build());
   }
 
   private int resolvePageSize(
@@ -2,6 +2,7 @@ package controllers.dev;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import auth.AccountExistenceCache;
 import com.google.common.collect.ImmutableList;
 import com.google.inject.Inject;
 import com.typesafe.config.Config;
@@ -16,6 +17,7 @@ import models.Version;
 import play.Environment;
 import play.mvc.Http.Request;
 import play.mvc.Result;
+import services.BlockingJoins;
 import services.CiviFormError;
 import services.ErrorAnd;
 import services.LocalizedStrings;
@@ -56,6 +58,7 @@ public class DatabaseSeedController extends DevController {
   private final Database database;
   private final QuestionService questionService;
   private final ProgramService programService;
+  private final AccountExistenceCache accountExistenceCache;
 
   @Inject
   public DatabaseSeedController(
@@ -63,6 +66,7 @@ public class DatabaseSeedController extends DevController {
       DatabaseSeedView view,
       QuestionService questionService,
       ProgramService programService,
+      AccountExistenceCache accountExistenceCache,
       Environment environment,
       Config configuration) {
     super(environment, configuration);
@@ -71,6 +75,7 @@ public class DatabaseSeedController extends DevController {
     this.database = DB.getDefault();
     this.questionService = checkNotNull(questionService);
     this.programService = checkNotNull(programService);
+    this.accountExistenceCache = checkNotNull(accountExistenceCache);
   }
 
   /**
@@ -83,7 +88,7 @@ public class DatabaseSeedController extends DevController {
     }
     ActiveAndDraftPrograms activeAndDraftPrograms = programService.getActiveAndDraftPrograms();
     ImmutableList<QuestionDefinition> questionDefinitions =
-        questionService.getReadOnlyQuestionService().toCompletableFuture().join().getAllQuestions();
+        BlockingJoins.join(questionService.getReadOnlyQuestionService()).getAllQuestions();
     return ok(
         view.render(
             request, activeAndDraftPrograms, questionDefinitions, request.flash().get("success")));
@@ -445,6 +450,7 @@ public class DatabaseSeedController extends DevController {
 
   private void resetTables() {
     Models.truncate(database);
+    accountExistenceCache.invalidateAll();
     Version newActiveVersion = new Version(LifecycleStage.ACTIVE);
     newActiveVersion.save();
   }
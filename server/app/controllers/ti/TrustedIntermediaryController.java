@@ -15,7 +15,6 @@ import forms.UpdateApplicantDobForm;
 import java.util.List;
 import java.util.Optional;
 import javax.inject.Inject;
-import models.Account;
 import models.TrustedIntermediaryGroup;
 import org.pac4j.play.java.Secure;
 import play.data.Form;
@@ -26,7 +25,8 @@ import play.mvc.Http;
 import play.mvc.Result;
 import repository.SearchParameters;
 import repository.UserRepository;
-import services.PaginationInfo;
+import services.BlockingJoins;
+import services.PageNumberBasedPaginationSpec;
 import services.applicant.exception.ApplicantNotFoundException;
 import services.ti.TrustedIntermediarySearchResult;
 import services.ti.TrustedIntermediaryService;
@@ -83,22 +83,34 @@ public final class TrustedIntermediaryController {
     }
     SearchParameters searchParameters =
         SearchParameters.builder().setNameQuery(nameQuery).setDateQuery(dateQuery).build();
+    int pageNumber = Math.max(page.get(), 1);
     TrustedIntermediarySearchResult trustedIntermediarySearchResult =
-        tiService.getManagedAccounts(searchParameters, trustedIntermediaryGroup.get());
+        tiService.getManagedAccounts(
+            searchParameters,
+            trustedIntermediaryGroup.get(),
+            new PageNumberBasedPaginationSpec(PAGE_SIZE, pageNumber));
     if (!trustedIntermediarySearchResult.isSuccessful()) {
       throw new BadRequestException(trustedIntermediarySearchResult.getErrorMessage().get());
     }
-    PaginationInfo<Account> pageInfo =
-        PaginationInfo.paginate(
-            trustedIntermediarySearchResult.getAccounts().get(), PAGE_SIZE, page.get());
+    if (pageNumber > trustedIntermediarySearchResult.getNumPages()) {
+      // Past the last page, such as after clients were removed. Show the last page instead.
+      pageNumber = trustedIntermediarySearchResult.getNumPages();
+      trustedIntermediarySearchResult =
+          tiService.getManagedAccounts(
+              searchParameters,
+              trustedIntermediaryGroup.get(),
+              new PageNumberBasedPaginationSpec(PAGE_SIZE, pageNumber));
+    }
 
     return ok(
         tiDashboardView.render(
             trustedIntermediaryGroup.get(),
-            civiformProfile.get().getApplicant().join().getApplicantData().getApplicantName(),
-            pageInfo.getPageItems(),
-            pageInfo.getPageCount(),
-            pageInfo.getPage(),
+            BlockingJoins.join(civiformProfile.get().getApplicant())
+                .getApplicantData()
+                .getApplicantName(),
+            trustedIntermediarySearchResult.getAccounts().get(),
+            trustedIntermediarySearchResult.getNumPages(),
+            pageNumber,
             searchParameters,
             request,
             messagesApi.preferred(request)));
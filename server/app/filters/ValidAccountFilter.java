@@ -2,6 +2,7 @@ package filters;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import auth.AccountExistenceCache;
 import auth.CiviFormProfile;
 import auth.ProfileUtils;
 import java.util.Optional;
@@ -17,10 +18,13 @@ import play.mvc.Results;
  */
 public class ValidAccountFilter extends EssentialFilter {
   private final ProfileUtils profileUtils;
+  private final AccountExistenceCache accountExistenceCache;
 
   @Inject
-  public ValidAccountFilter(ProfileUtils profileUtils) {
+  public ValidAccountFilter(
+      ProfileUtils profileUtils, AccountExistenceCache accountExistenceCache) {
     this.profileUtils = checkNotNull(profileUtils);
+    this.accountExistenceCache = checkNotNull(accountExistenceCache);
   }
 
   @Override
@@ -28,7 +32,7 @@ public class ValidAccountFilter extends EssentialFilter {
     return EssentialAction.of(
         request -> {
           Optional<CiviFormProfile> profile = profileUtils.currentUserProfile(request);
-          if (profile.isPresent() && !profileUtils.validCiviFormProfile(profile.get())) {
+          if (profile.isPresent() && !isValid(profile.get())) {
             // The cookie is present but the profile is not valid, redirect to logout and clear the
             // cookie.
             if (!allowedEndpoint(request.uri())) {
@@ -54,6 +58,15 @@ public class ValidAccountFilter extends EssentialFilter {
         });
   }
 
+  /**
+   * Return true if the account referenced by the profile exists. This runs for every request, so
+   * accounts that were recently found are not looked up again.
+   */
+  private boolean isValid(CiviFormProfile profile) {
+    return accountExistenceCache.accountExists(
+        Long.parseLong(profile.getId()), () -> profileUtils.validCiviFormProfile(profile));
+  }
+
   /**
    * Return true if the endpoint does not require a profile. Logout url is necessary here to avoid
    * infinite redirect.
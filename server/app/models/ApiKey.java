@@ -196,10 +196,4 @@ public class ApiKey extends BaseModel {
   public Long getCallCount() {
     return callCount;
   }
-
-  /** Increment the number of requests that have been attempted using this API key. */
-  public ApiKey incrementCallCount() {
-    this.callCount++;
-    return this;
-  }
 }
@@ -4,6 +4,7 @@ import com.google.common.collect.ImmutableList;
 import io.ebean.annotation.DbJson;
 import io.ebean.annotation.WhenCreated;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
@@ -14,6 +15,7 @@ import javax.persistence.PrePersist;
 import javax.persistence.PreUpdate;
 import javax.persistence.Table;
 import play.data.validation.Constraints;
+import services.WellKnownPaths;
 import services.applicant.ApplicantData;
 
 /**
@@ -41,6 +43,10 @@ public class Applicant extends BaseModel {
 
   private String preferredLocale;
 
+  // Copied from the applicant data so that trusted intermediaries can search their clients.
+  private String applicantName;
+  private LocalDate dateOfBirth;
+
   @Constraints.Required @DbJson private String object;
   @ManyToOne private Account account;
 
@@ -79,6 +85,19 @@ public class Applicant extends BaseModel {
             ? getApplicantData().preferredLocale().toLanguageTag()
             : null;
     this.object = objectAsJsonString();
+    this.applicantName = searchableApplicantName(getApplicantData()).orElse(null);
+    this.dateOfBirth = getApplicantData().getDateOfBirth().orElse(null);
+  }
+
+  /**
+   * Returns the applicant's name the way {@link ApplicantData#getApplicantName} formats it, or
+   * empty if there is no first name.
+   */
+  private static Optional<String> searchableApplicantName(ApplicantData applicantData) {
+    Optional<String> firstName = applicantData.readString(WellKnownPaths.APPLICANT_FIRST_NAME);
+    Optional<String> lastName = applicantData.readString(WellKnownPaths.APPLICANT_LAST_NAME);
+    return firstName.map(
+        first -> lastName.map(last -> String.format("%s, %s", last, first)).orElse(first));
   }
 
   private String objectAsJsonString() {
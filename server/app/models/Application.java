@@ -13,6 +13,7 @@ import javax.persistence.OneToMany;
 import javax.persistence.OrderBy;
 import javax.persistence.Table;
 import play.data.validation.Constraints;
+import services.WellKnownPaths;
 import services.applicant.ApplicantData;
 
 /**
@@ -50,6 +51,7 @@ public class Application extends BaseModel {
   private String preferredLocale;
   private String submitterEmail;
   private String latestStatus;
+  private String applicantNameSearch;
 
   public Application(Applicant applicant, Program program, LifecycleStage lifecycleStage) {
     this.applicant = applicant;
@@ -95,9 +97,27 @@ public class Application extends BaseModel {
     this.preferredLocale =
         data.hasPreferredLocale() ? data.preferredLocale().toLanguageTag() : null;
     this.object = data.asJsonString();
+    this.applicantNameSearch = nameSearchTerms(data);
     return this;
   }
 
+  /**
+   * Returns the applicant's name as "first last", "last first" and "last, first" on separate lines,
+   * in lower case, for searching submitted applications by name. Returns null if the first or last
+   * name is missing.
+   */
+  private static String nameSearchTerms(ApplicantData data) {
+    Optional<String> firstName = data.readString(WellKnownPaths.APPLICANT_FIRST_NAME);
+    Optional<String> lastName = data.readString(WellKnownPaths.APPLICANT_LAST_NAME);
+    if (firstName.isEmpty() || lastName.isEmpty()) {
+      return null;
+    }
+    String first = firstName.get();
+    String last = lastName.get();
+    return String.join("\n", first + " " + last, last + " " + first, last + ", " + first)
+        .toLowerCase(Locale.ROOT);
+  }
+
   public List<ApplicationEvent> getApplicationEvents() {
     return applicationEvents;
   }
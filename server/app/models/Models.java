@@ -14,7 +14,9 @@ public final class Models {
           Applicant.class,
           Application.class,
           ApplicationEvent.class,
+          OutboundEmail.class,
           Program.class,
+          ProgramColumnSchema.class,
           Question.class,
           StoredFile.class,
           TrustedIntermediaryGroup.class,
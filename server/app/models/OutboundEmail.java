@@ -0,0 +1,105 @@
+package models;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import io.ebean.annotation.DbArray;
+import io.ebean.annotation.WhenCreated;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import play.data.validation.Constraints;
+
+/**
+ * An EBean mapped class that records an email waiting to be sent, or that has been sent.
+ *
+ * <p>Emails are sent by {@link services.cloud.aws.SimpleEmailDispatcher} once their {@code
+ * nextAttemptTime} is reached. When sending fails, a failure message is recorded on the {@code
+ * OutboundEmail}'s {@code errorMessage}, its {@code remainingAttempts} count is decremented, and
+ * the next attempt is pushed back. Once an email is sent its {@code sentTime} is set.
+ */
+@Entity
+@Table(name = "outbound_emails")
+public final class OutboundEmail extends BaseModel {
+
+  public static final int MAX_ATTEMPTS = 5;
+
+  @DbArray private List<String> toAddresses = new ArrayList<>();
+  @Constraints.Required private String subject;
+  @Constraints.Required private String body;
+
+  @WhenCreated private Instant createTime;
+
+  @Constraints.Required private Instant nextAttemptTime;
+  @Constraints.Required private int remainingAttempts;
+
+  private Instant sentTime;
+
+  private String errorMessage;
+
+  public OutboundEmail(
+      ImmutableList<String> toAddresses, String subject, String body, Instant nextAttemptTime) {
+    this.toAddresses = new ArrayList<>(Preconditions.checkNotNull(toAddresses));
+    this.subject = Preconditions.checkNotNull(subject);
+    this.body = Preconditions.checkNotNull(body);
+    this.nextAttemptTime = Preconditions.checkNotNull(nextAttemptTime);
+    this.remainingAttempts = MAX_ATTEMPTS;
+  }
+
+  public ImmutableList<String> getToAddresses() {
+    return ImmutableList.copyOf(toAddresses);
+  }
+
+  public String getSubject() {
+    return subject;
+  }
+
+  public String getBody() {
+    return body;
+  }
+
+  public Instant getCreateTime() {
+    return createTime;
+  }
+
+  public Instant getNextAttemptTime() {
+    return nextAttemptTime;
+  }
+
+  public OutboundEmail setNextAttemptTime(Instant time) {
+    this.nextAttemptTime = time;
+    return this;
+  }
+
+  public int getRemainingAttempts() {
+    return remainingAttempts;
+  }
+
+  public OutboundEmail decrementRemainingAttempts() {
+    this.remainingAttempts--;
+    return this;
+  }
+
+  public Optional<Instant> getSentTime() {
+    return Optional.ofNullable(sentTime);
+  }
+
+  public OutboundEmail setSentTime(Instant time) {
+    this.sentTime = time;
+    return this;
+  }
+
+  public Optional<String> getErrorMessage() {
+    return Optional.ofNullable(errorMessage);
+  }
+
+  public OutboundEmail appendErrorMessage(String newMessage) {
+    this.errorMessage =
+        this.errorMessage == null
+            ? newMessage
+            : String.format("%s\nEND_ERROR\n\n%s", this.errorMessage, newMessage);
+    return this;
+  }
+}
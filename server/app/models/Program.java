@@ -23,6 +23,7 @@ import javax.persistence.PostPersist;
 import javax.persistence.PostUpdate;
 import javax.persistence.PreUpdate;
 import javax.persistence.Table;
+import modules.MainModule;
 import play.data.validation.Constraints;
 import services.LocalizedStrings;
 import services.program.BlockDefinition;
@@ -130,6 +131,7 @@ public class Program extends BaseModel {
     this.blockDefinitions = definition.blockDefinitions();
     this.statusDefinitions = definition.statusDefinitions();
     this.displayMode = definition.displayMode().getValue();
+    this.slug = definition.slug();
 
     orderBlockDefinitionsBeforeUpdate();
 
@@ -159,6 +161,7 @@ public class Program extends BaseModel {
     this.displayMode = displayMode;
     this.blockDefinitions = blockDefinitions;
     this.statusDefinitions = new StatusDefinitions();
+    this.slug = MainModule.SLUGIFIER.slugify(adminName);
     this.versions.add(associatedVersion);
   }
 
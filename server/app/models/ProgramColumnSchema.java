@@ -0,0 +1,77 @@
+package models;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import io.ebean.annotation.DbJsonB;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import services.Path;
+
+/**
+ * An EBean mapped class that indexes the shape of the applications submitted to a single program
+ * version. For each enumerator question, it records the largest number of repeated entities any
+ * submitted application has, keyed by the contextualized path to the repeated entity list.
+ *
+ * <p>Rows are only written through {@link repository.ProgramColumnSchemaRepository}, which merges
+ * new counts into the stored ones with an atomic upsert.
+ *
+ * <p>A row is backfilled once it accounts for the applications that were submitted before the row
+ * existed. Rows that are not backfilled only account for applications submitted since.
+ */
+@Entity
+@Table(name = "program_column_schemas")
+public class ProgramColumnSchema extends BaseModel {
+  private static final long serialVersionUID = 1L;
+
+  private static final ObjectMapper mapper = new ObjectMapper();
+  private static final TypeReference<Map<String, Integer>> CARDINALITIES_TYPE =
+      new TypeReference<>() {};
+
+  private long programId;
+  @DbJsonB private String enumeratorCardinalities;
+  private boolean backfilled;
+
+  public long getProgramId() {
+    return programId;
+  }
+
+  public ImmutableMap<Path, Integer> getEnumeratorCardinalities() {
+    return parseEnumeratorCardinalities(enumeratorCardinalities);
+  }
+
+  public boolean isBackfilled() {
+    return backfilled;
+  }
+
+  /** Serializes enumerator cardinalities to the JSON stored in the database. */
+  public static String serializeEnumeratorCardinalities(
+      ImmutableMap<Path, Integer> cardinalities) {
+    ImmutableMap<String, Integer> byPathString =
+        cardinalities.entrySet().stream()
+            .collect(
+                ImmutableMap.toImmutableMap(
+                    entry -> entry.getKey().toString(), Map.Entry::getValue));
+    try {
+      return mapper.writeValueAsString(byPathString);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static ImmutableMap<Path, Integer> parseEnumeratorCardinalities(String json) {
+    if (json == null) {
+      return ImmutableMap.of();
+    }
+    try {
+      return mapper.readValue(json, CARDINALITIES_TYPE).entrySet().stream()
+          .collect(
+              ImmutableMap.toImmutableMap(
+                  entry -> Path.create(entry.getKey()), Map.Entry::getValue));
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -8,9 +8,13 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.persistence.Entity;
 import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
 import javax.persistence.Table;
 import play.data.validation.Constraints;
 import services.program.ProgramDefinition;
@@ -32,6 +36,12 @@ import services.question.types.QuestionDefinition;
 @Table(name = "versions")
 public final class Version extends BaseModel {
 
+  /**
+   * Incremented whenever this server inserts, updates or deletes any version, so that in-memory
+   * state derived from versions can tell that it needs to be reloaded.
+   */
+  private static final AtomicLong modificationCount = new AtomicLong();
+
   @Constraints.Required private LifecycleStage lifecycleStage;
 
   @ManyToMany(mappedBy = "versions")
@@ -63,6 +73,18 @@ public final class Version extends BaseModel {
     this.lifecycleStage = lifecycleStage;
   }
 
+  /** Returns the number of times this server has modified any version. */
+  public static long getModificationCount() {
+    return modificationCount.get();
+  }
+
+  @PostPersist
+  @PostUpdate
+  @PostRemove
+  public void incrementModificationCount() {
+    modificationCount.incrementAndGet();
+  }
+
   public Version addProgram(Program program) {
     this.programs.add(program);
     return this;
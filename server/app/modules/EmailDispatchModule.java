@@ -0,0 +1,71 @@
+package modules;
+
+import akka.actor.ActorSystem;
+import akka.actor.Cancellable;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.AbstractModule;
+import com.google.inject.Inject;
+import com.typesafe.config.Config;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import play.inject.ApplicationLifecycle;
+import scala.concurrent.ExecutionContext;
+import services.cloud.aws.SimpleEmailDispatcher;
+
+/**
+ * Binds the {@link EmailDispatchScheduler} as an eager singleton, which causes queued emails to be
+ * sent, and old ones deleted, periodically from server start time.
+ */
+public final class EmailDispatchModule extends AbstractModule {
+
+  @Override
+  protected void configure() {
+    bind(EmailDispatchScheduler.class).asEagerSingleton();
+  }
+
+  public static final class EmailDispatchScheduler {
+
+    /** How often finished emails older than {@code email_retention_days} are deleted. */
+    private static final Duration PURGE_INTERVAL = Duration.ofHours(1);
+
+    @Inject
+    public EmailDispatchScheduler(
+        ActorSystem actorSystem,
+        ApplicationLifecycle appLifecycle,
+        Config config,
+        SimpleEmailDispatcher dispatcher) {
+      Duration pollInterval =
+          Duration.ofSeconds(config.getLong("email_dispatch_poll_interval_seconds"));
+      // Polls wait for SES while a batch is sent, so they run on their own thread rather than
+      // holding one of the database threads for as long as a backlog takes to send.
+      ExecutorService dispatchExecutor =
+          Executors.newSingleThreadExecutor(
+              new ThreadFactoryBuilder()
+                  .setNameFormat("email-dispatch-%d")
+                  .setDaemon(true)
+                  .build());
+      ExecutionContext executionContext = ExecutionContext.fromExecutorService(dispatchExecutor);
+      // A fixed delay means a poll never starts while the previous one is still sending. Akka
+      // cancels the schedule if a run throws, so the dispatcher catches and logs its failures.
+      Cancellable scheduledDispatch =
+          actorSystem
+              .scheduler()
+              .scheduleWithFixedDelay(
+                  pollInterval, pollInterval, dispatcher::dispatchDueEmails, executionContext);
+      Cancellable scheduledPurge =
+          actorSystem
+              .scheduler()
+              .scheduleWithFixedDelay(
+                  pollInterval, PURGE_INTERVAL, dispatcher::purgeExpiredEmails, executionContext);
+      appLifecycle.addStopHook(
+          () -> {
+            scheduledDispatch.cancel();
+            scheduledPurge.cancel();
+            dispatchExecutor.shutdown();
+            return CompletableFuture.completedFuture(null);
+          });
+    }
+  }
+}
@@ -15,6 +15,7 @@ import java.time.ZoneId;
 import play.i18n.Lang;
 import play.i18n.Messages;
 import play.i18n.MessagesApi;
+import repository.DatabasePoolMetrics;
 import services.program.ProgramService;
 import services.program.ProgramServiceImpl;
 
@@ -33,6 +34,7 @@ public class MainModule extends AbstractModule {
   @Override
   public void configure() {
     bind(ProgramService.class).to(ProgramServiceImpl.class);
+    bind(DatabasePoolMetrics.class).asEagerSingleton();
   }
 
   @Provides
@@ -7,12 +7,14 @@ import com.google.common.collect.ImmutableList;
 import io.ebean.DB;
 import io.ebean.Database;
 import io.ebean.PagedList;
+import io.ebean.Transaction;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import javax.inject.Inject;
 import models.ApiKey;
 import services.PageNumberBasedPaginationSpec;
 import services.PaginationResult;
+import services.apikey.ApiKeyUsage;
 
 /**
  * Provides an asynchronous API for persistence and query of {@link ApiKey} instances. Uses {@code
@@ -49,14 +51,26 @@ public final class ApiKeyRepository {
         ImmutableList.copyOf(pagedList.getList()));
   }
 
-  /** Increment an API key's call count and set its last call IP address to the one provided. */
-  public void recordApiKeyUsage(String apiKeyId, String remoteAddress) {
-    ApiKey apiKey = database.find(ApiKey.class).where().eq("key_id", apiKeyId).findOne();
-
-    apiKey.incrementCallCount();
-    apiKey.setLastCallIpAddress(remoteAddress);
-
-    apiKey.save();
+  /**
+   * Adds each usage's calls to its API key's call count and sets the key's last call IP address, in
+   * one batched transaction. The counts are incremented by the database so concurrent updates are
+   * not lost.
+   */
+  public void incrementApiKeyUsage(ImmutableList<ApiKeyUsage> usages) {
+    try (Transaction transaction = database.beginTransaction()) {
+      transaction.setBatchMode(true);
+      for (ApiKeyUsage usage : usages) {
+        database
+            .sqlUpdate(
+                "UPDATE api_keys SET call_count = call_count + ?, last_call_ip_address = ?"
+                    + " WHERE key_id = ?")
+            .setParameter(1, usage.callCount())
+            .setParameter(2, usage.lastCallIpAddress())
+            .setParameter(3, usage.keyId())
+            .execute();
+      }
+      transaction.commit();
+    }
   }
 
   /** Insert a new {@link ApiKey} record asynchronously. */
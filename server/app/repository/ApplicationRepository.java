@@ -3,11 +3,16 @@ package repository;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 
+import akka.NotUsed;
+import akka.stream.javadsl.Source;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import io.ebean.DB;
 import io.ebean.Database;
 import io.ebean.ExpressionList;
+import io.ebean.Query;
+import io.ebean.QueryIterator;
+import io.ebean.Transaction;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
@@ -28,7 +33,11 @@ import services.program.ProgramNotFoundException;
  * other EBean models or asynchronous handling.
  */
 public final class ApplicationRepository {
+  /** The number of rows read from the database at a time by {@link #streamApplications}. */
+  private static final int CURSOR_FETCH_SIZE = 100;
+
   private final ProgramRepository programRepository;
+  private final ProgramColumnSchemaRepository programColumnSchemaRepository;
   private final UserRepository userRepository;
   private final Database database;
   private final DatabaseExecutionContext executionContext;
@@ -37,9 +46,11 @@ public final class ApplicationRepository {
   @Inject
   public ApplicationRepository(
       ProgramRepository programRepository,
+      ProgramColumnSchemaRepository programColumnSchemaRepository,
       UserRepository userRepository,
       DatabaseExecutionContext executionContext) {
     this.programRepository = checkNotNull(programRepository);
+    this.programColumnSchemaRepository = checkNotNull(programColumnSchemaRepository);
     this.userRepository = checkNotNull(userRepository);
     this.database = DB.getDefault();
     this.executionContext = checkNotNull(executionContext);
@@ -81,6 +92,13 @@ public final class ApplicationRepository {
 
   private Application submitApplicationInternal(
       Applicant applicant, Program program, Optional<String> tiSubmitterEmail) {
+    return QueryTimings.time(
+        "ApplicationRepository.submitApplication",
+        () -> submitApplicationTransaction(applicant, program, tiSubmitterEmail));
+  }
+
+  private Application submitApplicationTransaction(
+      Applicant applicant, Program program, Optional<String> tiSubmitterEmail) {
     database.beginTransaction();
     try {
       List<Application> oldApplications =
@@ -112,6 +130,8 @@ public final class ApplicationRepository {
         application.setSubmitterEmail(tiSubmitterEmail.get());
       }
       application.save();
+      programColumnSchemaRepository.recordSubmittedApplicantData(
+          program.id, applicant.getApplicantData());
 
       for (Application app : oldApplications) {
         if (application.id.equals(app.id)
@@ -155,15 +175,29 @@ public final class ApplicationRepository {
   }
 
   /**
-   * Returns all applications submitted within the provided time range. Results are returned in the
+   * Returns a {@link Source} of all applications submitted within the provided time range, in the
    * order that the applications were created.
+   *
+   * <p>The applications are read from a database cursor {@link #CURSOR_FETCH_SIZE} rows at a time
+   * as the source is pulled, so only a few of them are held in memory at once. The cursor holds a
+   * connection and a read-only transaction open until the source completes or is cancelled. The
+   * source reads from the database, so it is run on Akka's blocking IO dispatcher when
+   * materialized.
    */
-  public ImmutableList<Application> getApplications(TimeFilter submitTimeFilter) {
+  public Source<Application, NotUsed> streamApplications(TimeFilter submitTimeFilter) {
+    return Source.unfoldResource(
+        () -> new ApplicationCursor(submitTimeFilter),
+        ApplicationCursor::next,
+        ApplicationCursor::close);
+  }
+
+  private ExpressionList<Application> applicationsQuery(TimeFilter submitTimeFilter) {
     ExpressionList<Application> query =
         database
             .find(Application.class)
             .fetch("program")
             .fetch("applicant.account")
+            .fetch("applicant.account.managedByGroup", "name")
             .orderBy("id")
             .where();
     if (submitTimeFilter.fromTime().isPresent()) {
@@ -172,7 +206,7 @@ public final class ApplicationRepository {
     if (submitTimeFilter.untilTime().isPresent()) {
       query = query.where().lt("submit_time", submitTimeFilter.untilTime().get());
     }
-    return ImmutableList.copyOf(query.findList());
+    return query;
   }
 
   // Need to transmit both arguments to submitApplication through the CompletionStage pipeline.
@@ -188,6 +222,13 @@ public final class ApplicationRepository {
   }
 
   private Application createOrUpdateDraftApplicationInternal(Applicant applicant, Program program) {
+    return QueryTimings.time(
+        "ApplicationRepository.createOrUpdateDraft",
+        () -> createOrUpdateDraftApplicationTransaction(applicant, program));
+  }
+
+  private Application createOrUpdateDraftApplicationTransaction(
+      Applicant applicant, Program program) {
     database.beginTransaction();
     try {
       Optional<Application> existingDraft =
@@ -231,7 +272,10 @@ public final class ApplicationRepository {
 
   public CompletionStage<Optional<Application>> getApplication(long applicationId) {
     return supplyAsync(
-        () -> database.find(Application.class).setId(applicationId).findOneOrEmpty(),
+        () ->
+            QueryTimings.time(
+                "ApplicationRepository.getApplication",
+                () -> database.find(Application.class).setId(applicationId).findOneOrEmpty()),
         executionContext.current());
   }
 
@@ -244,19 +288,61 @@ public final class ApplicationRepository {
       long applicantId, ImmutableSet<LifecycleStage> stages) {
     return supplyAsync(
         () -> {
-          return database
-              .find(Application.class)
-              .where()
-              .eq("applicant.id", applicantId)
-              .isIn("lifecycle_stage", stages)
-              .query()
-              // Eagerly fetch the program in a SQL join.
-              .fetch("program")
-              .fetch("applicationEvents")
-              .findSet()
-              .stream()
-              .collect(ImmutableSet.toImmutableSet());
+          return QueryTimings.time(
+              "ApplicationRepository.getApplicationsForApplicant",
+              () ->
+                  database
+                      .find(Application.class)
+                      .where()
+                      .eq("applicant.id", applicantId)
+                      .isIn("lifecycle_stage", stages)
+                      .query()
+                      // Eagerly fetch the program in a SQL join.
+                      .fetch("program")
+                      .fetch("applicationEvents")
+                      .findSet()
+                      .stream()
+                      .collect(ImmutableSet.toImmutableSet()));
         },
         executionContext.current());
   }
+
+  /** Reads the applications for {@link #streamApplications} from a database cursor. */
+  private final class ApplicationCursor implements AutoCloseable {
+    private final Transaction transaction;
+    private final QueryIterator<Application> applications;
+
+    ApplicationCursor(TimeFilter submitTimeFilter) {
+      // The Postgres driver ignores the fetch size, and reads the whole result set into memory,
+      // unless autocommit is off. Queries outside a transaction run in autocommit mode, so the
+      // cursor is read in an explicit transaction, which Ebean runs with autocommit off.
+      transaction = database.createTransaction();
+      try {
+        transaction.setReadOnly(true);
+        Query<Application> query =
+            applicationsQuery(submitTimeFilter)
+                .query()
+                .setBufferFetchSizeHint(CURSOR_FETCH_SIZE)
+                .usingTransaction(transaction);
+        applications =
+            QueryTimings.time("ApplicationRepository.streamApplications", query::findIterate);
+      } catch (RuntimeException e) {
+        transaction.end();
+        throw e;
+      }
+    }
+
+    Optional<Application> next() {
+      return applications.hasNext() ? Optional.of(applications.next()) : Optional.empty();
+    }
+
+    @Override
+    public void close() {
+      try {
+        applications.close();
+      } finally {
+        transaction.end();
+      }
+    }
+  }
 }
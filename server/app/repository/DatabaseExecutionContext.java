@@ -3,15 +3,111 @@ package repository;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import akka.actor.ActorSystem;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.typesafe.config.Config;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import play.inject.ApplicationLifecycle;
 import play.libs.concurrent.CustomExecutionContext;
+import play.libs.concurrent.HttpExecution;
 
-/** Custom execution context wired to "database.dispatcher" thread pool */
+/**
+ * Custom execution context for database work.
+ *
+ * <p>By default work runs on the "database.dispatcher" thread pool. When {@code
+ * database_execution_mode} is "bounded" it instead runs on a {@link SemaphoreBoundedExecutor}
+ * that runs as many tasks at once as there are database connections, and queues the rest.
+ *
+ * <p>In either mode, the number of queued and running tasks and the time tasks spend queued are
+ * exported to Prometheus so the modes can be compared under the same load.
+ */
 @Singleton
 public class DatabaseExecutionContext extends CustomExecutionContext {
+
+  private static final Gauge QUEUED_TASKS =
+      Gauge.build()
+          .name("civiform_database_executor_queued_tasks")
+          .help("Database tasks waiting to be run.")
+          .register();
+
+  private static final Gauge IN_FLIGHT_TASKS =
+      Gauge.build()
+          .name("civiform_database_executor_in_flight_tasks")
+          .help("Database tasks currently running.")
+          .register();
+
+  private static final Histogram QUEUE_WAIT_SECONDS =
+      Histogram.build()
+          .name("civiform_database_executor_queue_wait_seconds")
+          .help("Time database tasks spent waiting to be run.")
+          .buckets(0.0001, 0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1, 5)
+          .register();
+
+  private final Optional<SemaphoreBoundedExecutor> boundedExecutor;
+
   @Inject
-  public DatabaseExecutionContext(ActorSystem actorSystem) {
+  public DatabaseExecutionContext(
+      ActorSystem actorSystem, Config config, ApplicationLifecycle appLifecycle) {
     super(checkNotNull(actorSystem), "database.dispatcher");
+
+    String mode = checkNotNull(config).getString("database_execution_mode");
+    switch (mode) {
+      case "dispatcher":
+        this.boundedExecutor = Optional.empty();
+        break;
+      case "bounded":
+        SemaphoreBoundedExecutor executor =
+            new SemaphoreBoundedExecutor(
+                config.getInt("fixedConnectionPool"),
+                new ThreadFactoryBuilder()
+                    .setNameFormat("database-executor-%d")
+                    .setDaemon(true)
+                    .build());
+        checkNotNull(appLifecycle)
+            .addStopHook(
+                () -> {
+                  executor.shutdown();
+                  return CompletableFuture.completedFuture(null);
+                });
+        this.boundedExecutor = Optional.of(executor);
+        break;
+      default:
+        throw new IllegalArgumentException(
+            String.format("Unknown database_execution_mode \"%s\"", mode));
+    }
+  }
+
+  /** Like {@link CustomExecutionContext#current}, but runs tasks through {@link #execute}. */
+  @Override
+  public Executor current() {
+    return HttpExecution.fromThread((Executor) this);
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    long queuedNanos = System.nanoTime();
+    QUEUED_TASKS.inc();
+    Runnable instrumentedTask =
+        () -> {
+          QUEUED_TASKS.dec();
+          QUEUE_WAIT_SECONDS.observe((System.nanoTime() - queuedNanos) / 1e9);
+          IN_FLIGHT_TASKS.inc();
+          try {
+            task.run();
+          } finally {
+            IN_FLIGHT_TASKS.dec();
+          }
+        };
+
+    if (boundedExecutor.isPresent()) {
+      boundedExecutor.get().execute(instrumentedTask);
+    } else {
+      super.execute(instrumentedTask);
+    }
   }
 }
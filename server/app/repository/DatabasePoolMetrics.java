@@ -0,0 +1,39 @@
+package repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.prometheus.PrometheusHistogramMetricsTrackerFactory;
+import java.sql.SQLException;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import play.db.Database;
+
+/**
+ * Exports metrics for the default database's HikariCP connection pool to Prometheus. These include
+ * how long it takes to acquire a connection ({@code hikaricp_connection_acquired_nanos}), how long
+ * connections are held, and the numbers of active, idle and pending connections.
+ */
+@Singleton
+public final class DatabasePoolMetrics {
+
+  private static final Logger logger = LoggerFactory.getLogger(DatabasePoolMetrics.class);
+
+  @Inject
+  public DatabasePoolMetrics(Database database) {
+    DataSource dataSource = database.getDataSource();
+    try {
+      if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+        logger.warn("The database isn't pooled by HikariCP, so pool metrics aren't exported");
+        return;
+      }
+      dataSource
+          .unwrap(HikariDataSource.class)
+          .setMetricsTrackerFactory(new PrometheusHistogramMetricsTrackerFactory());
+    } catch (SQLException | IllegalStateException e) {
+      // The pool only accepts a metrics tracker once.
+      logger.warn("Unable to export database pool metrics", e);
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package repository;
+
+import com.google.common.collect.ImmutableList;
+import io.ebean.DB;
+import io.ebean.Database;
+import io.ebean.Transaction;
+import java.time.Instant;
+import javax.inject.Inject;
+import models.OutboundEmail;
+
+/**
+ * Provides a synchronous API for persistence and query of {@link OutboundEmail} instances. Emails
+ * are queued from request threads and sent in the background, so queuing an email only costs a
+ * single insert.
+ */
+public final class OutboundEmailRepository {
+  private final Database database;
+
+  @Inject
+  public OutboundEmailRepository() {
+    this.database = DB.getDefault();
+  }
+
+  /** Inserts an email to be sent once its next attempt time is reached. */
+  public OutboundEmail insert(OutboundEmail email) {
+    database.insert(email);
+    return email;
+  }
+
+  /**
+   * Claims up to {@code limit} emails that are due to be sent at {@code now}, oldest first, by
+   * moving their next attempt time to {@code leaseExpiration}. Claimed emails won't be returned
+   * again until the lease expires, so emails claimed by a server that stops before sending them are
+   * eventually sent by another.
+   *
+   * <p>Rows claimed concurrently by another server are skipped rather than waited for.
+   */
+  public ImmutableList<OutboundEmail> claimDueEmails(
+      int limit, Instant now, Instant leaseExpiration) {
+    try (Transaction transaction = database.beginTransaction()) {
+      ImmutableList<OutboundEmail> emails =
+          ImmutableList.copyOf(
+              database
+                  .find(OutboundEmail.class)
+                  .where()
+                  .isNull("sentTime")
+                  .gt("remainingAttempts", 0)
+                  .le("nextAttemptTime", now)
+                  .orderBy("nextAttemptTime")
+                  .setMaxRows(limit)
+                  .forUpdateSkipLocked()
+                  .findList());
+      emails.forEach(email -> email.setNextAttemptTime(leaseExpiration));
+      database.updateAll(emails);
+      transaction.commit();
+      return emails;
+    }
+  }
+
+  /**
+   * Deletes the emails that were sent, or that ran out of attempts, before {@code cutoff}, and
+   * returns how many were deleted. Emails still waiting to be sent are kept however old they are.
+   */
+  public int deleteFinishedBefore(Instant cutoff) {
+    return database
+        .find(OutboundEmail.class)
+        .where()
+        .or()
+        .lt("sentTime", cutoff)
+        .and()
+        .isNull("sentTime")
+        .le("remainingAttempts", 0)
+        .lt("nextAttemptTime", cutoff)
+        .endAnd()
+        .endOr()
+        .delete();
+  }
+
+  /** Saves the outcome of sending each email in one batched transaction. */
+  public void updateAll(ImmutableList<OutboundEmail> emails) {
+    try (Transaction transaction = database.beginTransaction()) {
+      transaction.setBatchMode(true);
+      database.updateAll(emails);
+      transaction.commit();
+    }
+  }
+}
@@ -0,0 +1,176 @@
+package repository;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import io.ebean.DB;
+import io.ebean.Database;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.inject.Inject;
+import models.Application;
+import models.LifecycleStage;
+import models.ProgramColumnSchema;
+import services.Path;
+import services.applicant.ApplicantData;
+
+/**
+ * ProgramColumnSchemaRepository maintains the {@link ProgramColumnSchema} index, which lets
+ * application exports size their repeated entity columns without reading every application.
+ */
+public final class ProgramColumnSchemaRepository {
+
+  /**
+   * Merges the provided cardinalities into the stored ones, keeping the larger count for each
+   * enumerator path. Concurrent merges for the same program are serialized by the row lock taken
+   * by the upsert, so no count is lost.
+   */
+  private static final String MERGE_ENUMERATOR_CARDINALITIES_SQL =
+      "INSERT INTO program_column_schemas (program_id, enumerator_cardinalities, backfilled) "
+          + "VALUES (?, CAST(? AS jsonb), ?) "
+          + "ON CONFLICT (program_id) DO UPDATE SET "
+          + "enumerator_cardinalities = ("
+          + "  SELECT COALESCE(jsonb_object_agg(path, max_entity_count), CAST('{}' AS jsonb)) "
+          + "  FROM ("
+          + "    SELECT path, MAX(CAST(entity_count AS integer)) AS max_entity_count "
+          + "    FROM ("
+          + "      SELECT * FROM jsonb_each_text(program_column_schemas.enumerator_cardinalities) "
+          + "      UNION ALL "
+          + "      SELECT * FROM jsonb_each_text(EXCLUDED.enumerator_cardinalities)"
+          + "    ) AS counts(path, entity_count) "
+          + "    GROUP BY path"
+          + "  ) AS max_counts"
+          + "), "
+          + "backfilled = program_column_schemas.backfilled OR EXCLUDED.backfilled";
+
+  /** The number of applications read at a time by {@link #backfillEnumeratorCardinalities}. */
+  private static final int BACKFILL_PAGE_SIZE = 500;
+
+  private final Database database;
+
+  @Inject
+  public ProgramColumnSchemaRepository() {
+    this.database = DB.getDefault();
+  }
+
+  /**
+   * Records the repeated entity counts of an application being submitted to the program. This
+   * participates in the caller's transaction, if there is one.
+   *
+   * <p>The index is only written when the application has more repeated entities for some
+   * enumerator than any application recorded before it. The counts stop growing quickly for a
+   * program, so most submissions only read the index.
+   */
+  public void recordSubmittedApplicantData(long programId, ApplicantData applicantData) {
+    ImmutableMap<Path, Integer> cardinalities = applicantData.getRepeatedEntityCounts();
+    if (cardinalities.isEmpty()) {
+      return;
+    }
+
+    Optional<ProgramColumnSchema> existing =
+        database
+            .find(ProgramColumnSchema.class)
+            .where()
+            .eq("program_id", programId)
+            .findOneOrEmpty();
+    if (existing.isPresent()
+        && !exceedsRecorded(cardinalities, existing.get().getEnumeratorCardinalities())) {
+      return;
+    }
+    mergeEnumeratorCardinalities(programId, cardinalities, /* backfilled= */ false);
+  }
+
+  /**
+   * Returns the recorded enumerator cardinalities for each of the programs whose index has been
+   * backfilled. Programs without a backfilled index are absent from the result.
+   */
+  public ImmutableMap<Long, ImmutableMap<Path, Integer>> getBackfilledEnumeratorCardinalities(
+      ImmutableSet<Long> programIds) {
+    if (programIds.isEmpty()) {
+      return ImmutableMap.of();
+    }
+    return database
+        .find(ProgramColumnSchema.class)
+        .where()
+        .in("program_id", programIds)
+        .eq("backfilled", true)
+        .findList()
+        .stream()
+        .collect(
+            ImmutableMap.toImmutableMap(
+                ProgramColumnSchema::getProgramId,
+                ProgramColumnSchema::getEnumeratorCardinalities));
+  }
+
+  /**
+   * Merges the provided cardinalities into the index for the program, keeping the larger count for
+   * each enumerator path.
+   *
+   * @param backfilled true if the cardinalities account for every application submitted to the
+   *     program so far. Once an index is backfilled it stays backfilled.
+   */
+  public void mergeEnumeratorCardinalities(
+      long programId, ImmutableMap<Path, Integer> cardinalities, boolean backfilled) {
+    database
+        .sqlUpdate(MERGE_ENUMERATOR_CARDINALITIES_SQL)
+        .setParameter(1, programId)
+        .setParameter(2, ProgramColumnSchema.serializeEnumeratorCardinalities(cardinalities))
+        .setParameter(3, backfilled)
+        .execute();
+  }
+
+  /**
+   * Counts the repeated entities of every application submitted to the program and merges them
+   * into the index, marking it backfilled. Returns the counts.
+   *
+   * <p>Applications are read {@link #BACKFILL_PAGE_SIZE} at a time using keyset pagination on the
+   * application ID, and only the largest count for each enumerator path is kept between pages, so
+   * memory use doesn't grow with the number of applications.
+   */
+  public ImmutableMap<Path, Integer> backfillEnumeratorCardinalities(long programId) {
+    return backfillEnumeratorCardinalities(programId, BACKFILL_PAGE_SIZE);
+  }
+
+  @VisibleForTesting
+  ImmutableMap<Path, Integer> backfillEnumeratorCardinalities(long programId, int pageSize) {
+    Map<Path, Integer> cardinalities = new HashMap<>();
+    long lastApplicationId = 0;
+    List<Application> page;
+    do {
+      page =
+          database
+              .find(Application.class)
+              .select("object, preferredLocale")
+              .where()
+              .eq("program.id", programId)
+              .in("lifecycle_stage", LifecycleStage.ACTIVE, LifecycleStage.OBSOLETE)
+              .gt("id", lastApplicationId)
+              .orderBy("id")
+              .setMaxRows(pageSize)
+              .findList();
+      for (Application application : page) {
+        application
+            .getApplicantData()
+            .getRepeatedEntityCounts()
+            .forEach((path, count) -> cardinalities.merge(path, count, Math::max));
+        lastApplicationId = application.id;
+      }
+    } while (page.size() == pageSize);
+
+    ImmutableMap<Path, Integer> backfilled = ImmutableMap.copyOf(cardinalities);
+    mergeEnumeratorCardinalities(programId, backfilled, /* backfilled= */ true);
+    return backfilled;
+  }
+
+  private static boolean exceedsRecorded(
+      ImmutableMap<Path, Integer> cardinalities, ImmutableMap<Path, Integer> recorded) {
+    for (Map.Entry<Path, Integer> entry : cardinalities.entrySet()) {
+      if (entry.getValue() > recorded.getOrDefault(entry.getKey(), 0)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
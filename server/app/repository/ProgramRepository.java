@@ -6,18 +6,20 @@ import static java.util.concurrent.CompletableFuture.supplyAsync;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.typesafe.config.Config;
 import io.ebean.DB;
 import io.ebean.Database;
 import io.ebean.ExpressionList;
-import io.ebean.PagedList;
 import io.ebean.Query;
 import io.ebean.SqlRow;
 import io.ebean.Transaction;
 import io.ebean.TxScope;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 import javax.inject.Inject;
 import javax.inject.Provider;
 import models.Account;
@@ -27,12 +29,12 @@ import models.Program;
 import models.Version;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import play.cache.NamedCache;
+import play.cache.SyncCacheApi;
 import play.libs.F;
 import services.IdentifierBasedPaginationSpec;
 import services.PageNumberBasedPaginationSpec;
 import services.PaginationResult;
-import services.Path;
-import services.WellKnownPaths;
 import services.program.ProgramDefinition;
 import services.program.ProgramNotFoundException;
 
@@ -46,18 +48,36 @@ public final class ProgramRepository {
   private final Database database;
   private final DatabaseExecutionContext executionContext;
   private final Provider<VersionRepository> versionRepository;
+  private final SyncCacheApi programDefCache;
+  private final boolean programCacheEnabled;
+  private final int programCacheExpirationSeconds;
+  private final SyncCacheApi applicationCountCache;
+  private final int applicationCountCacheSeconds;
 
   @Inject
   public ProgramRepository(
-      DatabaseExecutionContext executionContext, Provider<VersionRepository> versionRepository) {
+      DatabaseExecutionContext executionContext,
+      Provider<VersionRepository> versionRepository,
+      Config config,
+      @NamedCache("full-program-definition") SyncCacheApi programDefCache,
+      @NamedCache("application-counts") SyncCacheApi applicationCountCache) {
     this.database = DB.getDefault();
     this.executionContext = checkNotNull(executionContext);
     this.versionRepository = checkNotNull(versionRepository);
+    this.programDefCache = checkNotNull(programDefCache);
+    this.programCacheEnabled = checkNotNull(config).getBoolean("program_cache_enabled");
+    this.programCacheExpirationSeconds = config.getInt("program_cache_expiration_seconds");
+    this.applicationCountCache = checkNotNull(applicationCountCache);
+    this.applicationCountCacheSeconds = config.getInt("application_count_cache_seconds");
   }
 
   public CompletionStage<Optional<Program>> lookupProgram(long id) {
     return supplyAsync(
-        () -> database.find(Program.class).where().eq("id", id).findOneOrEmpty(), executionContext);
+        () ->
+            QueryTimings.time(
+                "ProgramRepository.lookupProgram",
+                () -> database.find(Program.class).where().eq("id", id).findOneOrEmpty()),
+        executionContext);
   }
 
   public Program insertProgramSync(Program program) {
@@ -68,13 +88,59 @@ public final class ProgramRepository {
   }
 
   public Program updateProgramSync(Program program) {
-    database.update(program);
+    QueryTimings.timeUpdate("ProgramRepository.updateProgram", () -> database.update(program));
+    if (programCacheEnabled) {
+      programDefCache.remove(fullProgramDefinitionCacheKey(program.id));
+    }
     return program;
   }
 
+  /**
+   * Returns the fully synced and ordered {@link ProgramDefinition} for {@code programId} if it was
+   * cached while the current ACTIVE {@link Version} was live.
+   */
+  public Optional<ProgramDefinition> getFullProgramDefinitionFromCache(long programId) {
+    if (!programCacheEnabled) {
+      return Optional.empty();
+    }
+    return programDefCache.getOptional(fullProgramDefinitionCacheKey(programId));
+  }
+
+  /**
+   * Caches the fully synced and ordered {@code programDefinition} of {@code program}, keyed by the
+   * program ID and the current ACTIVE {@link Version} so that publishing a new version implicitly
+   * invalidates every entry. Entries expire {@code program_cache_expiration_seconds} after being
+   * cached, so the entries of earlier versions don't stay in memory.
+   *
+   * <p>Programs in the DRAFT version are edited in place by admins and are never cached. ACTIVE and
+   * OBSOLETE programs can no longer change, so caching them is safe.
+   */
+  public void setFullProgramDefinitionCache(Program program, ProgramDefinition programDefinition) {
+    if (!programCacheEnabled || isInDraftVersion(program)) {
+      return;
+    }
+    programDefCache.set(
+        fullProgramDefinitionCacheKey(program.id),
+        programDefinition,
+        programCacheExpirationSeconds);
+  }
+
+  private static boolean isInDraftVersion(Program program) {
+    return program.getVersions().stream()
+        .map(Version::getLifecycleStage)
+        .anyMatch(LifecycleStage.DRAFT::equals);
+  }
+
+  private String fullProgramDefinitionCacheKey(long programId) {
+    return String.format("%d-%d", programId, versionRepository.get().getActiveVersionId());
+  }
+
   public ImmutableSet<String> getAllProgramNames() {
     ImmutableSet.Builder<String> names = ImmutableSet.builder();
-    List<SqlRow> rows = database.sqlQuery("SELECT DISTINCT name FROM programs").findList();
+    List<SqlRow> rows =
+        QueryTimings.time(
+            "ProgramRepository.getAllProgramNames",
+            () -> database.sqlQuery("SELECT DISTINCT name FROM programs").findList());
 
     for (SqlRow row : rows) {
       names.add(row.getString("name"));
@@ -157,18 +223,14 @@ public final class ProgramRepository {
   public CompletableFuture<Program> getForSlug(String slug) {
     return supplyAsync(
         () -> {
-          for (Program program : database.find(Program.class).where().isNull("slug").findList()) {
-            program.getSlug();
-            program.save();
-          }
-          ImmutableList<Program> activePrograms =
-              versionRepository.get().getActiveVersion().getPrograms();
-          List<Program> programsMatchingSlug =
-              database.find(Program.class).where().eq("slug", slug).findList();
-          return activePrograms.stream()
-              .filter(programsMatchingSlug::contains)
-              .findFirst()
-              .orElseThrow(() -> new RuntimeException(new ProgramNotFoundException(slug)));
+          long programId =
+              versionRepository
+                  .get()
+                  .getActiveProgramIdForSlug(slug)
+                  .orElseThrow(() -> new RuntimeException(new ProgramNotFoundException(slug)));
+          return QueryTimings.time(
+              "ProgramRepository.getForSlug",
+              () -> database.find(Program.class).setId(programId).findOne());
         },
         executionContext.current());
   }
@@ -197,14 +259,16 @@ public final class ProgramRepository {
             .setMaxRows(1)
             .query();
 
-    return database
-        .find(Program.class)
-        .where()
-        .in("name", programNameQuery)
-        .query()
-        .findList()
-        .stream()
-        .collect(ImmutableList.toImmutableList());
+    return QueryTimings.time(
+        "ProgramRepository.getAllProgramVersions",
+        () ->
+            ImmutableList.copyOf(
+                database.find(Program.class).where().in("name", programNameQuery).findList()));
+  }
+
+  /** Asynchronously get all versions of the program, as {@link #getAllProgramVersions}. */
+  public CompletionStage<ImmutableList<Program>> getAllProgramVersionsAsync(long programId) {
+    return supplyAsync(() -> getAllProgramVersions(programId), executionContext);
   }
 
   /**
@@ -215,12 +279,65 @@ public final class ProgramRepository {
    * <p>Both offset-based and page number-based pagination are supported. For paginationSpecEither
    * the caller may pass either a {@link IdentifierBasedPaginationSpec <Long>} or {@link
    * PageNumberBasedPaginationSpec} using play's {@link F.Either} wrapper.
+   *
+   * <p>Offset-based pagination seeks directly past the last application of the previous page, so
+   * its cost doesn't grow with how deep the page is. Whether there is a next page is known from
+   * the page itself. The number of pages is computed from a count that is cached for {@code
+   * application_count_cache_seconds}, so it may not include the most recent applications.
    */
   public PaginationResult<Application> getApplicationsForAllProgramVersions(
       long programId,
       F.Either<IdentifierBasedPaginationSpec<Long>, PageNumberBasedPaginationSpec>
           paginationSpecEither,
       SubmittedApplicationFilter filters) {
+    ExpressionList<Application> query = submittedApplicationsQuery(programId, filters);
+    int pageSize;
+
+    if (paginationSpecEither.left.isPresent()) {
+      IdentifierBasedPaginationSpec<Long> paginationSpec = paginationSpecEither.left.get();
+      pageSize = paginationSpec.getPageSize();
+      query = query.where().lt("id", paginationSpec.getCurrentPageOffsetIdentifier());
+    } else {
+      PageNumberBasedPaginationSpec paginationSpec = paginationSpecEither.right.get();
+      pageSize = paginationSpec.getPageSize();
+      query = query.setFirstRow(paginationSpec.getCurrentPageOffset());
+    }
+
+    // Fetch one more application than fits on the page to tell whether there is a next page.
+    List<Application> applications =
+        QueryTimings.time(
+            "ProgramRepository.getApplicationsForAllProgramVersions",
+            query.setMaxRows(pageSize == Integer.MAX_VALUE ? pageSize : pageSize + 1)::findList);
+
+    return new PaginationResult<Application>(
+        applications.size() > pageSize,
+        countPages(countSubmittedApplications(programId, filters), pageSize),
+        applications.stream().limit(pageSize).collect(ImmutableList.toImmutableList()));
+  }
+
+  /**
+   * Counts the applications {@link #getApplicationsForAllProgramVersions} can return, caching the
+   * count for {@code application_count_cache_seconds} if it is positive.
+   */
+  private int countSubmittedApplications(long programId, SubmittedApplicationFilter filters) {
+    Supplier<Integer> count =
+        () ->
+            QueryTimings.time(
+                "ProgramRepository.countSubmittedApplications",
+                () -> submittedApplicationsQuery(programId, filters).findCount());
+    if (applicationCountCacheSeconds <= 0) {
+      return count.get();
+    }
+    return applicationCountCache.getOrElseUpdate(
+        String.format("%d-%s", programId, filters), count::get, applicationCountCacheSeconds);
+  }
+
+  private static int countPages(int count, int pageSize) {
+    return (int) ((count + (long) pageSize - 1) / pageSize);
+  }
+
+  private ExpressionList<Application> submittedApplicationsQuery(
+      long programId, SubmittedApplicationFilter filters) {
     ExpressionList<Application> query =
         database
             .find(Application.class)
@@ -246,15 +363,12 @@ public final class ProgramRepository {
       if (search.matches("^\\d+$")) {
         query = query.eq("id", Integer.parseInt(search));
       } else {
-        String firstNamePath = getApplicationObjectPath(WellKnownPaths.APPLICANT_FIRST_NAME);
-        String lastNamePath = getApplicationObjectPath(WellKnownPaths.APPLICANT_LAST_NAME);
+        // Both columns are indexed, see conf/evolutions/default/50.sql.
         query =
             query
                 .or()
                 .ieq("submitter_email", search)
-                .raw(firstNamePath + " || ' ' || " + lastNamePath + " ILIKE ?", "%" + search + "%")
-                .raw(lastNamePath + " || ' ' || " + firstNamePath + " ILIKE ?", "%" + search + "%")
-                .raw(lastNamePath + " || ', ' || " + firstNamePath + " ILIKE ?", "%" + search + "%")
+                .like("applicantNameSearch", "%" + search.toLowerCase(Locale.ROOT) + "%")
                 .endOr();
       }
     }
@@ -268,31 +382,7 @@ public final class ProgramRepository {
       }
     }
 
-    PagedList<Application> pagedQuery;
-
-    if (paginationSpecEither.left.isPresent()) {
-      IdentifierBasedPaginationSpec<Long> paginationSpec = paginationSpecEither.left.get();
-      pagedQuery =
-          query
-              .where()
-              .lt("id", paginationSpec.getCurrentPageOffsetIdentifier())
-              .setMaxRows(paginationSpec.getPageSize())
-              .findPagedList();
-    } else {
-      PageNumberBasedPaginationSpec paginationSpec = paginationSpecEither.right.get();
-      pagedQuery =
-          query
-              .setFirstRow(paginationSpec.getCurrentPageOffset())
-              .setMaxRows(paginationSpec.getPageSize())
-              .findPagedList();
-    }
-
-    pagedQuery.loadCount();
-
-    return new PaginationResult<Application>(
-        pagedQuery.hasNext(),
-        pagedQuery.getTotalPageCount(),
-        pagedQuery.getList().stream().collect(ImmutableList.toImmutableList()));
+    return query;
   }
 
   private Query<Program> allProgramVersionsQuery(long programId) {
@@ -301,30 +391,4 @@ public final class ProgramRepository {
 
     return database.find(Program.class).select("id").where().in("name", programNameQuery).query();
   }
-
-  private String getApplicationObjectPath(Path path) {
-    StringBuilder result = new StringBuilder();
-
-    result.append("(");
-
-    // While the column type is JSONB, CiviForm writes the JSON object into the database as a
-    // string.
-    // This requires queries that interact with the JSON column to instruct postgres to parse the
-    // contents
-    // into JSON, which we do here with (object #>> '{}')::jsonb
-    result.append("(object #>> '{}')::jsonb");
-
-    int lastIndex = path.segments().size() - 1;
-    for (int i = 0; i < lastIndex; i++) {
-      result.append(" -> '");
-      result.append(path.segments().get(i));
-      result.append("'");
-    }
-
-    result.append(" ->> '");
-    result.append(path.segments().get(lastIndex));
-    result.append("')");
-
-    return result.toString();
-  }
 }
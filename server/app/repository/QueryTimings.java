@@ -0,0 +1,45 @@
+package repository;
+
+import io.prometheus.client.Histogram;
+import java.util.function.Supplier;
+
+/**
+ * Times database queries, exporting them to Prometheus as {@code civiform_database_query_seconds}
+ * labeled with the repository method that ran the query, such as {@code
+ * ProgramRepository.lookupProgram}.
+ *
+ * <p>Only the time spent running the query is measured. Time spent waiting for a thread of the
+ * {@link DatabaseExecutionContext} or for a pooled connection is exported separately.
+ */
+final class QueryTimings {
+
+  private static final Histogram QUERY_SECONDS =
+      Histogram.build()
+          .name("civiform_database_query_seconds")
+          .help("Time taken by database queries, by the repository method that ran them.")
+          .labelNames("query")
+          .buckets(0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5)
+          .register();
+
+  private QueryTimings() {}
+
+  /** Runs the query, recording how long it took under the label. */
+  static <T> T time(String label, Supplier<T> query) {
+    Histogram.Timer timer = QUERY_SECONDS.labels(label).startTimer();
+    try {
+      return query.get();
+    } finally {
+      timer.observeDuration();
+    }
+  }
+
+  /** Runs the update, recording how long it took under the label. */
+  static void timeUpdate(String label, Runnable update) {
+    Histogram.Timer timer = QUERY_SECONDS.labels(label).startTimer();
+    try {
+      update.run();
+    } finally {
+      timer.observeDuration();
+    }
+  }
+}
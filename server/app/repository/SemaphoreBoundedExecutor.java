@@ -0,0 +1,98 @@
+package repository;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs at most a fixed number of tasks at once, queuing the rest.
+ *
+ * <p>Queuing a task only adds it to a lock-free queue. Threads are started when there are tasks to
+ * run and stopped after being idle for a minute, so the number of threads follows the load rather
+ * than staying at the limit.
+ */
+final class SemaphoreBoundedExecutor implements Executor {
+
+  private static final Logger logger = LoggerFactory.getLogger(SemaphoreBoundedExecutor.class);
+
+  private final Semaphore permits;
+  private final ExecutorService threads;
+  private final ConcurrentLinkedQueue<Runnable> queue = new ConcurrentLinkedQueue<>();
+
+  SemaphoreBoundedExecutor(int maxConcurrency, ThreadFactory threadFactory) {
+    this.permits = new Semaphore(maxConcurrency);
+    this.threads = Executors.newCachedThreadPool(checkNotNull(threadFactory));
+  }
+
+  /**
+   * Queues the task to run once a permit is free.
+   *
+   * @throws RejectedExecutionException if the executor has been shut down
+   */
+  @Override
+  public void execute(Runnable task) {
+    checkNotNull(task);
+    if (threads.isShutdown()) {
+      throw new RejectedExecutionException("The executor has been shut down.");
+    }
+    queue.add(task);
+    if (!dispatch()) {
+      throw new RejectedExecutionException("The executor has been shut down.");
+    }
+  }
+
+  /**
+   * Stops accepting tasks. Tasks that are already running are allowed to finish, and tasks that
+   * haven't started yet are dropped.
+   */
+  void shutdown() {
+    threads.shutdown();
+  }
+
+  /**
+   * Starts queued tasks while there are permits left. A finished task releases its permit before
+   * dispatching again, so a task queued while every permit is held is started by whichever task
+   * finishes next.
+   *
+   * @return false if the executor was shut down while tasks were queued, in which case the queued
+   *     tasks are dropped
+   */
+  private boolean dispatch() {
+    while (!queue.isEmpty() && permits.tryAcquire()) {
+      Runnable task = queue.poll();
+      if (task == null) {
+        // Another thread started the task.
+        permits.release();
+        continue;
+      }
+      try {
+        threads.execute(
+            () -> {
+              try {
+                task.run();
+              } finally {
+                permits.release();
+                dispatch();
+              }
+            });
+      } catch (RejectedExecutionException e) {
+        permits.release();
+        int dropped = 1;
+        while (queue.poll() != null) {
+          dropped++;
+        }
+        logger.warn("Dropped {} queued tasks because the executor was shut down", dropped);
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -3,14 +3,21 @@ package repository;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 
+import auth.AccountExistenceCache;
 import auth.CiviFormProfile;
 import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import forms.AddApplicantToTrustedIntermediaryGroupForm;
 import io.ebean.DB;
 import io.ebean.Database;
+import io.ebean.SqlQuery;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
@@ -18,7 +25,10 @@ import javax.inject.Inject;
 import models.Account;
 import models.Applicant;
 import models.TrustedIntermediaryGroup;
+import services.BlockingJoins;
 import services.CiviFormError;
+import services.PageNumberBasedPaginationSpec;
+import services.PaginationResult;
 import services.applicant.ApplicantData;
 import services.program.ProgramDefinition;
 import services.ti.EmailAddressExistsException;
@@ -31,13 +41,20 @@ import services.ti.NoSuchTrustedIntermediaryGroupError;
  */
 public final class UserRepository {
 
+  // The name Account#getApplicantName displays for an account's newest applicant.
+  private static final String MANAGED_ACCOUNT_NAME =
+      "COALESCE(newest_applicant.applicant_name, '<Unnamed User>')";
+
   private final Database database;
   private final DatabaseExecutionContext executionContext;
+  private final AccountExistenceCache accountExistenceCache;
 
   @Inject
-  public UserRepository(DatabaseExecutionContext executionContext) {
+  public UserRepository(
+      DatabaseExecutionContext executionContext, AccountExistenceCache accountExistenceCache) {
     this.database = DB.getDefault();
     this.executionContext = checkNotNull(executionContext);
+    this.accountExistenceCache = checkNotNull(accountExistenceCache);
   }
 
   public CompletionStage<Set<Applicant>> listApplicants() {
@@ -108,11 +125,19 @@ public final class UserRepository {
     return database.find(Applicant.class).setId(id).findOneOrEmpty();
   }
 
-  /** Merge the older applicant data into the newer applicant, and set both to the given account. */
+  /**
+   * Merge the older applicant data into the newer applicant, and set both to the given account.
+   *
+   * <p>The accounts involved are re-checked by {@link filters.ValidAccountFilter} on their next
+   * request, rather than being trusted from before the merge.
+   */
   public CompletionStage<Applicant> mergeApplicants(
       Applicant left, Applicant right, Account account) {
     return supplyAsync(
         () -> {
+          invalidateAccountExistence(left.getAccount());
+          invalidateAccountExistence(right.getAccount());
+          invalidateAccountExistence(account);
           left.setAccount(account).save();
           right.setAccount(account).save();
           return mergeApplicants(left, right).saveAndReturn();
@@ -120,6 +145,12 @@ public final class UserRepository {
         executionContext);
   }
 
+  private void invalidateAccountExistence(Account account) {
+    if (account != null && account.id != null) {
+      accountExistenceCache.invalidate(account.id);
+    }
+  }
+
   /** Merge the applicant data from older applicant into the newer applicant. */
   private Applicant mergeApplicants(Applicant left, Applicant right) {
     if (left.getWhenCreated().isAfter(right.getWhenCreated())) {
@@ -206,7 +237,77 @@ public final class UserRepository {
 
   public Optional<TrustedIntermediaryGroup> getTrustedIntermediaryGroup(
       CiviFormProfile civiformProfile) {
-    return civiformProfile.getAccount().join().getMemberOfGroup();
+    return BlockingJoins.join(civiformProfile.getAccount()).getMemberOfGroup();
+  }
+
+  /**
+   * Returns a page of the accounts managed by the trusted intermediary group, ordered by the name
+   * of their newest applicant.
+   *
+   * <p>If a name query or date of birth is provided, only returns the accounts whose newest
+   * applicant's name contains the name query, ignoring case, or whose newest applicant was born on
+   * that date. The search uses the name and date of birth copied to each applicant's row, so no
+   * applicant data is parsed.
+   */
+  public PaginationResult<Account> searchManagedAccounts(
+      long tiGroupId,
+      Optional<String> nameQuery,
+      Optional<LocalDate> dateOfBirth,
+      PageNumberBasedPaginationSpec paginationSpec) {
+    StringBuilder fromClause =
+        new StringBuilder(
+            " FROM accounts LEFT JOIN LATERAL (SELECT applicant_name, date_of_birth"
+                + " FROM applicants WHERE applicants.account_id = accounts.id"
+                + " ORDER BY when_created DESC LIMIT 1) AS newest_applicant ON TRUE"
+                + " WHERE accounts.managed_by_group_id = ?");
+    List<Object> parameters = new ArrayList<>();
+    parameters.add(tiGroupId);
+
+    List<String> searchConditions = new ArrayList<>();
+    if (nameQuery.isPresent()) {
+      searchConditions.add("lower(" + MANAGED_ACCOUNT_NAME + ") LIKE ? ESCAPE '\\'");
+      parameters.add("%" + escapeLikePattern(nameQuery.get().toLowerCase(Locale.ROOT)) + "%");
+    }
+    if (dateOfBirth.isPresent()) {
+      searchConditions.add("newest_applicant.date_of_birth = ?");
+      parameters.add(dateOfBirth.get());
+    }
+    if (!searchConditions.isEmpty()) {
+      fromClause.append(" AND (").append(String.join(" OR ", searchConditions)).append(")");
+    }
+
+    SqlQuery countQuery = database.sqlQuery("SELECT COUNT(*) AS count" + fromClause);
+    SqlQuery pageQuery =
+        database.sqlQuery(
+            "SELECT accounts.id"
+                + fromClause
+                + " ORDER BY "
+                + MANAGED_ACCOUNT_NAME
+                + " COLLATE \"C\", accounts.id LIMIT ? OFFSET ?");
+    for (int i = 0; i < parameters.size(); i++) {
+      countQuery.setParameter(i + 1, parameters.get(i));
+      pageQuery.setParameter(i + 1, parameters.get(i));
+    }
+    pageQuery
+        .setParameter(parameters.size() + 1, paginationSpec.getPageSize())
+        .setParameter(parameters.size() + 2, paginationSpec.getCurrentPageOffset());
+
+    long count = countQuery.findOne().getLong("count");
+    ImmutableList<Long> accountIds =
+        pageQuery.findList().stream()
+            .map(row -> row.getLong("id"))
+            .collect(ImmutableList.toImmutableList());
+    Map<Long, Account> accountsById =
+        database.find(Account.class).where().idIn(accountIds).findMap();
+
+    return new PaginationResult<>(
+        paginationSpec.getCurrentPageOffset() + accountIds.size() < count,
+        (int) ((count + paginationSpec.getPageSize() - 1) / paginationSpec.getPageSize()),
+        accountIds.stream().map(accountsById::get).collect(ImmutableList.toImmutableList()));
+  }
+
+  private static String escapeLikePattern(String value) {
+    return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
   }
 
   /**
@@ -6,23 +6,34 @@ import static java.util.function.Predicate.not;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import io.ebean.DB;
 import io.ebean.Database;
 import io.ebean.SerializableConflictException;
+import io.ebean.SqlRow;
 import io.ebean.Transaction;
 import io.ebean.TxScope;
 import io.ebean.annotation.TxIsolation;
+import io.prometheus.client.Counter;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import javax.inject.Inject;
+import javax.inject.Singleton;
 import javax.persistence.NonUniqueResultException;
 import javax.persistence.RollbackException;
 import models.LifecycleStage;
 import models.Program;
 import models.Question;
 import models.Version;
+import modules.MainModule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import services.program.BlockDefinition;
@@ -35,12 +46,37 @@ import services.program.predicate.OrNode;
 import services.program.predicate.PredicateDefinition;
 import services.program.predicate.PredicateExpressionNode;
 
-/** A repository object for dealing with versioning of questions and programs. */
+/**
+ * A repository object for dealing with versioning of questions and programs.
+ *
+ * <p>This is a singleton so that the ID of the ACTIVE version can be cached across requests, see
+ * {@link #getActiveVersionId}.
+ */
+@Singleton
 public final class VersionRepository {
 
   private static final Logger logger = LoggerFactory.getLogger(VersionRepository.class);
+
+  // Versions are only ever changed by admins, so the ACTIVE version ID is kept in memory and
+  // reloaded whenever this server modifies a version. Other servers' changes are picked up once
+  // the cached ID expires.
+  private static final Duration ACTIVE_VERSION_ID_TTL = Duration.ofSeconds(5);
+
+  private static final Counter DRAFT_VERSION_CREATION_ATTEMPTS =
+      Counter.build()
+          .name("civiform_draft_version_creation_attempts_total")
+          .help("Number of SERIALIZABLE transactions opened to create the DRAFT version.")
+          .register();
+  private static final Counter DRAFT_VERSION_CREATION_RETRIES =
+      Counter.build()
+          .name("civiform_draft_version_creation_retries_total")
+          .help("Number of times creating the DRAFT version was retried after a conflict.")
+          .register();
+
   private final Database database;
   private final ProgramRepository programRepository;
+  private final AtomicReference<ActiveVersionId> activeVersionId = new AtomicReference<>();
+  private final AtomicReference<ActiveProgramSlugs> activeProgramSlugs = new AtomicReference<>();
 
   @Inject
   public VersionRepository(ProgramRepository programRepository) {
@@ -157,6 +193,10 @@ public final class VersionRepository {
           throw new RuntimeException(String.format("unrecognized publishMode: %s", publishMode));
       }
       database.commitTransaction();
+      if (publishMode == PublishMode.PUBLISH_CHANGES) {
+        activeVersionId.set(null);
+        activeProgramSlugs.set(null);
+      }
 
       return draft;
     } finally {
@@ -164,14 +204,14 @@ public final class VersionRepository {
     }
   }
 
-  /** Get the current draft version. Creates it if one does not exist. */
+  /**
+   * Get the current draft version. Creates it if one does not exist.
+   *
+   * <p>Creating the draft requires a SERIALIZABLE transaction, so this should only be called from
+   * admin write paths. Read-only code should use {@link #getDraftVersionOrEmpty} instead.
+   */
   public Version getDraftVersion() {
-    Optional<Version> version =
-        database
-            .find(Version.class)
-            .where()
-            .eq("lifecycle_stage", LifecycleStage.DRAFT)
-            .findOneOrEmpty();
+    Optional<Version> version = getDraftVersionOrEmpty();
     if (version.isPresent()) {
       return version.get();
     }
@@ -184,6 +224,7 @@ public final class VersionRepository {
     // is rolled back (a RollbackException is thrown).  We are forced to retry.  This is expensive
     // in relative terms, but new drafts are very rare.  It is unlikely this will represent a real
     // performance penalty for any applicant - or even any admin, really.
+    DRAFT_VERSION_CREATION_ATTEMPTS.inc();
     Transaction transaction =
         database.beginTransaction(TxScope.requiresNew().setIsolation(TxIsolation.SERIALIZABLE));
     try {
@@ -203,6 +244,7 @@ public final class VersionRepository {
       // We cannot have this transaction on the thread-local transaction stack when that
       // happens.
       transaction.end();
+      DRAFT_VERSION_CREATION_RETRIES.inc();
       return getDraftVersion();
     } finally {
       // This may come after a prior call to `transaction.end` in the event of a
@@ -213,12 +255,106 @@ public final class VersionRepository {
     }
   }
 
+  /**
+   * Get the current draft version if there is one. Unlike {@link #getDraftVersion} this never
+   * creates a draft, so it is safe to call from read-only paths.
+   */
+  public Optional<Version> getDraftVersionOrEmpty() {
+    return QueryTimings.time(
+        "VersionRepository.getDraftVersion",
+        () ->
+            database
+                .find(Version.class)
+                .where()
+                .eq("lifecycle_stage", LifecycleStage.DRAFT)
+                .findOneOrEmpty());
+  }
+
   public Version getActiveVersion() {
-    return database
-        .find(Version.class)
-        .where()
-        .eq("lifecycle_stage", LifecycleStage.ACTIVE)
-        .findOne();
+    return QueryTimings.time(
+        "VersionRepository.getActiveVersion",
+        () ->
+            database
+                .find(Version.class)
+                .where()
+                .eq("lifecycle_stage", LifecycleStage.ACTIVE)
+                .findOne());
+  }
+
+  /**
+   * Returns the ID of the current ACTIVE version without loading the version itself.
+   *
+   * <p>The ID is cached in memory and reloaded whenever this server modifies a version, or at the
+   * latest after {@link #ACTIVE_VERSION_ID_TTL} to pick up versions published by other servers.
+   * This makes it suitable for keying caches of published data, but callers that need to observe
+   * a publish immediately should use {@link #getActiveVersion}.
+   */
+  public long getActiveVersionId() {
+    ActiveVersionId cached = activeVersionId.get();
+    if (cached != null && cached.isCurrent()) {
+      return cached.versionId;
+    }
+    // Read the modification count before querying so that a version modified while the query runs
+    // invalidates the loaded value.
+    long modificationCount = Version.getModificationCount();
+    Long versionId =
+        QueryTimings.time(
+            "VersionRepository.getActiveVersionId",
+            () ->
+                database
+                    .find(Version.class)
+                    .select("id")
+                    .where()
+                    .eq("lifecycle_stage", LifecycleStage.ACTIVE)
+                    .<Long>findSingleAttribute());
+    checkNotNull(versionId, "There must be an active version.");
+    activeVersionId.set(new ActiveVersionId(versionId, modificationCount, System.nanoTime()));
+    return versionId;
+  }
+
+  /**
+   * Returns the ID of the ACTIVE program with the given slug, if there is one.
+   *
+   * <p>The slugs of the ACTIVE programs are indexed in memory. The index is rebuilt when this
+   * server modifies a version, or when {@link #getActiveVersionId} picks up a version published by
+   * another server.
+   */
+  public Optional<Long> getActiveProgramIdForSlug(String slug) {
+    // Read the modification count before loading so that a version modified while the index is
+    // built invalidates it.
+    long modificationCount = Version.getModificationCount();
+    long versionId = getActiveVersionId();
+    ActiveProgramSlugs index = activeProgramSlugs.get();
+    if (index == null || !index.isCurrent(versionId)) {
+      index = new ActiveProgramSlugs(versionId, modificationCount, loadProgramIdsBySlug(versionId));
+      activeProgramSlugs.set(index);
+    }
+    return Optional.ofNullable(index.programIdsBySlug.get(slug));
+  }
+
+  private ImmutableMap<String, Long> loadProgramIdsBySlug(long versionId) {
+    List<SqlRow> rows =
+        QueryTimings.time(
+            "VersionRepository.loadProgramIdsBySlug",
+            () ->
+                database
+                    .sqlQuery(
+                        "SELECT programs.id, programs.name, programs.slug FROM programs"
+                            + " INNER JOIN versions_programs"
+                            + " ON versions_programs.programs_id = programs.id"
+                            + " WHERE versions_programs.versions_id = ? ORDER BY programs.id")
+                    .setParameter(1, versionId)
+                    .findList());
+    Map<String, Long> programIdsBySlug = new HashMap<>();
+    for (SqlRow row : rows) {
+      // Matches Program#getSlug for programs whose slug was never stored.
+      String slug =
+          Strings.isNullOrEmpty(row.getString("slug"))
+              ? MainModule.SLUGIFIER.slugify(row.getString("name"))
+              : row.getString("slug");
+      programIdsBySlug.putIfAbsent(slug, row.getLong("id"));
+    }
+    return ImmutableMap.copyOf(programIdsBySlug);
   }
 
   /**
@@ -282,7 +418,8 @@ public final class VersionRepository {
   }
 
   public boolean isDraftProgram(Long programId) {
-    return getDraftVersion().getPrograms().stream()
+    return getDraftVersionOrEmpty().stream()
+        .flatMap(draftVersion -> draftVersion.getPrograms().stream())
         .anyMatch(draftProgram -> draftProgram.id.equals(programId));
   }
 
@@ -376,4 +513,43 @@ public final class VersionRepository {
                     .isEmpty())
         .forEach(programRepository::createOrUpdateDraft);
   }
+
+  /** The IDs of the ACTIVE programs by slug, see {@link #getActiveProgramIdForSlug}. */
+  private static final class ActiveProgramSlugs {
+    private final long versionId;
+    private final long versionModificationCount;
+    private final ImmutableMap<String, Long> programIdsBySlug;
+
+    private ActiveProgramSlugs(
+        long versionId,
+        long versionModificationCount,
+        ImmutableMap<String, Long> programIdsBySlug) {
+      this.versionId = versionId;
+      this.versionModificationCount = versionModificationCount;
+      this.programIdsBySlug = programIdsBySlug;
+    }
+
+    private boolean isCurrent(long activeVersionId) {
+      return versionId == activeVersionId
+          && versionModificationCount == Version.getModificationCount();
+    }
+  }
+
+  /** The cached ID of the ACTIVE version, see {@link #getActiveVersionId}. */
+  private static final class ActiveVersionId {
+    private final long versionId;
+    private final long versionModificationCount;
+    private final long loadedAtNanos;
+
+    private ActiveVersionId(long versionId, long versionModificationCount, long loadedAtNanos) {
+      this.versionId = versionId;
+      this.versionModificationCount = versionModificationCount;
+      this.loadedAtNanos = loadedAtNanos;
+    }
+
+    private boolean isCurrent() {
+      return versionModificationCount == Version.getModificationCount()
+          && System.nanoTime() - loadedAtNanos < ACTIVE_VERSION_ID_TTL.toNanos();
+    }
+  }
 }
@@ -0,0 +1,65 @@
+package services;
+
+import io.prometheus.client.Counter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Waits for futures on behalf of synchronous code, counting the waits that block a thread of
+ * Play's default dispatcher.
+ *
+ * <p>The default dispatcher runs request handlers and the callbacks scheduled on {@link
+ * play.libs.concurrent.HttpExecutionContext}, and has few threads. While one of them waits on a
+ * database query it can't serve other requests, so a few slow queries can stall the server. Code
+ * that still has to wait should use {@link #join} so that such waits show up in the {@code
+ * civiform_blocking_joins_total} metric, labeled with the method that waited.
+ *
+ * <p>The label is taken from the frame that calls {@link #join}, so call it directly rather than
+ * through a method reference such as {@code stream.map(BlockingJoins::join)}, which would label
+ * the wait with a stream library frame.
+ */
+public final class BlockingJoins {
+
+  private static final Logger logger = LoggerFactory.getLogger(BlockingJoins.class);
+
+  /** Threads of Play's default dispatcher are named after it. */
+  private static final String DEFAULT_DISPATCHER_THREAD_NAME = "akka.actor.default-dispatcher";
+
+  private static final Counter BLOCKING_JOINS =
+      Counter.build()
+          .name("civiform_blocking_joins_total")
+          .help("Waits on an incomplete future from a thread of Play's default dispatcher.")
+          .labelNames("caller")
+          .register();
+
+  private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+  private BlockingJoins() {}
+
+  /**
+   * Returns the future's result, waiting for it if needed. Like {@link CompletableFuture#join},
+   * failures are thrown as a {@link java.util.concurrent.CompletionException}.
+   */
+  public static <T> T join(CompletionStage<T> stage) {
+    CompletableFuture<T> future = stage.toCompletableFuture();
+    if (!future.isDone() && isDefaultDispatcherThread()) {
+      String caller =
+          STACK_WALKER.walk(
+              frames ->
+                  frames
+                      .skip(1)
+                      .findFirst()
+                      .map(frame -> frame.getClassName() + "." + frame.getMethodName())
+                      .orElse("unknown"));
+      BLOCKING_JOINS.labels(caller).inc();
+      logger.debug("{} is blocking a default dispatcher thread", caller);
+    }
+    return future.join();
+  }
+
+  private static boolean isDefaultDispatcherThread() {
+    return Thread.currentThread().getName().contains(DEFAULT_DISPATCHER_THREAD_NAME);
+  }
+}
@@ -14,6 +14,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -32,12 +33,28 @@ public class CfJsonDocumentContext {
   private static final TypeRef<ImmutableList<Long>> IMMUTABLE_LIST_LONG_TYPE = new TypeRef<>() {};
 
   protected boolean locked = false;
-  protected final DocumentContext jsonData;
+  protected DocumentContext jsonData;
+
+  /**
+   * Whether {@link #jsonData} may be shared with another instance. Shared JSON is copied before it
+   * is written to, so instances that share it never see each other's updates.
+   */
+  private boolean jsonDataShared = false;
 
   public CfJsonDocumentContext(DocumentContext jsonData) {
     this.jsonData = checkNotNull(jsonData);
   }
 
+  /**
+   * Creates an instance with the same JSON data as {@code other}. The JSON is shared rather than
+   * serialized and reparsed, and is only copied if either instance is written to afterwards.
+   */
+  protected CfJsonDocumentContext(CfJsonDocumentContext other) {
+    other.jsonDataShared = true;
+    this.jsonData = other.jsonData;
+    this.jsonDataShared = true;
+  }
+
   public CfJsonDocumentContext(String jsonString) {
     this(JsonPathProvider.getJsonPath().parse(checkNotNull(jsonString)));
   }
@@ -196,7 +213,7 @@ public class CfJsonDocumentContext {
    * @param value the value to place; values of type Map will create the equivalent JSON structure
    */
   private void put(Path path, Object value) {
-    checkLocked();
+    checkWritable();
     putParentIfMissing(path);
     if (path.isArrayElement()) {
       putArrayIfMissing(path.withoutArrayReference());
@@ -213,7 +230,7 @@ public class CfJsonDocumentContext {
    * @param list a {@link List} containing scalar values such as strings or longs.
    */
   public void putArray(Path path, List list) {
-    checkLocked();
+    checkWritable();
     putParentIfMissing(path);
     jsonData.put(path.parentPath().toString(), path.keyName(), list);
   }
@@ -234,7 +251,7 @@ public class CfJsonDocumentContext {
    * regardless of whether there are any values present.
    */
   public void maybeClearArray(Path path) {
-    checkLocked();
+    checkWritable();
     if (path.isArrayElement()) {
       putParentIfMissing(path);
       maybeDelete(path.withoutArrayReference());
@@ -243,19 +260,19 @@ public class CfJsonDocumentContext {
 
   /** Delete whatever is there if it exists. Returns whether a delete actually happened. */
   public void maybeDelete(Path path) {
-    checkLocked();
+    checkWritable();
     if (hasPath(path)) {
       jsonData.delete(path.toString());
     }
   }
 
   private void putAt(Path path, Object value) {
-    checkLocked();
+    checkWritable();
     jsonData.put(path.parentPath().toString(), path.keyName(), value);
   }
 
   private void addAt(Path path, Object value) {
-    checkLocked();
+    checkWritable();
     jsonData.add(path.withoutArrayReference().toString(), value);
   }
 
@@ -406,7 +423,7 @@ public class CfJsonDocumentContext {
    * repeated entities, use {@link #deleteRepeatedEntities(Path, ImmutableList)};
    */
   public boolean maybeClearRepeatedEntities(Path path) {
-    checkLocked();
+    checkWritable();
     if (readRepeatedEntities(path).isEmpty()) {
       maybeDelete(path.withoutArrayReference());
       return true;
@@ -475,7 +492,7 @@ public class CfJsonDocumentContext {
    * @return true if something is deleted.
    */
   public boolean deleteRepeatedEntities(Path path, ImmutableList<Integer> indices) {
-    checkLocked();
+    checkWritable();
 
     /** Early return if there's nothing to delete */
     if (indices.isEmpty()) {
@@ -522,6 +539,45 @@ public class CfJsonDocumentContext {
     }
   }
 
+  /**
+   * Returns the JSON value at the given path: a {@link Map} for an object, a {@link List} for an
+   * array, or a {@link String}, {@link Number} or {@link Boolean}. Returns empty if there is no
+   * value or it's null. A path to a repeated entity list with no index, such as {@code
+   * applicant.children[]}, returns the list.
+   *
+   * <p>Unlike the typed reads, this walks the parsed document directly instead of compiling a
+   * JsonPath, so it is cheap enough to call repeatedly while evaluating predicates. The returned
+   * value is part of this document and must not be modified.
+   */
+  public Optional<Object> readJsonValue(Path path) {
+    Object value = jsonData.json();
+    for (String segment : path.segments()) {
+      if (!(value instanceof Map)) {
+        return Optional.empty();
+      }
+      int arrayStart = segment.indexOf('[');
+      if (arrayStart < 0) {
+        value = ((Map<?, ?>) value).get(segment);
+        continue;
+      }
+      value = ((Map<?, ?>) value).get(segment.substring(0, arrayStart));
+      String index = segment.substring(arrayStart + 1, segment.length() - 1);
+      if (index.isEmpty()) {
+        continue;
+      }
+      if (!(value instanceof List)) {
+        return Optional.empty();
+      }
+      List<?> list = (List<?>) value;
+      int i = Integer.parseInt(index);
+      if (i >= list.size()) {
+        return Optional.empty();
+      }
+      value = list.get(i);
+    }
+    return Optional.ofNullable(value);
+  }
+
   public String asJsonString() {
     return jsonData.jsonString();
   }
@@ -554,7 +610,7 @@ public class CfJsonDocumentContext {
   }
 
   private ImmutableList<Path> mergeFrom(Path rootKey, Map<?, ?> other) {
-    checkLocked();
+    checkWritable();
     ImmutableList.Builder<Path> pathsRemoved = new ImmutableList.Builder<>();
     for (Map.Entry<?, ?> entry : other.entrySet()) {
       String key = entry.getKey().toString();
@@ -586,6 +642,36 @@ public class CfJsonDocumentContext {
     return pathsRemoved.build();
   }
 
+  /**
+   * Checks that this instance can be written to, and copies the JSON data first if it is shared
+   * with another instance.
+   */
+  private void checkWritable() {
+    checkLocked();
+    if (jsonDataShared) {
+      jsonData = JsonPathProvider.getJsonPath().parse(deepCopy(jsonData.json()));
+      jsonDataShared = false;
+    }
+  }
+
+  /**
+   * Copies the maps and lists that make up parsed JSON. The remaining values are strings, numbers,
+   * and booleans, which are immutable and can be shared.
+   */
+  private static Object deepCopy(Object json) {
+    if (json instanceof Map) {
+      Map<Object, Object> copy = new LinkedHashMap<>();
+      ((Map<?, ?>) json).forEach((key, value) -> copy.put(key, deepCopy(value)));
+      return copy;
+    }
+    if (json instanceof List) {
+      List<Object> copy = new ArrayList<>();
+      ((List<?>) json).forEach(element -> copy.add(deepCopy(element)));
+      return copy;
+    }
+    return json;
+  }
+
   protected void checkLocked() {
     if (locked) {
       throw new RuntimeException(
@@ -6,6 +6,8 @@ import com.google.auto.value.AutoValue;
 import com.google.auto.value.extension.memoized.Memoized;
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -15,6 +17,9 @@ import services.applicant.question.Scalar;
 /**
  * Represents a path into the applicant JSON data. Stored as the path to data without the JsonPath
  * prefix: $.
+ *
+ * <p>Paths created from strings are interned: parsing the same string again returns the same
+ * instance, along with its memoized values, for as long as it stays in a bounded cache.
  */
 @AutoValue
 public abstract class Path {
@@ -28,12 +33,30 @@ public abstract class Path {
   private static final Splitter JSON_SPLITTER = Splitter.on(JSON_PATH_DIVIDER);
   private static final Joiner JSON_JOINER = Joiner.on(JSON_PATH_DIVIDER);
 
+  /**
+   * Paths to repeated entities include the entity's index, so the number of distinct paths is
+   * unbounded. This is enough for the paths of every answer to many large programs.
+   */
+  private static final int MAXIMUM_INTERNED_PATHS = 50_000;
+
+  private static final Cache<String, Path> INTERNED_PATHS =
+      CacheBuilder.newBuilder().maximumSize(MAXIMUM_INTERNED_PATHS).build();
+
   public static Path empty() {
     return create(ImmutableList.of());
   }
 
   @JsonCreator
   public static Path create(String path) {
+    Path interned = INTERNED_PATHS.getIfPresent(path);
+    if (interned == null) {
+      interned = parse(path);
+      INTERNED_PATHS.put(path, interned);
+    }
+    return interned;
+  }
+
+  private static Path parse(String path) {
     path = path.trim();
     if (path.startsWith(JSON_PATH_START)) {
       path = path.substring(JSON_PATH_START.length());
@@ -49,6 +72,11 @@ public abstract class Path {
         segments.stream().map(String::toLowerCase).collect(ImmutableList.toImmutableList()));
   }
 
+  /** Creates a path from segments that are already lower case, such as another path's. */
+  private static Path fromLowerCaseSegments(ImmutableList<String> segments) {
+    return new AutoValue_Path(segments);
+  }
+
   /**
    * The list of path segments. A path {@code applicant.favorites.color} would return ["applicant",
    * "favorites", "color"].
@@ -87,7 +115,7 @@ public abstract class Path {
     if (segments().isEmpty()) {
       return Path.empty();
     }
-    return Path.create(segments().subList(0, segments().size() - 1));
+    return fromLowerCaseSegments(segments().subList(0, segments().size() - 1));
   }
 
   /** Returns a new path with the last segment replaced with the provided one. */
@@ -106,7 +134,7 @@ public abstract class Path {
    */
   public Path join(String path) {
     Path other = Path.create(path);
-    return Path.create(
+    return fromLowerCaseSegments(
         ImmutableList.<String>builder().addAll(segments()).addAll(other.segments()).build());
   }
 
@@ -118,7 +146,7 @@ public abstract class Path {
    */
   public Path join(Scalar scalar) {
     Path other = Path.create(scalar.name());
-    return Path.create(
+    return fromLowerCaseSegments(
         ImmutableList.<String>builder().addAll(segments()).addAll(other.segments()).build());
   }
 
@@ -154,6 +182,7 @@ public abstract class Path {
   /**
    * Checks whether this path is referring to an array element, e.g. {@code applicant.children[3]}.
    */
+  @Memoized
   public boolean isArrayElement() {
     return ARRAY_INDEX_REGEX.matcher(keyName()).find();
   }
@@ -25,6 +25,7 @@ import play.cache.NamedCache;
 import play.cache.SyncCacheApi;
 import play.data.DynamicForm;
 import repository.ApiKeyRepository;
+import services.BlockingJoins;
 import services.CryptographicUtils;
 import services.DateConverter;
 import services.PageNumberBasedPaginationSpec;
@@ -71,6 +72,7 @@ public final class ApiKeyService {
   private static final int KEY_SECRET_LENGTH = 256;
 
   private final ApiKeyRepository repository;
+  private final ApiKeyUsageAggregator usageAggregator;
   private final Environment environment;
   private final ProgramService programService;
   private final DateConverter dateConverter;
@@ -82,12 +84,14 @@ public final class ApiKeyService {
   public ApiKeyService(
       @NamedCache("api-keys") SyncCacheApi apiKeyCache,
       ApiKeyRepository repository,
+      ApiKeyUsageAggregator usageAggregator,
       Environment environment,
       ProgramService programService,
       DateConverter dateConverter,
       Config config) {
     this.apiKeyCache = checkNotNull(apiKeyCache);
     this.repository = checkNotNull(repository);
+    this.usageAggregator = checkNotNull(usageAggregator);
     this.environment = checkNotNull(environment);
     this.programService = checkNotNull(programService);
     this.dateConverter = checkNotNull(dateConverter);
@@ -106,7 +110,7 @@ public final class ApiKeyService {
 
   /** Finds an API key by its key ID (not the database ID) directly from the database. */
   public Optional<ApiKey> findByKeyId(String keyId) {
-    return repository.lookupApiKey(keyId).toCompletableFuture().join();
+    return BlockingJoins.join(repository.lookupApiKey(keyId));
   }
 
   /**
@@ -119,9 +123,12 @@ public final class ApiKeyService {
         keyId, () -> findByKeyId(keyId), CACHE_EXPIRATION_TIME_SECONDS);
   }
 
-  /** Increment an API key's call count and set its last call IP address to the one provided. */
+  /**
+   * Increment an API key's call count and set its last call IP address to the one provided. The
+   * usage is written to the database in the background by {@link ApiKeyUsageAggregator}.
+   */
   public void recordApiKeyUsage(String apiKeyId, String remoteAddress) {
-    repository.recordApiKeyUsage(apiKeyId, remoteAddress);
+    usageAggregator.recordUsage(apiKeyId, remoteAddress);
   }
 
   /**
@@ -129,7 +136,7 @@ public final class ApiKeyService {
    * authentication. Retiring is permanent.
    */
   public ApiKey retireApiKey(Long apiKeyId, CiviFormProfile profile) {
-    Optional<ApiKey> maybeApiKey = repository.lookupApiKey(apiKeyId).toCompletableFuture().join();
+    Optional<ApiKey> maybeApiKey = BlockingJoins.join(repository.lookupApiKey(apiKeyId));
 
     if (maybeApiKey.isEmpty()) {
       throw new RuntimeException(new ApiKeyNotFoundException(apiKeyId));
@@ -187,7 +194,7 @@ public final class ApiKeyService {
     apiKey.setSaltedKeySecret(saltedSecret);
     apiKey.setCreatedBy(getAuthorityId(profile));
 
-    apiKey = repository.insert(apiKey).toCompletableFuture().join();
+    apiKey = BlockingJoins.join(repository.insert(apiKey));
 
     return ApiKeyCreationResult.success(apiKey, credentials);
   }
@@ -308,7 +315,7 @@ public final class ApiKeyService {
   }
 
   private String getAuthorityId(CiviFormProfile profile) {
-    String authorityId = profile.getAuthorityId().join();
+    String authorityId = BlockingJoins.join(profile.getAuthorityId());
 
     if (authorityId != null) {
       return authorityId;
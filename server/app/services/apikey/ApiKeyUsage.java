@@ -0,0 +1,21 @@
+package services.apikey;
+
+import com.google.auto.value.AutoValue;
+
+/** Calls made with an API key that have not yet been added to its stored usage. */
+@AutoValue
+public abstract class ApiKeyUsage {
+
+  public static ApiKeyUsage create(String keyId, long callCount, String lastCallIpAddress) {
+    return new AutoValue_ApiKeyUsage(keyId, callCount, lastCallIpAddress);
+  }
+
+  /** The key's string ID, not its database ID. */
+  public abstract String keyId();
+
+  /** The number of calls to add to the key's call count. */
+  public abstract long callCount();
+
+  /** The IP address of the most recent of the calls. */
+  public abstract String lastCallIpAddress();
+}
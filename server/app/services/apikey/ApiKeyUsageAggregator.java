@@ -0,0 +1,115 @@
+package services.apikey;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import akka.actor.ActorSystem;
+import akka.actor.Cancellable;
+import com.google.common.collect.ImmutableList;
+import com.typesafe.config.Config;
+import io.prometheus.client.Gauge;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import play.inject.ApplicationLifecycle;
+import repository.ApiKeyRepository;
+import repository.DatabaseExecutionContext;
+
+/**
+ * Accumulates API key usage in memory and periodically writes it to the database, so recording a
+ * call doesn't cost a database round trip. Usage is also written when the server shuts down.
+ *
+ * <p>Recording is lock-free. Each flush takes the calls recorded for each key since the last flush
+ * and adds them to the stored call counts in one batched transaction. If the flush fails, the calls
+ * are kept and retried with the next flush.
+ */
+@Singleton
+public final class ApiKeyUsageAggregator {
+
+  private static final Logger logger = LoggerFactory.getLogger(ApiKeyUsageAggregator.class);
+
+  private static final Gauge PENDING_CALLS =
+      Gauge.build()
+          .name("civiform_api_key_usage_pending_calls")
+          .help("API calls recorded in memory that have not been written to the database yet.")
+          .register();
+
+  private final ApiKeyRepository repository;
+  private final ConcurrentHashMap<String, PendingUsage> pendingUsageByKeyId =
+      new ConcurrentHashMap<>();
+  private final Cancellable scheduledFlush;
+
+  @Inject
+  public ApiKeyUsageAggregator(
+      ApiKeyRepository repository,
+      ActorSystem actorSystem,
+      DatabaseExecutionContext executionContext,
+      ApplicationLifecycle appLifecycle,
+      Config config) {
+    this.repository = checkNotNull(repository);
+
+    Duration flushInterval =
+        Duration.ofSeconds(checkNotNull(config).getLong("api_keys_usage_flush_interval_seconds"));
+    this.scheduledFlush =
+        checkNotNull(actorSystem)
+            .scheduler()
+            .scheduleWithFixedDelay(
+                flushInterval, flushInterval, this::flush, checkNotNull(executionContext));
+
+    checkNotNull(appLifecycle)
+        .addStopHook(
+            () -> {
+              scheduledFlush.cancel();
+              flush();
+              return CompletableFuture.completedFuture(null);
+            });
+  }
+
+  /** Records a call made with an API key from the given IP address. */
+  public void recordUsage(String keyId, String remoteAddress) {
+    PendingUsage pendingUsage =
+        pendingUsageByKeyId.computeIfAbsent(keyId, unused -> new PendingUsage());
+    // Set the address first so a flush that sees the call also sees an address for it.
+    pendingUsage.lastCallIpAddress = remoteAddress;
+    pendingUsage.callCount.incrementAndGet();
+    PENDING_CALLS.inc();
+  }
+
+  /** Writes the calls recorded since the last flush to the database. */
+  public void flush() {
+    ImmutableList.Builder<ApiKeyUsage> usagesBuilder = ImmutableList.builder();
+    pendingUsageByKeyId.forEach(
+        (keyId, pendingUsage) -> {
+          long callCount = pendingUsage.callCount.getAndSet(0);
+          if (callCount > 0) {
+            usagesBuilder.add(ApiKeyUsage.create(keyId, callCount, pendingUsage.lastCallIpAddress));
+          }
+        });
+    ImmutableList<ApiKeyUsage> usages = usagesBuilder.build();
+    if (usages.isEmpty()) {
+      return;
+    }
+
+    try {
+      repository.incrementApiKeyUsage(usages);
+      PENDING_CALLS.dec(usages.stream().mapToLong(ApiKeyUsage::callCount).sum());
+    } catch (RuntimeException e) {
+      logger.error("Failed to write API key usage, retrying with the next flush", e);
+      usages.forEach(
+          usage -> pendingUsageByKeyId.get(usage.keyId()).callCount.addAndGet(usage.callCount()));
+    }
+  }
+
+  /**
+   * Usage recorded for a key since the last flush. Entries are never removed, since there is one
+   * per API key that has been used and the number of keys is small.
+   */
+  private static final class PendingUsage {
+    private final AtomicLong callCount = new AtomicLong();
+    private volatile String lastCallIpAddress;
+  }
+}
@@ -4,9 +4,11 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableMap;
+import com.jayway.jsonpath.PathNotFoundException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import javax.annotation.Nullable;
 import services.CfJsonDocumentContext;
@@ -50,6 +52,22 @@ public class ApplicantData extends CfJsonDocumentContext {
     this.failedUpdates = Optional.empty();
   }
 
+  private ApplicantData(ApplicantData other) {
+    super(other);
+    this.preferredLocale = other.preferredLocale;
+    this.failedUpdates = Optional.empty();
+  }
+
+  /**
+   * Returns a copy of this data with the same preferred locale and no failed updates. The copy
+   * shares the underlying JSON with this instance instead of serializing and reparsing it. The JSON
+   * is only copied if one of the two instances is updated afterwards, so neither ever sees the
+   * other's updates.
+   */
+  public ApplicantData copy() {
+    return new ApplicantData(this);
+  }
+
   /** Returns true if this applicant has set their preferred locale, and false otherwise. */
   public boolean hasPreferredLocale() {
     return this.preferredLocale.isPresent();
@@ -152,4 +170,52 @@ public class ApplicantData extends CfJsonDocumentContext {
   public void setDateOfBirth(String dateOfBirth) {
     putDate(WellKnownPaths.APPLICANT_DOB, dateOfBirth);
   }
+
+  /**
+   * Returns the number of repeated entities in each repeated entity list in this applicant's data,
+   * keyed by the contextualized path to the list. For example, an applicant with two household
+   * members, the second of which has one job, would have {@code applicant.household_members[]}
+   * mapped to 2 and {@code applicant.household_members[1].jobs[]} mapped to 1.
+   *
+   * <p>This only reads the structure of the data, so it does not need the program or question
+   * definitions the repeated entities were answered for.
+   */
+  public ImmutableMap<Path, Integer> getRepeatedEntityCounts() {
+    ImmutableMap.Builder<Path, Integer> counts = ImmutableMap.builder();
+    Map<?, ?> applicant;
+    try {
+      applicant = jsonData.read(APPLICANT_PATH.toString(), Map.class);
+    } catch (PathNotFoundException e) {
+      return counts.build();
+    }
+    addRepeatedEntityCounts(APPLICANT_PATH, applicant, counts);
+    return counts.build();
+  }
+
+  private static void addRepeatedEntityCounts(
+      Path path, Map<?, ?> data, ImmutableMap.Builder<Path, Integer> counts) {
+    for (Map.Entry<?, ?> entry : data.entrySet()) {
+      String key = entry.getKey().toString();
+      Object value = entry.getValue();
+      if (value instanceof Map) {
+        addRepeatedEntityCounts(path.join(key), (Map<?, ?>) value, counts);
+      } else if (isRepeatedEntityList(value)) {
+        List<?> entities = (List<?>) value;
+        Path listPath = path.join(key + Path.ARRAY_SUFFIX);
+        counts.put(listPath, entities.size());
+        for (int i = 0; i < entities.size(); i++) {
+          addRepeatedEntityCounts(listPath.atIndex(i), (Map<?, ?>) entities.get(i), counts);
+        }
+      }
+    }
+  }
+
+  /** Repeated entities are stored as a non-empty list of JSON objects. */
+  private static boolean isRepeatedEntityList(Object value) {
+    if (!(value instanceof List)) {
+      return false;
+    }
+    List<?> list = (List<?>) value;
+    return !list.isEmpty() && list.stream().allMatch(element -> element instanceof Map);
+  }
 }
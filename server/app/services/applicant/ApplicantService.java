@@ -2,6 +2,8 @@ package services.applicant;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import akka.NotUsed;
+import akka.stream.javadsl.Source;
 import auth.CiviFormProfile;
 import com.google.auto.value.AutoValue;
 import com.google.common.annotations.VisibleForTesting;
@@ -37,6 +39,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import play.libs.concurrent.HttpExecutionContext;
 import repository.ApplicationRepository;
+import repository.DatabaseExecutionContext;
 import repository.StoredFileRepository;
 import repository.TimeFilter;
 import repository.UserRepository;
@@ -51,7 +54,6 @@ import services.applicant.question.Scalar;
 import services.cloud.aws.SimpleEmail;
 import services.program.PathNotInBlockException;
 import services.program.ProgramDefinition;
-import services.program.ProgramNotFoundException;
 import services.program.ProgramService;
 import services.program.StatusDefinitions;
 import services.question.exceptions.UnsupportedScalarTypeException;
@@ -77,6 +79,7 @@ public final class ApplicantService {
   private final String baseUrl;
   private final boolean isStaging;
   private final HttpExecutionContext httpExecutionContext;
+  private final DatabaseExecutionContext databaseExecutionContext;
   private final String stagingProgramAdminNotificationMailingList;
   private final String stagingTiNotificationMailingList;
   private final String stagingApplicantNotificationMailingList;
@@ -91,7 +94,8 @@ public final class ApplicantService {
       SimpleEmail amazonSESClient,
       Clock clock,
       Config configuration,
-      HttpExecutionContext httpExecutionContext) {
+      HttpExecutionContext httpExecutionContext,
+      DatabaseExecutionContext databaseExecutionContext) {
     this.applicationRepository = checkNotNull(applicationRepository);
     this.userRepository = checkNotNull(userRepository);
     this.versionRepository = checkNotNull(versionRepository);
@@ -100,6 +104,7 @@ public final class ApplicantService {
     this.amazonSESClient = checkNotNull(amazonSESClient);
     this.clock = checkNotNull(clock);
     this.httpExecutionContext = checkNotNull(httpExecutionContext);
+    this.databaseExecutionContext = checkNotNull(databaseExecutionContext);
 
     String stagingHostname = checkNotNull(configuration).getString("staging_hostname");
     this.baseUrl = checkNotNull(configuration).getString("base_url");
@@ -148,15 +153,17 @@ public final class ApplicantService {
   /** Get a {@link ReadOnlyApplicantProgramService} from an application. */
   public CompletionStage<ReadOnlyApplicantProgramService> getReadOnlyApplicantProgramService(
       Application application) {
-    try {
-      return CompletableFuture.completedFuture(
-          new ReadOnlyApplicantProgramServiceImpl(
-              application.getApplicantData(),
-              programService.getProgramDefinition(application.getProgram().id),
-              baseUrl));
-    } catch (ProgramNotFoundException e) {
-      throw new RuntimeException("Cannot find a program that has applications for it.", e);
-    }
+    return programService
+        .getActiveProgramDefinitionAsync(application.getProgram().id)
+        .handle(
+            (programDefinition, e) -> {
+              if (e != null) {
+                throw new RuntimeException(
+                    "Cannot find a program that has applications for it.", e);
+              }
+              return new ReadOnlyApplicantProgramServiceImpl(
+                  application.getApplicantData(), programDefinition, baseUrl);
+            });
   }
 
   /** Get a {@link ReadOnlyApplicantProgramService} from an application and program definition. */
@@ -324,15 +331,25 @@ public final class ApplicantService {
 
               Application application = applicationMaybe.get();
               String programName = application.getProgram().getProgramDefinition().adminName();
-              notifyProgramAdmins(applicantId, programId, application.id, programName);
-
-              if (tiSubmitterEmail.isPresent()) {
-                notifyTiSubmitter(tiSubmitterEmail.get(), applicantId, application.id, programName);
-              }
-
-              maybeNotifyApplicant(applicantId, application.id, programName);
-
-              return updateStoredFileAclsForSubmit(applicantId, programId)
+              // Looking up who to notify and queuing the emails hits the database, so it's done on
+              // the database threads rather than blocking this one.
+              CompletableFuture<Void> notifications =
+                  CompletableFuture.runAsync(
+                          () -> {
+                            notifyProgramAdmins(
+                                applicantId, programId, application.id, programName);
+                            tiSubmitterEmail.ifPresent(
+                                tiEmail ->
+                                    notifyTiSubmitter(
+                                        tiEmail, applicantId, application.id, programName));
+                          },
+                          databaseExecutionContext)
+                      .thenCompose(
+                          unused -> maybeNotifyApplicant(applicantId, application.id, programName));
+
+              return CompletableFuture.allOf(
+                      notifications,
+                      updateStoredFileAclsForSubmit(applicantId, programId).toCompletableFuture())
                   .thenApplyAsync((ignoreVoid) -> application, httpExecutionContext.current());
             },
             httpExecutionContext.current());
@@ -436,11 +453,18 @@ public final class ApplicantService {
     }
   }
 
-  private void maybeNotifyApplicant(long applicantId, long applicationId, String programName) {
-    Optional<String> email = getEmail(applicantId).toCompletableFuture().join();
-    if (email.isEmpty()) {
-      return;
-    }
+  private CompletionStage<Void> maybeNotifyApplicant(
+      long applicantId, long applicationId, String programName) {
+    return getEmail(applicantId)
+        .thenAcceptAsync(
+            email ->
+                email.ifPresent(
+                    address -> notifyApplicant(address, applicantId, applicationId, programName)),
+            databaseExecutionContext);
+  }
+
+  private void notifyApplicant(
+      String email, long applicantId, long applicationId, String programName) {
     String civiformLink = baseUrl;
     String subject = String.format("Your application to program %s is received", programName);
     String message =
@@ -452,7 +476,7 @@ public final class ApplicantService {
     if (isStaging) {
       amazonSESClient.send(stagingApplicantNotificationMailingList, subject, message);
     } else {
-      amazonSESClient.send(email.get(), subject, message);
+      amazonSESClient.send(email, subject, message);
     }
   }
 
@@ -511,12 +535,12 @@ public final class ApplicantService {
   }
 
   /**
-   * Return a filtered set of applications, including applications from previous versions, with
-   * program, applicant, and account associations eager loaded. Results are ordered by application
-   * ID in ascending order.
+   * Return a {@link Source} of filtered applications, including applications from previous
+   * versions, with program, applicant, and account associations eager loaded. Results are ordered
+   * by application ID in ascending order, and read from a database cursor as the source is pulled.
    */
-  public ImmutableList<Application> getApplications(TimeFilter submitTimeFilter) {
-    return applicationRepository.getApplications(submitTimeFilter);
+  public Source<Application, NotUsed> streamApplications(TimeFilter submitTimeFilter) {
+    return applicationRepository.streamApplications(submitTimeFilter);
   }
 
   /**
@@ -1,7 +1,6 @@
 package services.applicant;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.collect.ImmutableList.toImmutableList;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -15,6 +14,7 @@ import services.LocalizedStrings;
 import services.Path;
 import services.applicant.predicate.JsonPathPredicateGenerator;
 import services.applicant.predicate.PredicateEvaluator;
+import services.applicant.predicate.PredicateResultMemo;
 import services.applicant.question.ApplicantQuestion;
 import services.applicant.question.CurrencyQuestion;
 import services.applicant.question.DateQuestion;
@@ -26,6 +26,7 @@ import services.program.ProgramDefinition;
 import services.program.predicate.PredicateDefinition;
 import services.question.LocalizedQuestionOption;
 import services.question.types.EnumeratorQuestionDefinition;
+import services.question.types.QuestionDefinition;
 import services.question.types.QuestionType;
 
 /** Implementation class for ReadOnlyApplicantProgramService interface. */
@@ -43,6 +44,13 @@ public class ReadOnlyApplicantProgramServiceImpl implements ReadOnlyApplicantPro
   private final String baseUrl;
   private ImmutableList<Block> allBlockList;
   private ImmutableList<Block> currentBlockList;
+  private ImmutableMap<Long, QuestionDefinition> questionsById;
+
+  /**
+   * Leaf predicate results shared by the visibility and eligibility predicates of every block, so
+   * each distinct leaf is evaluated once for this applicant's data.
+   */
+  private final PredicateResultMemo predicateResults = new PredicateResultMemo();
 
   public ReadOnlyApplicantProgramServiceImpl(
       ApplicantData applicantData, ProgramDefinition programDefinition, String baseUrl) {
@@ -54,7 +62,7 @@ public class ReadOnlyApplicantProgramServiceImpl implements ReadOnlyApplicantPro
       ProgramDefinition programDefinition,
       String baseUrl,
       ImmutableMap<Path, String> failedUpdates) {
-    this.applicantData = new ApplicantData(checkNotNull(applicantData).asJsonString());
+    this.applicantData = checkNotNull(applicantData).copy();
     this.applicantData.setPreferredLocale(applicantData.preferredLocale());
     this.applicantData.setFailedUpdates(failedUpdates);
     this.applicantData.lock();
@@ -115,14 +123,15 @@ public class ReadOnlyApplicantProgramServiceImpl implements ReadOnlyApplicantPro
   public ImmutableList<Block> getInProgressBlocks() {
     if (currentBlockList == null) {
       currentBlockList =
-          getBlocks(
-              block ->
-                  // Return all blocks that contain errors, were answered in this program, or
-                  // contain a static question.
-                  (!block.isAnsweredWithoutErrors()
+          getAllActiveBlocks().stream()
+              .filter(
+                  block ->
+                      // Return all blocks that contain errors, were answered in this program, or
+                      // contain a static question.
+                      !block.isAnsweredWithoutErrors()
                           || block.wasAnsweredInProgram(programDefinition.id())
                           || block.containsStatic())
-                      && showBlock(block));
+              .collect(ImmutableList.toImmutableList());
     }
     return currentBlockList;
   }
@@ -353,11 +362,15 @@ public class ReadOnlyApplicantProgramServiceImpl implements ReadOnlyApplicantPro
   }
 
   private boolean evaluatePredicate(Block block, PredicateDefinition predicate) {
+    if (questionsById == null) {
+      questionsById =
+          programDefinition
+              .streamQuestionDefinitions()
+              .collect(ImmutableMap.toImmutableMap(QuestionDefinition::getId, q -> q));
+    }
     JsonPathPredicateGenerator predicateGenerator =
-        new JsonPathPredicateGenerator(
-            this.programDefinition.streamQuestionDefinitions().collect(toImmutableList()),
-            block.getRepeatedEntity());
-    return new PredicateEvaluator(this.applicantData, predicateGenerator)
+        new JsonPathPredicateGenerator(questionsById, block.getRepeatedEntity());
+    return new PredicateEvaluator(this.applicantData, predicateGenerator, predicateResults)
         .evaluate(predicate.rootNode());
   }
 
@@ -370,7 +383,7 @@ public class ReadOnlyApplicantProgramServiceImpl implements ReadOnlyApplicantPro
       case DROPDOWN:
       case RADIO_BUTTON:
         return ImmutableMap.of(
-            question.getContextualizedPath().join(Scalar.SELECTION),
+            question.getContextualizedPath(Scalar.SELECTION),
             question
                 .createSingleSelectQuestion()
                 .getSelectedOptionValue(locale)
@@ -382,7 +395,7 @@ public class ReadOnlyApplicantProgramServiceImpl implements ReadOnlyApplicantPro
             currencyQuestion.getCurrencyPath(), currencyQuestion.getAnswerString());
       case CHECKBOX:
         return ImmutableMap.of(
-            question.getContextualizedPath().join(Scalar.SELECTIONS),
+            question.getContextualizedPath(Scalar.SELECTIONS),
             question
                 .createMultiSelectQuestion()
                 .getSelectedOptionsValue(locale)
@@ -394,7 +407,7 @@ public class ReadOnlyApplicantProgramServiceImpl implements ReadOnlyApplicantPro
                 .orElse(""));
       case FILEUPLOAD:
         return ImmutableMap.of(
-            question.getContextualizedPath().join(Scalar.FILE_KEY),
+            question.getContextualizedPath(Scalar.FILE_KEY),
             question
                 .createFileUploadQuestion()
                 .getFileKeyValue()
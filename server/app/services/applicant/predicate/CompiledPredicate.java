@@ -0,0 +1,22 @@
+package services.applicant.predicate;
+
+import services.applicant.ApplicantData;
+
+/**
+ * A {@link services.program.predicate.PredicateExpressionNode} compiled by {@link
+ * PredicateCompiler} so it can be evaluated repeatedly without re-interpreting the expression tree.
+ */
+interface CompiledPredicate {
+
+  /**
+   * Evaluates the predicate against the applicant's data.
+   *
+   * @param predicateGenerator resolves the question data each leaf operation is applied to, in the
+   *     repeated context of the block being evaluated.
+   * @param memo results of the leaf operations already evaluated against the applicant's data.
+   */
+  boolean evaluate(
+      ApplicantData applicantData,
+      JsonPathPredicateGenerator predicateGenerator,
+      PredicateResultMemo memo);
+}
@@ -29,8 +29,19 @@ public final class JsonPathPredicateGenerator {
   public JsonPathPredicateGenerator(
       ImmutableList<QuestionDefinition> programQuestions,
       Optional<RepeatedEntity> currentRepeatedContext) {
-    this.questionsById =
-        programQuestions.stream().collect(toImmutableMap(QuestionDefinition::getId, q -> q));
+    this(
+        programQuestions.stream().collect(toImmutableMap(QuestionDefinition::getId, q -> q)),
+        currentRepeatedContext);
+  }
+
+  /**
+   * Creates a generator from the program's questions keyed by ID, for callers that evaluate
+   * predicates for many blocks of the same program and only want to index its questions once.
+   */
+  public JsonPathPredicateGenerator(
+      ImmutableMap<Long, QuestionDefinition> questionsById,
+      Optional<RepeatedEntity> currentRepeatedContext) {
+    this.questionsById = questionsById;
     this.currentRepeatedContext = currentRepeatedContext;
   }
 
@@ -41,6 +52,21 @@ public final class JsonPathPredicateGenerator {
    */
   public JsonPathPredicate fromLeafNode(LeafOperationExpressionNode node)
       throws InvalidPredicateException {
+    return JsonPathPredicate.create(
+        String.format(
+            "%s[?(@.%s %s %s)]",
+            getPath(node).predicateFormat(),
+            node.scalar().name().toLowerCase(),
+            node.operator().toJsonPathOperator(),
+            node.comparedValue().value()));
+  }
+
+  /**
+   * Returns the path to the question data a {@link LeafOperationExpressionNode} operates on, in the
+   * context of the current repeated entity. The node's scalar is evaluated against the JSON object
+   * at this path, or against each element if it's a repeated entity list.
+   */
+  public Path getPath(LeafOperationExpressionNode node) throws InvalidPredicateException {
     if (!questionsById.containsKey(node.questionId())) {
       // This means a predicate was incorrectly configured - we are depending upon a question that
       // does not appear anywhere in this program.
@@ -69,13 +95,7 @@ public final class JsonPathPredicateGenerator {
       path = path.withoutArrayReference();
     }
 
-    return JsonPathPredicate.create(
-        String.format(
-            "%s[?(@.%s %s %s)]",
-            path.predicateFormat(),
-            node.scalar().name().toLowerCase(),
-            node.operator().toJsonPathOperator(),
-            node.comparedValue().value()));
+    return path;
   }
 
   private Optional<RepeatedEntity> getTargetContext(QuestionDefinition targetQuestion)
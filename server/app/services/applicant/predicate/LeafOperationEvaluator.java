@@ -0,0 +1,220 @@
+package services.applicant.predicate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import services.Path;
+import services.applicant.ApplicantData;
+import services.applicant.exception.InvalidPredicateException;
+import services.program.predicate.LeafOperationExpressionNode;
+
+/**
+ * Evaluates a single {@link LeafOperationExpressionNode} by reading the question's data directly
+ * from the parsed applicant JSON. The value the node compares against is parsed once, when the
+ * node is compiled.
+ *
+ * <p>Results are the same as evaluating the node's {@link JsonPathPredicate} with JsonPath:
+ *
+ * <ul>
+ *   <li>Numbers are compared by value, and a number is equal to a string containing that number.
+ *       For example, multi-option selections are stored as numbers and compared to quoted IDs.
+ *   <li>A scalar that hasn't been answered is not equal to, and not in, any value.
+ *   <li>If the question data is a repeated entity list, the node is true if it holds for any
+ *       entity.
+ * </ul>
+ */
+final class LeafOperationEvaluator implements CompiledPredicate {
+
+  private static final ObjectMapper MAPPER =
+      new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+  /** Stands in for a JSON null, since immutable collections can't hold null. */
+  private static final Object JSON_NULL = new Object();
+
+  private final LeafOperationExpressionNode node;
+  private final String scalarKey;
+  private final Object comparedValue;
+
+  private LeafOperationEvaluator(LeafOperationExpressionNode node, Object comparedValue) {
+    this.node = node;
+    this.scalarKey = node.scalar().name().toLowerCase();
+    this.comparedValue = comparedValue;
+  }
+
+  static CompiledPredicate compile(LeafOperationExpressionNode node) {
+    Object comparedValue;
+    try {
+      comparedValue = normalize(MAPPER.readValue(node.comparedValue().value(), Object.class));
+    } catch (JsonProcessingException e) {
+      // The value isn't valid JSON, so it can't match anything.
+      return (applicantData, predicateGenerator, memo) -> false;
+    }
+    return new LeafOperationEvaluator(node, comparedValue);
+  }
+
+  @Override
+  public boolean evaluate(
+      ApplicantData applicantData,
+      JsonPathPredicateGenerator predicateGenerator,
+      PredicateResultMemo memo) {
+    Path path;
+    try {
+      path = predicateGenerator.getPath(node);
+    } catch (InvalidPredicateException e) {
+      return false;
+    }
+    return memo.getOrEvaluate(node, path, () -> evaluate(applicantData.readJsonValue(path)));
+  }
+
+  /** Evaluates the node against the question data it operates on. */
+  private boolean evaluate(Optional<Object> questionData) {
+    if (questionData.isEmpty()) {
+      return false;
+    }
+
+    if (questionData.get() instanceof Map) {
+      return test((Map<?, ?>) questionData.get());
+    }
+    if (questionData.get() instanceof List) {
+      for (Object entity : (List<?>) questionData.get()) {
+        if (entity instanceof Map ? test((Map<?, ?>) entity) : test(Optional.empty())) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private boolean test(Map<?, ?> questionData) {
+    return test(
+        questionData.containsKey(scalarKey)
+            ? Optional.of(normalize(questionData.get(scalarKey)))
+            : Optional.empty());
+  }
+
+  /** Applies the operator to the scalar's value, which is empty if there is no answer. */
+  private boolean test(Optional<Object> scalar) {
+    switch (node.operator()) {
+      case EQUAL_TO:
+        return scalar.isPresent() && isEqual(scalar.get(), comparedValue);
+      case NOT_EQUAL_TO:
+        return scalar.isEmpty() || !isEqual(scalar.get(), comparedValue);
+      case GREATER_THAN:
+      case IS_AFTER:
+        return compare(scalar).map(result -> result > 0).orElse(false);
+      case GREATER_THAN_OR_EQUAL_TO:
+      case IS_ON_OR_AFTER:
+        return compare(scalar).map(result -> result >= 0).orElse(false);
+      case LESS_THAN:
+      case IS_BEFORE:
+        return compare(scalar).map(result -> result < 0).orElse(false);
+      case LESS_THAN_OR_EQUAL_TO:
+      case IS_ON_OR_BEFORE:
+        return compare(scalar).map(result -> result <= 0).orElse(false);
+      case IN:
+        return scalar.isPresent() && isIn(scalar.get());
+      case NOT_IN:
+        return scalar.isEmpty() || !isIn(scalar.get());
+      case ANY_OF:
+        return isList(scalar) && comparedValue instanceof List && containsAny(scalar.get());
+      case NONE_OF:
+        return isList(scalar) && comparedValue instanceof List && !containsAny(scalar.get());
+      case SUBSET_OF:
+        return isList(scalar)
+            && comparedValue instanceof List
+            && ((List<?>) scalar.get()).stream().allMatch(this::isIn);
+      default:
+        return false;
+    }
+  }
+
+  private Optional<Integer> compare(Optional<Object> scalar) {
+    if (scalar.isEmpty()) {
+      return Optional.empty();
+    }
+    if (scalar.get() instanceof BigDecimal && comparedValue instanceof BigDecimal) {
+      return Optional.of(((BigDecimal) scalar.get()).compareTo((BigDecimal) comparedValue));
+    }
+    if (scalar.get() instanceof String && comparedValue instanceof String) {
+      return Optional.of(((String) scalar.get()).compareTo((String) comparedValue));
+    }
+    return Optional.empty();
+  }
+
+  /** Returns true if the compared value is a list containing the value. */
+  private boolean isIn(Object value) {
+    if (!(comparedValue instanceof List)) {
+      return false;
+    }
+    for (Object element : (List<?>) comparedValue) {
+      if (isEqual(value, element)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Returns true if any element of the list is in the compared value. */
+  private boolean containsAny(Object list) {
+    return ((List<?>) list).stream().anyMatch(this::isIn);
+  }
+
+  private static boolean isList(Optional<Object> scalar) {
+    return scalar.isPresent() && scalar.get() instanceof List;
+  }
+
+  /**
+   * Returns true if the values are equal. A number on the left is equal to a string on the right
+   * holding the same number, and a string on the left is equal to a number on the right that is
+   * written the same way.
+   */
+  private static boolean isEqual(Object left, Object right) {
+    if (left instanceof BigDecimal) {
+      if (right instanceof BigDecimal) {
+        return ((BigDecimal) left).compareTo((BigDecimal) right) == 0;
+      }
+      if (right instanceof String) {
+        try {
+          return ((BigDecimal) left).compareTo(new BigDecimal((String) right)) == 0;
+        } catch (NumberFormatException e) {
+          return false;
+        }
+      }
+      return false;
+    }
+    if (left instanceof String) {
+      return (right instanceof String || right instanceof BigDecimal)
+          && left.equals(right.toString());
+    }
+    return left.equals(right);
+  }
+
+  /**
+   * Converts parsed JSON so it can be compared: numbers become {@link BigDecimal}s, lists become
+   * immutable lists of converted elements, and null becomes {@link #JSON_NULL}.
+   */
+  private static Object normalize(Object json) {
+    if (json == null) {
+      return JSON_NULL;
+    }
+    if (json instanceof BigDecimal) {
+      return json;
+    }
+    if (json instanceof Integer || json instanceof Long) {
+      return BigDecimal.valueOf(((Number) json).longValue());
+    }
+    if (json instanceof Number) {
+      return new BigDecimal(json.toString());
+    }
+    if (json instanceof List) {
+      return ((List<?>) json)
+          .stream().map(LeafOperationEvaluator::normalize).collect(ImmutableList.toImmutableList());
+    }
+    return json;
+  }
+}
@@ -0,0 +1,73 @@
+package services.applicant.predicate;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
+import services.program.predicate.PredicateExpressionNode;
+
+/**
+ * Compiles {@link PredicateExpressionNode} trees into {@link CompiledPredicate}s.
+ *
+ * <p>Compiled predicates are cached by the identity of the node they were compiled from, and are
+ * dropped once the node is garbage collected. Predicate nodes belong to the program definitions
+ * they are part of, so a predicate is compiled once for as long as its program is cached and then
+ * evaluated for every block of every page render that uses it.
+ */
+final class PredicateCompiler {
+
+  private static final CompiledPredicate ALWAYS_TRUE = (applicantData, generator, memo) -> true;
+  private static final CompiledPredicate ALWAYS_FALSE = (applicantData, generator, memo) -> false;
+
+  private static final LoadingCache<PredicateExpressionNode, CompiledPredicate>
+      COMPILED_PREDICATES =
+          CacheBuilder.newBuilder()
+              .weakKeys()
+              .build(CacheLoader.from(PredicateCompiler::compileUncached));
+
+  private PredicateCompiler() {}
+
+  /** Returns the compiled form of the expression tree rooted at the given node. */
+  static CompiledPredicate compile(PredicateExpressionNode node) {
+    return COMPILED_PREDICATES.getUnchecked(node);
+  }
+
+  private static CompiledPredicate compileUncached(PredicateExpressionNode node) {
+    switch (node.getType()) {
+      case LEAF_OPERATION:
+        return LeafOperationEvaluator.compile(node.getLeafNode());
+      case LEAF_ADDRESS_SERVICE_AREA:
+        // TODO(https://github.com/civiform/civiform/issues/4048): check if address in service area
+        return ALWAYS_TRUE;
+      case AND:
+        ImmutableList<CompiledPredicate> allOf = compileChildren(node.getAndNode().children());
+        return (applicantData, generator, memo) -> {
+          for (CompiledPredicate child : allOf) {
+            if (!child.evaluate(applicantData, generator, memo)) {
+              return false;
+            }
+          }
+          return true;
+        };
+      case OR:
+        ImmutableList<CompiledPredicate> anyOf = compileChildren(node.getOrNode().children());
+        return (applicantData, generator, memo) -> {
+          for (CompiledPredicate child : anyOf) {
+            if (child.evaluate(applicantData, generator, memo)) {
+              return true;
+            }
+          }
+          return false;
+        };
+      default:
+        return ALWAYS_FALSE;
+    }
+  }
+
+  private static ImmutableList<CompiledPredicate> compileChildren(
+      ImmutableList<PredicateExpressionNode> children) {
+    return children.stream()
+        .map(PredicateCompiler::compileUncached)
+        .collect(ImmutableList.toImmutableList());
+  }
+}
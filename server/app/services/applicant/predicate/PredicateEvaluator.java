@@ -1,66 +1,50 @@
 package services.applicant.predicate;
 
 import services.applicant.ApplicantData;
-import services.applicant.exception.InvalidPredicateException;
-import services.program.predicate.AndNode;
-import services.program.predicate.LeafOperationExpressionNode;
-import services.program.predicate.OrNode;
 import services.program.predicate.PredicateExpressionNode;
 
-/** Evaluates complex predicates based on the given {@link ApplicantData}. */
+/**
+ * Evaluates complex predicates based on the given {@link ApplicantData}.
+ *
+ * <p>Predicates are compiled by {@link PredicateCompiler} the first time they are evaluated, so
+ * evaluating them reads the applicant's answers directly rather than generating and running a
+ * JsonPath query for each leaf node.
+ */
 public final class PredicateEvaluator {
 
   private final ApplicantData applicantData;
   private final JsonPathPredicateGenerator predicateGenerator;
+  private final PredicateResultMemo memo;
 
+  /**
+   * Creates an evaluator that doesn't remember leaf node results, so it can be used while the
+   * applicant data changes.
+   */
   public PredicateEvaluator(
       ApplicantData applicantData, JsonPathPredicateGenerator predicateGenerator) {
+    this(applicantData, predicateGenerator, PredicateResultMemo.disabled());
+  }
+
+  /**
+   * Creates an evaluator that reuses the leaf node results in the memo. Evaluators for different
+   * blocks of the same applicant's data can share a memo, as long as the data doesn't change.
+   */
+  public PredicateEvaluator(
+      ApplicantData applicantData,
+      JsonPathPredicateGenerator predicateGenerator,
+      PredicateResultMemo memo) {
     this.applicantData = applicantData;
     this.predicateGenerator = predicateGenerator;
+    this.memo = memo;
   }
 
   /**
    * Evaluate an expression tree rooted at the given {@link PredicateExpressionNode}. Will return
    * true if and only if the entire tree evaluates to true based on the {@link ApplicantData} used
-   * to create this evaluator.
+   * to create this evaluator. Leaf nodes that are invalid, for example because their question is
+   * not in the program, evaluate to false.
    */
   public boolean evaluate(PredicateExpressionNode node) {
-    switch (node.getType()) {
-      case LEAF_OPERATION:
-        return evaluateLeafNode(node.getLeafNode());
-      case LEAF_ADDRESS_SERVICE_AREA:
-        // TODO(https://github.com/civiform/civiform/issues/4048): check if address in service area
-        return true;
-      case AND:
-        return evaluateAndNode(node.getAndNode());
-      case OR:
-        return evaluateOrNode(node.getOrNode());
-      default:
-        return false;
-    }
-  }
-
-  /**
-   * Returns true if and only if there exists a value in {@link ApplicantData} that satisfies the
-   * given leaf node operation. Returns false if the predicate is invalid or the predicate evaluates
-   * to false.
-   */
-  private boolean evaluateLeafNode(LeafOperationExpressionNode node) {
-    try {
-      JsonPathPredicate predicate = predicateGenerator.fromLeafNode(node);
-      return applicantData.evalPredicate(predicate);
-    } catch (InvalidPredicateException e) {
-      return false;
-    }
-  }
-
-  /** Returns true if and only if each of the node's children evaluates to true. */
-  private boolean evaluateAndNode(AndNode node) {
-    return node.children().stream().allMatch(this::evaluate);
-  }
-
-  /** Returns true if and only if one or more of the node's children evaluates to true. */
-  private boolean evaluateOrNode(OrNode node) {
-    return node.children().stream().anyMatch(this::evaluate);
+    return PredicateCompiler.compile(node).evaluate(applicantData, predicateGenerator, memo);
   }
 }
@@ -0,0 +1,80 @@
+package services.applicant.predicate;
+
+import com.google.auto.value.AutoValue;
+import io.prometheus.client.Counter;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import services.Path;
+import services.program.predicate.LeafOperationExpressionNode;
+
+/**
+ * Remembers the result of each predicate leaf node evaluated against one applicant's data, so that
+ * a leaf node used by several visibility and eligibility predicates of a program is only evaluated
+ * once.
+ *
+ * <p>Results are keyed by the leaf node and the path to the question data it was applied to, which
+ * accounts for the repeated context of the block being evaluated. The applicant data must not
+ * change while a memo is in use, so a memo is normally owned by a read-only service over locked
+ * data.
+ */
+public final class PredicateResultMemo {
+
+  private static final Counter LEAF_EVALUATIONS =
+      Counter.build()
+          .name("civiform_predicate_leaf_evaluations_total")
+          .help("Number of predicate leaf nodes evaluated against applicant data.")
+          .register();
+  private static final Counter LEAF_MEMO_HITS =
+      Counter.build()
+          .name("civiform_predicate_leaf_memo_hits_total")
+          .help("Number of predicate leaf node results reused instead of being evaluated again.")
+          .register();
+
+  private final ConcurrentHashMap<Key, Boolean> results = new ConcurrentHashMap<>();
+  private final boolean enabled;
+
+  public PredicateResultMemo() {
+    this(/* enabled= */ true);
+  }
+
+  private PredicateResultMemo(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /** Returns a memo that doesn't remember any results, for applicant data that may change. */
+  static PredicateResultMemo disabled() {
+    return new PredicateResultMemo(/* enabled= */ false);
+  }
+
+  /**
+   * Returns the remembered result of the leaf node applied to the question data at the path, or
+   * evaluates and remembers it.
+   */
+  boolean getOrEvaluate(LeafOperationExpressionNode node, Path path, BooleanSupplier evaluation) {
+    if (!enabled) {
+      LEAF_EVALUATIONS.inc();
+      return evaluation.getAsBoolean();
+    }
+    Key key = Key.create(node, path);
+    Boolean result = results.get(key);
+    if (result != null) {
+      LEAF_MEMO_HITS.inc();
+      return result;
+    }
+    LEAF_EVALUATIONS.inc();
+    result = evaluation.getAsBoolean();
+    results.putIfAbsent(key, result);
+    return result;
+  }
+
+  @AutoValue
+  abstract static class Key {
+    static Key create(LeafOperationExpressionNode node, Path path) {
+      return new AutoValue_PredicateResultMemo_Key(node, path);
+    }
+
+    abstract LeafOperationExpressionNode node();
+
+    abstract Path path();
+  }
+}
@@ -169,23 +169,23 @@ public final class AddressQuestion extends Question {
   }
 
   public Path getStreetPath() {
-    return applicantQuestion.getContextualizedPath().join(Scalar.STREET);
+    return applicantQuestion.getContextualizedPath(Scalar.STREET);
   }
 
   public Path getLine2Path() {
-    return applicantQuestion.getContextualizedPath().join(Scalar.LINE2);
+    return applicantQuestion.getContextualizedPath(Scalar.LINE2);
   }
 
   public Path getCityPath() {
-    return applicantQuestion.getContextualizedPath().join(Scalar.CITY);
+    return applicantQuestion.getContextualizedPath(Scalar.CITY);
   }
 
   public Path getStatePath() {
-    return applicantQuestion.getContextualizedPath().join(Scalar.STATE);
+    return applicantQuestion.getContextualizedPath(Scalar.STATE);
   }
 
   public Path getZipPath() {
-    return applicantQuestion.getContextualizedPath().join(Scalar.ZIP);
+    return applicantQuestion.getContextualizedPath(Scalar.ZIP);
   }
 
   @Override
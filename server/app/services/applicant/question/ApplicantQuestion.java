@@ -157,10 +157,28 @@ public final class ApplicantQuestion {
    * "applicant.household_member[3].name".
    */
   public Path getContextualizedPath() {
+    if (repeatedEntity.isEmpty()) {
+      return programQuestionDefinition.getNonRepeatedContextualizedPath();
+    }
     return getQuestionDefinition()
         .getContextualizedPath(repeatedEntity, ApplicantData.APPLICANT_PATH);
   }
 
+  /**
+   * Returns the contextualized path to one of this question's scalars, such as
+   * "applicant.household_member[3].name.first". Paths for questions that are not repeated are
+   * computed once per program rather than on every call.
+   */
+  public Path getContextualizedPath(Scalar scalar) {
+    if (repeatedEntity.isEmpty()) {
+      Path scalarPath = programQuestionDefinition.getNonRepeatedScalarPaths().get(scalar);
+      if (scalarPath != null) {
+        return scalarPath;
+      }
+    }
+    return getContextualizedPath().join(scalar);
+  }
+
   /**
    * Returns the map of contextualized paths to scalars and their {@link ScalarType}s used by this
    * question. This includes metadata paths.
@@ -176,7 +194,7 @@ public final class ApplicantQuestion {
           .stream()
           .collect(
               ImmutableMap.toImmutableMap(
-                  scalar -> getContextualizedPath().join(scalar), Scalar::toScalarType));
+                  scalar -> getContextualizedPath(scalar), Scalar::toScalarType));
     } catch (InvalidQuestionTypeException | UnsupportedQuestionTypeException e) {
       throw new RuntimeException(e);
     }
@@ -208,7 +226,7 @@ public final class ApplicantQuestion {
           ? firstEntity.join(metadataScalar)
           : getContextualizedPath().withoutArrayReference().join(metadataScalar);
     }
-    return getContextualizedPath().join(metadataScalar);
+    return getContextualizedPath(metadataScalar);
   }
 
   public AddressQuestion createAddressQuestion() {
@@ -63,7 +63,7 @@ public final class CurrencyQuestion extends Question {
   }
 
   public Path getCurrencyPath() {
-    return applicantQuestion.getContextualizedPath().join(Scalar.CURRENCY_CENTS);
+    return applicantQuestion.getContextualizedPath(Scalar.CURRENCY_CENTS);
   }
 
   /**
@@ -48,7 +48,7 @@ public final class DateQuestion extends Question {
   }
 
   public Path getDatePath() {
-    return applicantQuestion.getContextualizedPath().join(Scalar.DATE);
+    return applicantQuestion.getContextualizedPath(Scalar.DATE);
   }
 
   @Override
@@ -39,7 +39,7 @@ public final class EmailQuestion extends Question {
   }
 
   public Path getEmailPath() {
-    return applicantQuestion.getContextualizedPath().join(Scalar.EMAIL);
+    return applicantQuestion.getContextualizedPath(Scalar.EMAIL);
   }
 
   @Override
@@ -85,11 +85,11 @@ public final class FileUploadQuestion extends Question {
   }
 
   public Path getFileKeyPath() {
-    return applicantQuestion.getContextualizedPath().join(Scalar.FILE_KEY);
+    return applicantQuestion.getContextualizedPath(Scalar.FILE_KEY);
   }
 
   public Path getOriginalFileNamePath() {
-    return applicantQuestion.getContextualizedPath().join(Scalar.ORIGINAL_FILE_NAME);
+    return applicantQuestion.getContextualizedPath(Scalar.ORIGINAL_FILE_NAME);
   }
 
   public Optional<String> getFilename() {
@@ -79,7 +79,7 @@ public final class IdQuestion extends Question {
   }
 
   public Path getIdPath() {
-    return applicantQuestion.getContextualizedPath().join(Scalar.ID);
+    return applicantQuestion.getContextualizedPath(Scalar.ID);
   }
 
   @Override
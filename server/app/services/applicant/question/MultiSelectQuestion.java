@@ -123,7 +123,7 @@ public final class MultiSelectQuestion extends Question {
   }
 
   public Path getSelectionPath() {
-    return applicantQuestion.getContextualizedPath().join(Scalar.SELECTIONS);
+    return applicantQuestion.getContextualizedPath(Scalar.SELECTIONS);
   }
 
   /** Get options in the applicant's preferred locale. */
@@ -98,15 +98,15 @@ public final class NameQuestion extends Question {
   }
 
   public Path getFirstNamePath() {
-    return applicantQuestion.getContextualizedPath().join(Scalar.FIRST_NAME);
+    return applicantQuestion.getContextualizedPath(Scalar.FIRST_NAME);
   }
 
   public Path getMiddleNamePath() {
-    return applicantQuestion.getContextualizedPath().join(Scalar.MIDDLE_NAME);
+    return applicantQuestion.getContextualizedPath(Scalar.MIDDLE_NAME);
   }
 
   public Path getLastNamePath() {
-    return applicantQuestion.getContextualizedPath().join(Scalar.LAST_NAME);
+    return applicantQuestion.getContextualizedPath(Scalar.LAST_NAME);
   }
 
   @Override
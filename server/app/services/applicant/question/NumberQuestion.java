@@ -93,7 +93,7 @@ public final class NumberQuestion extends Question {
   }
 
   public Path getNumberPath() {
-    return applicantQuestion.getContextualizedPath().join(Scalar.NUMBER);
+    return applicantQuestion.getContextualizedPath(Scalar.NUMBER);
   }
 
   @Override
@@ -81,7 +81,7 @@ public final class SingleSelectQuestion extends Question {
   }
 
   public Path getSelectionPath() {
-    return applicantQuestion.getContextualizedPath().join(Scalar.SELECTION);
+    return applicantQuestion.getContextualizedPath(Scalar.SELECTION);
   }
 
   public boolean optionIsSelected(LocalizedQuestionOption option) {
@@ -73,7 +73,7 @@ public final class TextQuestion extends Question {
   }
 
   public Path getTextPath() {
-    return applicantQuestion.getContextualizedPath().join(Scalar.TEXT);
+    return applicantQuestion.getContextualizedPath(Scalar.TEXT);
   }
 
   @Override
@@ -15,6 +15,7 @@ import models.ApplicationEvent;
 import models.Program;
 import repository.ApplicationEventRepository;
 import repository.ApplicationRepository;
+import services.BlockingJoins;
 import services.applicant.ApplicantService;
 import services.application.ApplicationEventDetails;
 import services.application.ApplicationEventDetails.NoteEvent;
@@ -67,7 +68,7 @@ public final class ProgramAdminApplicationService {
    */
   public Optional<Application> getApplication(long applicationId, ProgramDefinition program) {
     Optional<Application> maybeApplication =
-        applicationRepository.getApplication(applicationId).toCompletableFuture().join();
+        BlockingJoins.join(applicationRepository.getApplication(applicationId));
     if (maybeApplication.isEmpty()) {
       return Optional.empty();
     }
@@ -126,7 +127,7 @@ public final class ProgramAdminApplicationService {
       }
       // Notify the applicant.
       Optional<String> applicantEmail =
-          applicantService.getEmail(application.getApplicant().id).toCompletableFuture().join();
+          BlockingJoins.join(applicantService.getEmail(application.getApplicant().id));
       if (applicantEmail.isPresent()) {
         sendApplicantEmail(program.getProgramDefinition(), applicant, statusDef, applicantEmail);
       } else {
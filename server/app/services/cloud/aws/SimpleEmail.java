@@ -2,41 +2,54 @@ package services.cloud.aws;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.typesafe.config.Config;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Clock;
 import java.util.concurrent.CompletableFuture;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import models.OutboundEmail;
 import org.mockito.Mockito;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import play.Environment;
 import play.inject.ApplicationLifecycle;
+import repository.OutboundEmailRepository;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.services.ses.SesClient;
 import software.amazon.awssdk.services.ses.model.Body;
 import software.amazon.awssdk.services.ses.model.Content;
 import software.amazon.awssdk.services.ses.model.Destination;
 import software.amazon.awssdk.services.ses.model.Message;
 import software.amazon.awssdk.services.ses.model.SendEmailRequest;
-import software.amazon.awssdk.services.ses.model.SesException;
 
 /**
  * SimpleEmail provides methods to send email notifications through AWS Simple Email Service (SES).
+ *
+ * <p>Emails aren't sent by {@link #send}, which only queues them in the database so the caller
+ * doesn't wait on SES. Queued emails are sent in the background by {@link SimpleEmailDispatcher}.
  */
 @Singleton
 public final class SimpleEmail {
   public static final String AWS_SES_SENDER_CONF_PATH = "aws.ses.sender";
-  private static final Logger logger = LoggerFactory.getLogger(SimpleEmail.class);
 
   private final String sender;
   private final Client client;
+  private final OutboundEmailRepository repository;
+  private final Clock clock;
 
   @Inject
   public SimpleEmail(
-      AwsRegion region, Config config, Environment environment, ApplicationLifecycle appLifecycle) {
+      AwsRegion region,
+      Config config,
+      Environment environment,
+      ApplicationLifecycle appLifecycle,
+      OutboundEmailRepository repository,
+      Clock clock) {
     this.sender = checkNotNull(config).getString(AWS_SES_SENDER_CONF_PATH);
+    this.repository = checkNotNull(repository);
+    this.clock = checkNotNull(clock);
 
     if (environment.isDev()) {
       client = new LocalStackClient(region, config);
@@ -53,31 +66,47 @@ public final class SimpleEmail {
         });
   }
 
+  @VisibleForTesting
+  SimpleEmail(String sender, Client client, OutboundEmailRepository repository, Clock clock) {
+    this.sender = checkNotNull(sender);
+    this.client = checkNotNull(client);
+    this.repository = checkNotNull(repository);
+    this.clock = checkNotNull(clock);
+  }
+
+  /** Queues an email to be sent to the address. */
   public void send(String toAddress, String subject, String bodyText) {
     send(ImmutableList.of(toAddress), subject, bodyText);
   }
 
+  /** Queues an email to be sent to the addresses. Does nothing if there are no addresses. */
   public void send(ImmutableList<String> toAddresses, String subject, String bodyText) {
     if (toAddresses.isEmpty()) {
       return;
     }
+    repository.insert(new OutboundEmail(toAddresses, subject, bodyText, clock.instant()));
+  }
 
-    try {
-      Destination destination =
-          Destination.builder().toAddresses(toAddresses.toArray(new String[0])).build();
-
-      Body body = Body.builder().text(Content.builder().data(bodyText).build()).build();
-
-      Message msg =
-          Message.builder().subject(Content.builder().data(subject).build()).body(body).build();
-
-      SendEmailRequest emailRequest =
-          SendEmailRequest.builder().destination(destination).message(msg).source(sender).build();
-      client.get().sendEmail(emailRequest);
-    } catch (SesException e) {
-      logger.error(e.toString());
-      e.printStackTrace();
-    }
+  /**
+   * Sends a queued email through SES.
+   *
+   * @throws SdkException if SES can't be reached or doesn't accept the email.
+   */
+  void deliver(OutboundEmail email) {
+    Destination destination =
+        Destination.builder().toAddresses(email.getToAddresses().toArray(new String[0])).build();
+
+    Body body = Body.builder().text(Content.builder().data(email.getBody()).build()).build();
+
+    Message msg =
+        Message.builder()
+            .subject(Content.builder().data(email.getSubject()).build())
+            .body(body)
+            .build();
+
+    SendEmailRequest emailRequest =
+        SendEmailRequest.builder().destination(destination).message(msg).source(sender).build();
+    client.get().sendEmail(emailRequest);
   }
 
   interface Client {
@@ -0,0 +1,175 @@
+package services.cloud.aws;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.typesafe.config.Config;
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import models.OutboundEmail;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import play.inject.ApplicationLifecycle;
+import repository.OutboundEmailRepository;
+
+/**
+ * Sends the emails queued by {@link SimpleEmail#send}.
+ *
+ * <p>Each call to {@link #dispatchDueEmails} claims due emails from the database in batches and
+ * sends each batch on a fixed-size pool, so at most {@code email_dispatch_concurrency} requests to
+ * SES are in flight at once. An email that fails to send is retried with exponential backoff until
+ * it runs out of attempts. Finished emails are deleted by {@link #purgeExpiredEmails}.
+ */
+@Singleton
+public final class SimpleEmailDispatcher {
+
+  private static final Logger logger = LoggerFactory.getLogger(SimpleEmailDispatcher.class);
+
+  /** How long to wait before retrying an email that failed to send for the first time. */
+  private static final Duration BASE_RETRY_DELAY = Duration.ofMinutes(1);
+
+  /**
+   * How long claimed emails are held before another dispatcher may claim them. It only matters if
+   * a server stops while sending a batch, and must be longer than sending a batch takes.
+   */
+  private static final Duration CLAIM_LEASE = Duration.ofMinutes(5);
+
+  private static final Counter EMAILS =
+      Counter.build()
+          .name("civiform_outbound_emails_total")
+          .help("Attempts to send a queued email, by result.")
+          .labelNames("result")
+          .register();
+
+  private static final Counter POLL_ERRORS =
+      Counter.build()
+          .name("civiform_outbound_email_poll_errors_total")
+          .help("Scheduled runs of the email dispatcher that failed, by task.")
+          .labelNames("task")
+          .register();
+
+  private static final Histogram SEND_SECONDS =
+      Histogram.build()
+          .name("civiform_outbound_email_send_seconds")
+          .help("Time taken to send a queued email through SES.")
+          .register();
+
+  private final SimpleEmail simpleEmail;
+  private final OutboundEmailRepository repository;
+  private final Clock clock;
+  private final int batchSize;
+  private final Duration retention;
+  private final ExecutorService sendExecutor;
+
+  @Inject
+  public SimpleEmailDispatcher(
+      SimpleEmail simpleEmail,
+      OutboundEmailRepository repository,
+      Clock clock,
+      Config config,
+      ApplicationLifecycle appLifecycle) {
+    this.simpleEmail = checkNotNull(simpleEmail);
+    this.repository = checkNotNull(repository);
+    this.clock = checkNotNull(clock);
+    this.batchSize = checkNotNull(config).getInt("email_dispatch_batch_size");
+    this.retention = Duration.ofDays(config.getLong("email_retention_days"));
+    this.sendExecutor =
+        Executors.newFixedThreadPool(
+            config.getInt("email_dispatch_concurrency"),
+            new ThreadFactoryBuilder().setNameFormat("email-send-%d").setDaemon(true).build());
+
+    checkNotNull(appLifecycle)
+        .addStopHook(
+            () -> {
+              sendExecutor.shutdown();
+              return CompletableFuture.completedFuture(null);
+            });
+  }
+
+  /**
+   * Sends every email that is due, and returns once they have been sent or rescheduled.
+   *
+   * <p>This runs on a fixed-delay schedule, which Akka cancels for good if a run throws. Failures,
+   * such as the database being briefly unavailable, are logged and counted instead, and the emails
+   * are picked up by the next poll.
+   */
+  public void dispatchDueEmails() {
+    try {
+      dispatchDueBatches();
+    } catch (RuntimeException e) {
+      logger.error("Failed to dispatch due emails", e);
+      POLL_ERRORS.labels("dispatch").inc();
+    }
+  }
+
+  private void dispatchDueBatches() {
+    ImmutableList<OutboundEmail> batch;
+    do {
+      Instant now = clock.instant();
+      batch = repository.claimDueEmails(batchSize, now, now.plus(CLAIM_LEASE));
+      if (batch.isEmpty()) {
+        return;
+      }
+      CompletableFuture.allOf(
+              batch.stream()
+                  .map(email -> CompletableFuture.runAsync(() -> send(email), sendExecutor))
+                  .toArray(CompletableFuture[]::new))
+          .join();
+      repository.updateAll(batch);
+    } while (batch.size() == batchSize);
+  }
+
+  /**
+   * Deletes emails that were sent, or that ran out of attempts, more than {@code
+   * email_retention_days} ago. Emails hold applicants' addresses and details of their applications,
+   * so they're only kept for as long as they're useful for looking into delivery problems.
+   *
+   * <p>Like {@link #dispatchDueEmails}, failures are logged and counted rather than thrown, so
+   * they don't cancel the schedule this runs on.
+   */
+  public void purgeExpiredEmails() {
+    try {
+      int deleted = repository.deleteFinishedBefore(clock.instant().minus(retention));
+      if (deleted > 0) {
+        logger.info("Deleted {} emails older than {} days", deleted, retention.toDays());
+      }
+    } catch (RuntimeException e) {
+      logger.error("Failed to delete expired emails", e);
+      POLL_ERRORS.labels("purge").inc();
+    }
+  }
+
+  /** Sends the email and records the result on it. */
+  private void send(OutboundEmail email) {
+    Histogram.Timer timer = SEND_SECONDS.startTimer();
+    try {
+      simpleEmail.deliver(email);
+      email.setSentTime(clock.instant());
+      EMAILS.labels("sent").inc();
+    } catch (RuntimeException e) {
+      email.decrementRemainingAttempts().appendErrorMessage(e.toString());
+      int failedAttempts = OutboundEmail.MAX_ATTEMPTS - email.getRemainingAttempts();
+      if (email.getRemainingAttempts() > 0) {
+        logger.warn("Failed to send email {}, will retry: {}", email.id, e.toString());
+        email.setNextAttemptTime(
+            clock.instant().plus(BASE_RETRY_DELAY.multipliedBy(1L << (failedAttempts - 1))));
+        EMAILS.labels("retried").inc();
+      } else {
+        logger.error(
+            "Failed to send email {}, giving up after {} attempts", email.id, failedAttempts, e);
+        EMAILS.labels("failed").inc();
+      }
+    } finally {
+      timer.observeDuration();
+    }
+  }
+}
@@ -0,0 +1,178 @@
+package services.export;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import services.Path;
+import services.applicant.ApplicantData;
+import services.applicant.question.Scalar;
+import services.program.BlockDefinition;
+import services.program.ProgramDefinition;
+import services.question.exceptions.InvalidQuestionTypeException;
+import services.question.exceptions.UnsupportedQuestionTypeException;
+import services.question.types.QuestionDefinition;
+import services.question.types.QuestionType;
+
+/**
+ * Derives the applicant answer columns of a program CSV export from the block and question
+ * structure of the program's versions, rather than from the summary data of every application.
+ *
+ * <p>The only part of the column set that can't be read from a {@link ProgramDefinition} is how
+ * many repeated entities applicants entered for each enumerator question. Callers provide that with
+ * {@link #recordEnumeratorCardinalities} before calling {@link #getAnswerPaths}, either from the
+ * {@link models.ProgramColumnSchema} index or by counting the repeated entities of each
+ * application.
+ *
+ * <p>Columns are produced for every question of every block, so a question is included even if the
+ * block it's in was hidden from every applicant.
+ */
+final class CsvColumnSchema {
+
+  private final ImmutableList<ProgramDefinition> programDefinitions;
+
+  /**
+   * The maximum number of repeated entities any applicant has for an enumerator question, keyed by
+   * the contextualized path to the enumerator's repeated entity list.
+   */
+  private final Map<Path, Integer> enumeratorCardinalities = new HashMap<>();
+
+  CsvColumnSchema(ImmutableList<ProgramDefinition> programDefinitions) {
+    this.programDefinitions = checkNotNull(programDefinitions);
+  }
+
+  /**
+   * Records repeated entity counts, keyed by the contextualized path to the repeated entity list as
+   * returned by {@link ApplicantData#getRepeatedEntityCounts()}. The largest count recorded for
+   * each path determines how many times the repeated blocks of its enumerator are expanded.
+   */
+  void recordEnumeratorCardinalities(ImmutableMap<Path, Integer> cardinalities) {
+    cardinalities.forEach((path, count) -> enumeratorCardinalities.merge(path, count, Math::max));
+  }
+
+  /**
+   * Returns the path of every scalar answer column, sorted by block ID, then question index, and
+   * finally contextualized question path in string form. This is the same order the columns had
+   * when they were discovered from {@link services.applicant.AnswerData}.
+   *
+   * <p>When a question appears in more than one program version, the position it has in the
+   * earliest version provided wins.
+   */
+  ImmutableList<Path> getAnswerPaths() {
+    Map<Path, AnswerColumns> columnsByQuestionPath = new HashMap<>();
+    for (ProgramDefinition programDefinition : programDefinitions) {
+      addAnswerColumns(
+          programDefinition,
+          programDefinition.getNonRepeatedBlockDefinitions(),
+          ApplicantData.APPLICANT_PATH,
+          "",
+          columnsByQuestionPath);
+    }
+
+    return columnsByQuestionPath.values().stream()
+        .sorted(
+            Comparator.comparing((AnswerColumns columns) -> columns.blockId)
+                .thenComparing(columns -> columns.questionIndex)
+                .thenComparing(columns -> columns.questionPath.toString()))
+        .flatMap(columns -> columns.scalarPaths.stream())
+        .collect(ImmutableList.toImmutableList());
+  }
+
+  /**
+   * Recursively adds the answer columns for the given blocks, mirroring how {@link
+   * services.applicant.ReadOnlyApplicantProgramService} generates block IDs and contextualized
+   * paths for repeated blocks.
+   */
+  private void addAnswerColumns(
+      ProgramDefinition programDefinition,
+      ImmutableList<BlockDefinition> blockDefinitions,
+      Path contextPath,
+      String blockIdSuffix,
+      Map<Path, AnswerColumns> columnsByQuestionPath) {
+    for (BlockDefinition blockDefinition : blockDefinitions) {
+      String blockId = blockDefinition.id() + blockIdSuffix;
+      for (int questionIndex = 0;
+          questionIndex < blockDefinition.getQuestionCount();
+          questionIndex++) {
+        QuestionDefinition questionDefinition =
+            blockDefinition.getQuestionDefinition(questionIndex);
+        if (CsvExporterService.NON_EXPORTED_QUESTION_TYPES.contains(
+            questionDefinition.getQuestionType())) {
+          continue;
+        }
+        Path questionPath = contextPath.join(questionDefinition.getQuestionPathSegment());
+        columnsByQuestionPath.putIfAbsent(
+            questionPath,
+            new AnswerColumns(
+                blockId,
+                questionIndex,
+                questionPath,
+                getScalarAnswerPaths(questionDefinition.getQuestionType(), questionPath)));
+      }
+
+      if (blockDefinition.isEnumerator()) {
+        Path enumeratorPath =
+            contextPath.join(
+                blockDefinition.getEnumerationQuestionDefinition().getQuestionPathSegment());
+        int cardinality = enumeratorCardinalities.getOrDefault(enumeratorPath, 0);
+        for (int i = 0; i < cardinality; i++) {
+          addAnswerColumns(
+              programDefinition,
+              programDefinition.getBlockDefinitionsForEnumerator(blockDefinition.id()),
+              enumeratorPath.atIndex(i),
+              String.format("%s-%d", blockIdSuffix, i),
+              columnsByQuestionPath);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the scalar paths exported for a question. These are the keys of {@link
+   * services.applicant.AnswerData#scalarAnswersInDefaultLocale()} for the question.
+   */
+  private static ImmutableList<Path> getScalarAnswerPaths(
+      QuestionType questionType, Path questionPath) {
+    switch (questionType) {
+      case DROPDOWN:
+      case RADIO_BUTTON:
+        return ImmutableList.of(questionPath.join(Scalar.SELECTION));
+      case CURRENCY:
+        return ImmutableList.of(questionPath.join(Scalar.CURRENCY_CENTS));
+      case CHECKBOX:
+        return ImmutableList.of(questionPath.join(Scalar.SELECTIONS));
+      case FILEUPLOAD:
+        return ImmutableList.of(questionPath.join(Scalar.FILE_KEY));
+      case DATE:
+        return ImmutableList.of(questionPath.join(Scalar.DATE));
+      default:
+        try {
+          return Scalar.getScalars(questionType).stream()
+              .map(questionPath::join)
+              .filter(path -> !Scalar.getMetadataScalarKeys().contains(path.keyName()))
+              .collect(ImmutableList.toImmutableList());
+        } catch (InvalidQuestionTypeException | UnsupportedQuestionTypeException e) {
+          throw new RuntimeException(e);
+        }
+    }
+  }
+
+  /** The scalar answer columns of a single question, along with the keys used to sort them. */
+  private static final class AnswerColumns {
+    private final String blockId;
+    private final int questionIndex;
+    private final Path questionPath;
+    private final ImmutableList<Path> scalarPaths;
+
+    AnswerColumns(
+        String blockId, int questionIndex, Path questionPath, ImmutableList<Path> scalarPaths) {
+      this.blockId = blockId;
+      this.questionIndex = questionIndex;
+      this.questionPath = questionPath;
+      this.scalarPaths = scalarPaths;
+    }
+  }
+}
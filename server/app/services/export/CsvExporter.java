@@ -54,6 +54,28 @@ public final class CsvExporter implements AutoCloseable {
   public void exportRecord(
       Application application, ReadOnlyApplicantProgramService roApplicantService)
       throws IOException {
+    printRecord(printer, application, roApplicantService);
+  }
+
+  /**
+   * Returns a single {@link Application} record as a row of CSV, without writing it. Unlike {@link
+   * #exportRecord}, this may be called from several threads at once.
+   */
+  public String renderRecord(
+      Application application, ReadOnlyApplicantProgramService roApplicantService)
+      throws IOException {
+    StringBuilder row = new StringBuilder();
+    try (CSVPrinter rowPrinter = new CSVPrinter(row, CSVFormat.DEFAULT)) {
+      printRecord(rowPrinter, application, roApplicantService);
+    }
+    return row.toString();
+  }
+
+  private void printRecord(
+      CSVPrinter printer,
+      Application application,
+      ReadOnlyApplicantProgramService roApplicantService)
+      throws IOException {
     ImmutableMap<Path, String> answerMap =
         roApplicantService.getSummaryData().stream()
             .flatMap(data -> data.scalarAnswersInDefaultLocale().entrySet().stream())
@@ -2,16 +2,17 @@ package services.export;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import akka.NotUsed;
+import akka.stream.javadsl.Source;
+import akka.util.ByteString;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.typesafe.config.Config;
 import featureflags.FeatureFlags;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -20,10 +21,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import javax.inject.Inject;
 import models.Application;
 import models.QuestionTag;
+import org.apache.commons.lang3.tuple.Pair;
 import play.libs.F;
+import repository.ProgramColumnSchemaRepository;
 import repository.SubmittedApplicationFilter;
 import repository.TimeFilter;
 import services.DateConverter;
@@ -35,6 +39,7 @@ import services.applicant.ApplicantService;
 import services.applicant.ReadOnlyApplicantProgramService;
 import services.applicant.question.ApplicantQuestion;
 import services.applicant.question.Question;
+import services.program.BlockDefinition;
 import services.program.Column;
 import services.program.ColumnType;
 import services.program.CsvExportConfig;
@@ -54,11 +59,16 @@ import services.question.types.ScalarType;
 public final class CsvExporterService {
 
   private final ProgramService programService;
+  private final ProgramColumnSchemaRepository programColumnSchemaRepository;
   private final QuestionService questionService;
   private final ApplicantService applicantService;
   private final FeatureFlags featureFlags;
   private final Config config;
   private final DateConverter dateConverter;
+  private final ExportExecutionContext exportExecutionContext;
+
+  /** The number of applications loaded from the database per page of a streamed CSV. */
+  private static final int STREAMING_PAGE_SIZE = 500;
 
   private static final String HEADER_SPACER_ENUM = " - ";
   private static final String HEADER_SPACER_SCALAR = " ";
@@ -72,63 +82,113 @@ public final class CsvExporterService {
   @Inject
   public CsvExporterService(
       ProgramService programService,
+      ProgramColumnSchemaRepository programColumnSchemaRepository,
       QuestionService questionService,
       ApplicantService applicantService,
       FeatureFlags featureFlags,
       Config config,
-      DateConverter dateConverter) {
+      DateConverter dateConverter,
+      ExportExecutionContext exportExecutionContext) {
     this.programService = checkNotNull(programService);
+    this.programColumnSchemaRepository = checkNotNull(programColumnSchemaRepository);
     this.questionService = checkNotNull(questionService);
     this.applicantService = checkNotNull(applicantService);
     this.featureFlags = checkNotNull(featureFlags);
     this.config = checkNotNull(config);
     this.dateConverter = dateConverter;
+    this.exportExecutionContext = checkNotNull(exportExecutionContext);
   }
 
-  /** Return a string containing a CSV of all applications at all versions of particular program. */
-  public String getProgramAllVersionsCsv(long programId, SubmittedApplicationFilter filters)
-      throws ProgramNotFoundException {
+  /**
+   * Return a {@link Source} that streams a CSV of all applications at all versions of a particular
+   * program.
+   *
+   * <p>Applications are loaded {@link #STREAMING_PAGE_SIZE} at a time using keyset pagination on
+   * the application ID. Their rows are rendered in parallel on the {@link ExportExecutionContext}
+   * and written in the order the applications were loaded, newest first. Each stage waits for the
+   * next to catch up, so memory use stays flat regardless of how many applications the program has.
+   * Loading reads from the database, so it is run on Akka's blocking IO dispatcher when
+   * materialized.
+   */
+  public Source<ByteString, NotUsed> getProgramAllVersionsCsv(
+      long programId, SubmittedApplicationFilter filters) throws ProgramNotFoundException {
     ImmutableList<ProgramDefinition> allProgramVersions =
         programService.getAllProgramDefinitionVersions(programId).stream()
             .collect(ImmutableList.toImmutableList());
     CsvExportConfig exportConfig = generateDefaultCsvExportConfig(allProgramVersions);
+    ImmutableMap<Long, ProgramDefinition> programDefinitions =
+        allProgramVersions.stream()
+            .collect(ImmutableMap.toImmutableMap(ProgramDefinition::id, Function.identity()));
+
+    return streamCsv(
+        exportConfig,
+        Source.unfoldResource(
+                () -> new ApplicationPageReader(programId, filters),
+                ApplicationPageReader::nextPage,
+                reader -> {})
+            .mapConcat(page -> page)
+            .map(
+                application ->
+                    Pair.of(
+                        application,
+                        getProgramDefinition(programDefinitions, application.getProgram().id))));
+  }
 
-    ImmutableList<Application> applications =
-        programService
-            .getSubmittedProgramApplicationsAllVersions(
-                programId,
-                F.Either.Left(IdentifierBasedPaginationSpec.MAX_PAGE_SIZE_SPEC_LONG),
-                filters)
-            .getPageContents();
-
-    return exportCsv(exportConfig, applications);
+  /**
+   * Streams a CSV of the applications, each paired with the program definition to render it with.
+   * Rows are rendered in parallel on the {@link ExportExecutionContext}, written in the order of
+   * {@code applications} after the header row, and grouped into chunks of up to {@link
+   * #STREAMING_PAGE_SIZE} rows while the client is slower than rendering.
+   */
+  private Source<ByteString, NotUsed> streamCsv(
+      CsvExportConfig exportConfig,
+      Source<Pair<Application, ProgramDefinition>, NotUsed> applications) {
+    StringWriter header = new StringWriter();
+    CsvExporter csvExporter = newCsvExporter(exportConfig, header);
+
+    return applications
+        .via(
+            exportExecutionContext.renderInOrder(
+                (Pair<Application, ProgramDefinition> application) ->
+                    renderCsvRow(csvExporter, application.getLeft(), application.getRight())))
+        .prepend(Source.single(header.toString()))
+        .map(row -> ByteString.fromString(row, StandardCharsets.UTF_8))
+        .batch(STREAMING_PAGE_SIZE, chunk -> chunk, ByteString::concat);
   }
 
+  /**
+   * Produce the default CSV config for all versions of a program. The answer columns are derived
+   * from the structure of the program versions by {@link CsvColumnSchema}, sized by the repeated
+   * entity counts recorded in the {@link models.ProgramColumnSchema} index.
+   */
   private CsvExportConfig generateDefaultCsvExportConfig(
       ImmutableList<ProgramDefinition> programDefinitions) throws ProgramNotFoundException {
-    Map<Path, AnswerData> answerMap = new HashMap<>();
-
-    for (ProgramDefinition programDefinition : programDefinitions) {
-      for (Application application :
-          programService.getSubmittedProgramApplications(programDefinition.id())) {
-        applicantService
-            .getReadOnlyApplicantProgramService(application, programDefinition)
-            .getSummaryData()
-            .forEach(data -> answerMap.putIfAbsent(data.contextualizedPath(), data));
+    CsvColumnSchema columnSchema = new CsvColumnSchema(programDefinitions);
+
+    ImmutableSet<Long> programIdsWithEnumerators =
+        programDefinitions.stream()
+            .filter(
+                programDefinition ->
+                    programDefinition.blockDefinitions().stream()
+                        .anyMatch(BlockDefinition::isEnumerator))
+            .map(ProgramDefinition::id)
+            .collect(ImmutableSet.toImmutableSet());
+    ImmutableMap<Long, ImmutableMap<Path, Integer>> indexedCardinalities =
+        programColumnSchemaRepository.getBackfilledEnumeratorCardinalities(
+            programIdsWithEnumerators);
+
+    for (long programId : programIdsWithEnumerators) {
+      if (indexedCardinalities.containsKey(programId)) {
+        columnSchema.recordEnumeratorCardinalities(indexedCardinalities.get(programId));
+      } else {
+        // The program version received applications before the index was maintained, so count
+        // them now. Later exports read the index instead.
+        columnSchema.recordEnumeratorCardinalities(
+            programColumnSchemaRepository.backfillEnumeratorCardinalities(programId));
       }
     }
 
-    // Get the list of all answers, sorted by block ID, then question index, and finally
-    // contextualized path in string form.
-    ImmutableList<AnswerData> answers =
-        answerMap.values().stream()
-            .sorted(
-                Comparator.comparing(AnswerData::blockId)
-                    .thenComparing(AnswerData::questionIndex)
-                    .thenComparing(answerData -> answerData.contextualizedPath().toString()))
-            .collect(ImmutableList.toImmutableList());
-
-    return generateDefaultCsvConfig(answers);
+    return generateDefaultCsvConfigForAnswerPaths(columnSchema.getAnswerPaths());
   }
 
   /**
@@ -142,42 +202,78 @@ public final class CsvExporterService {
     return exportCsv(generateDefaultCsvConfig(programId), applications);
   }
 
+  /**
+   * Renders the applications into a CSV. Rows are rendered in parallel on the {@link
+   * ExportExecutionContext} and written in the order of {@code applications}.
+   */
   private String exportCsv(CsvExportConfig exportConfig, ImmutableList<Application> applications) {
-    OutputStream inMemoryBytes = new ByteArrayOutputStream();
-    try (Writer writer = new OutputStreamWriter(inMemoryBytes, StandardCharsets.UTF_8)) {
-      try (CsvExporter csvExporter =
-          new CsvExporter(
-              exportConfig.columns(),
-              config.getString("play.http.secret.key"),
-              writer,
-              dateConverter)) {
-        // Cache Program data which doesn't change, so we only look it up once rather than on every
-        // exported row.
-        // TODO(#1750): Lookup all relevant programs in one request to reduce cost of N lookups.
-        // TODO(#1750): Consider Play's JavaCache over this caching.
-        HashMap<Long, ProgramDefinition> programDefinitions = new HashMap<>();
-        for (Application application : applications) {
-          Long programId = application.getProgram().id;
-          if (!programDefinitions.containsKey(programId)) {
-            try {
-              programDefinitions.put(programId, programService.getProgramDefinition(programId));
-            } catch (ProgramNotFoundException e) {
-              throw new RuntimeException("Cannot find a program that has applications for it.", e);
-            }
-          }
-          ProgramDefinition programDefinition = programDefinitions.get(programId);
-
-          ReadOnlyApplicantProgramService roApplicantService =
-              applicantService.getReadOnlyApplicantProgramService(application, programDefinition);
-          csvExporter.exportRecord(application, roApplicantService);
+    // Cache Program data which doesn't change, so we only look it up once rather than on every
+    // exported row.
+    // TODO(#1750): Lookup all relevant programs in one request to reduce cost of N lookups.
+    // TODO(#1750): Consider Play's JavaCache over this caching.
+    HashMap<Long, ProgramDefinition> programDefinitions = new HashMap<>();
+    for (Application application : applications) {
+      Long programId = application.getProgram().id;
+      if (!programDefinitions.containsKey(programId)) {
+        try {
+          programDefinitions.put(programId, programService.getProgramDefinition(programId));
+        } catch (ProgramNotFoundException e) {
+          throw new RuntimeException("Cannot find a program that has applications for it.", e);
         }
       }
+    }
+
+    StringWriter csv = new StringWriter();
+    CsvExporter csvExporter = newCsvExporter(exportConfig, csv);
+    exportExecutionContext
+        .renderAllInOrder(
+            applications,
+            application ->
+                renderCsvRow(
+                    csvExporter, application, programDefinitions.get(application.getProgram().id)))
+        .forEach(csv::write);
+    return csv.toString();
+  }
+
+  /** Returns a {@link CsvExporter} for the config, having written the header row to {@code csv}. */
+  private CsvExporter newCsvExporter(CsvExportConfig exportConfig, StringWriter csv) {
+    try {
+      return new CsvExporter(
+          exportConfig.columns(), config.getString("play.http.secret.key"), csv, dateConverter);
     } catch (IOException e) {
       // Since it's an in-memory writer, this shouldn't happen.  Catch so that callers don't
       // have to deal with it.
       throw new RuntimeException(e);
     }
-    return inMemoryBytes.toString();
+  }
+
+  /**
+   * Returns the CSV row for an application. This is called from several threads of the {@link
+   * ExportExecutionContext} at once.
+   */
+  private String renderCsvRow(
+      CsvExporter csvExporter, Application application, ProgramDefinition programDefinition) {
+    try {
+      return csvExporter.renderRecord(
+          application,
+          applicantService.getReadOnlyApplicantProgramService(application, programDefinition));
+    } catch (IOException e) {
+      // Rows are rendered into memory, so this shouldn't happen.
+      throw new RuntimeException(e);
+    }
+  }
+
+  private ProgramDefinition getProgramDefinition(
+      ImmutableMap<Long, ProgramDefinition> programDefinitions, long applicationProgramId) {
+    ProgramDefinition programDefinition = programDefinitions.get(applicationProgramId);
+    if (programDefinition == null) {
+      try {
+        return programService.getProgramDefinition(applicationProgramId);
+      } catch (ProgramNotFoundException e) {
+        throw new RuntimeException("Cannot find a program that has applications for it.", e);
+      }
+    }
+    return programDefinition;
   }
 
   /**
@@ -225,6 +321,22 @@ public final class CsvExporterService {
    * config includes all the questions, the application id, and the application submission time.
    */
   private CsvExportConfig generateDefaultCsvConfig(ImmutableList<AnswerData> answerDataList) {
+    ImmutableList.Builder<Path> answerPaths = ImmutableList.builder();
+    for (AnswerData answerData : answerDataList) {
+      if (answerData.questionDefinition().isEnumerator()) {
+        continue; // Do not include Enumerator answers in CSVs.
+      }
+      answerPaths.addAll(answerData.scalarAnswersInDefaultLocale().keySet());
+    }
+    return generateDefaultCsvConfigForAnswerPaths(answerPaths.build());
+  }
+
+  /**
+   * Produce the default {@link CsvExportConfig} for a list of paths to scalar answers. The default
+   * config includes a column for each answer path, the application id, and the application
+   * submission time.
+   */
+  private CsvExportConfig generateDefaultCsvConfigForAnswerPaths(ImmutableList<Path> answerPaths) {
     ImmutableList.Builder<Column> columnsBuilder = new ImmutableList.Builder<>();
 
     // Default columns
@@ -254,18 +366,13 @@ public final class CsvExporterService {
     }
 
     // Add columns for each path to an answer.
-    for (AnswerData answerData : answerDataList) {
-      if (answerData.questionDefinition().isEnumerator()) {
-        continue; // Do not include Enumerator answers in CSVs.
-      }
-      for (Path path : answerData.scalarAnswersInDefaultLocale().keySet()) {
-        columnsBuilder.add(
-            Column.builder()
-                .setHeader(pathToHeader(path))
-                .setJsonPath(path)
-                .setColumnType(ColumnType.APPLICANT_ANSWER)
-                .build());
-      }
+    for (Path path : answerPaths) {
+      columnsBuilder.add(
+          Column.builder()
+              .setHeader(pathToHeader(path))
+              .setJsonPath(path)
+              .setColumnType(ColumnType.APPLICANT_ANSWER)
+              .build());
     }
     return new CsvExportConfig() {
       @Override
@@ -328,10 +435,69 @@ public final class CsvExporterService {
   }
 
   /**
-   * A string containing the CSV which maps applicants (opaquely) to the programs they applied to.
+   * Loads the applications to all versions of a program one page at a time. Each call to {@link
+   * #nextPage()} loads the next page of applications older than the last one loaded.
+   */
+  private final class ApplicationPageReader {
+    private final long programId;
+    private final SubmittedApplicationFilter filters;
+    private long lastApplicationId = Long.MAX_VALUE;
+    private boolean exhausted = false;
+
+    ApplicationPageReader(long programId, SubmittedApplicationFilter filters) {
+      this.programId = programId;
+      this.filters = checkNotNull(filters);
+    }
+
+    /** Returns the next page of applications, or empty once all applications have been loaded. */
+    Optional<ImmutableList<Application>> nextPage() throws ProgramNotFoundException {
+      if (exhausted) {
+        return Optional.empty();
+      }
+
+      ImmutableList<Application> applications =
+          programService
+              .getSubmittedProgramApplicationsAllVersions(
+                  programId,
+                  F.Either.Left(
+                      new IdentifierBasedPaginationSpec<>(STREAMING_PAGE_SIZE, lastApplicationId)),
+                  filters)
+              .getPageContents();
+      if (!applications.isEmpty()) {
+        lastApplicationId = applications.get(applications.size() - 1).id;
+      }
+      exhausted = applications.size() < STREAMING_PAGE_SIZE;
+      return Optional.of(applications);
+    }
+  }
+
+  /**
+   * Return a {@link Source} that streams a CSV which maps applicants (opaquely) to the programs
+   * they applied to.
+   *
+   * <p>Applications are read from a database cursor as the CSV is written rather than loaded all at
+   * once, so memory use stays flat however many applications the time range covers.
    */
-  public String getDemographicsCsv(TimeFilter filter) {
-    return exportCsv(getDemographicsExporterConfig(), applicantService.getApplications(filter));
+  public Source<ByteString, NotUsed> getDemographicsCsv(TimeFilter filter) {
+    return streamCsv(
+        getDemographicsExporterConfig(),
+        applicantService
+            .streamApplications(filter)
+            .statefulMapConcat(
+                () -> {
+                  // Cache Program data which doesn't change, so we only look it up once per
+                  // program rather than on every exported row.
+                  HashMap<Long, ProgramDefinition> programDefinitions = new HashMap<>();
+                  return application -> {
+                    long programId = application.getProgram().id;
+                    if (!programDefinitions.containsKey(programId)) {
+                      programDefinitions.put(
+                          programId, programService.getProgramDefinition(programId));
+                    }
+                    return ImmutableList.of(
+                        Pair.of(application, programDefinitions.get(programId)));
+                  };
+                }));
   }
 
   private CsvExportConfig getDemographicsExporterConfig() {
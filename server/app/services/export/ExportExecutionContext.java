@@ -0,0 +1,65 @@
+package services.export;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import akka.NotUsed;
+import akka.actor.ActorSystem;
+import akka.stream.javadsl.Flow;
+import com.google.common.collect.ImmutableList;
+import com.typesafe.config.Config;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import play.libs.concurrent.CustomExecutionContext;
+import services.BlockingJoins;
+
+/**
+ * Custom execution context for rendering the rows of exports.
+ *
+ * <p>Rendering a row builds the applicant's view of a program and formats each of their answers,
+ * which is CPU-bound. Work runs on the "export.dispatcher" fork-join pool, sized to the number of
+ * cores, so a large export can use all of them without holding up request handling or database
+ * work. Rows are always emitted in the order their applications were read.
+ */
+@Singleton
+public final class ExportExecutionContext extends CustomExecutionContext {
+
+  private final int renderParallelism;
+
+  @Inject
+  public ExportExecutionContext(ActorSystem actorSystem, Config config) {
+    super(checkNotNull(actorSystem), "export.dispatcher");
+    this.renderParallelism = checkNotNull(config).getInt("export_render_parallelism");
+  }
+
+  /**
+   * Returns a stage that renders each element on this context, up to {@code
+   * export_render_parallelism} at a time, and emits the results in the order the elements arrived.
+   * Upstream is only pulled while fewer than that many elements are being rendered.
+   */
+  <T, R> Flow<T, R, NotUsed> renderInOrder(Function<T, R> renderer) {
+    return Flow.<T>create()
+        .mapAsync(
+            renderParallelism,
+            element -> CompletableFuture.supplyAsync(() -> renderer.apply(element), this));
+  }
+
+  /**
+   * Renders each element on this context and returns the results in the order of {@code
+   * elements}, waiting until all of them are done.
+   */
+  <T, R> ImmutableList<R> renderAllInOrder(ImmutableList<T> elements, Function<T, R> renderer) {
+    ImmutableList<CompletableFuture<R>> rendered =
+        elements.stream()
+            .map(element -> CompletableFuture.supplyAsync(() -> renderer.apply(element), this))
+            .collect(ImmutableList.toImmutableList());
+    // Joined in a loop rather than a stream so the blocking joins metric attributes the waits to
+    // this method.
+    ImmutableList.Builder<R> results = ImmutableList.builderWithExpectedSize(rendered.size());
+    for (CompletableFuture<R> future : rendered) {
+      results.add(BlockingJoins.join(future));
+    }
+    return results.build();
+  }
+}
@@ -2,9 +2,19 @@ package services.export;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import akka.NotUsed;
+import akka.stream.javadsl.Source;
+import akka.util.ByteString;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
 import com.jayway.jsonpath.DocumentContext;
 import featureflags.FeatureFlags;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
@@ -35,21 +45,30 @@ import services.question.LocalizedQuestionOption;
 /** Exports all applications for a given program as JSON. */
 public final class JsonExporter {
 
+  /** Serializes the applications built by {@link #buildJsonApplication}. */
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  /** The number of applications loaded from the database per chunk of a streamed page. */
+  private static final int STREAMING_CHUNK_SIZE = 100;
+
   private final ApplicantService applicantService;
   private final ProgramService programService;
   private final FeatureFlags featureFlags;
   private final DateConverter dateConverter;
+  private final ExportExecutionContext exportExecutionContext;
 
   @Inject
   JsonExporter(
       ApplicantService applicantService,
       ProgramService programService,
       FeatureFlags featureFlags,
-      DateConverter dateConverter) {
+      DateConverter dateConverter,
+      ExportExecutionContext exportExecutionContext) {
     this.applicantService = checkNotNull(applicantService);
     this.programService = checkNotNull(programService);
     this.featureFlags = checkNotNull(featureFlags);
     this.dateConverter = dateConverter;
+    this.exportExecutionContext = checkNotNull(exportExecutionContext);
   }
 
   public Pair<String, PaginationResult<Application>> export(
@@ -68,18 +87,100 @@ public final class JsonExporter {
     return export(programDefinition, paginationResult);
   }
 
+  /**
+   * Returns the page of applications as a JSON array. The applications are built in parallel on
+   * the {@link ExportExecutionContext}, and appear in the array in the order of the page.
+   */
   public Pair<String, PaginationResult<Application>> export(
       ProgramDefinition programDefinition, PaginationResult<Application> paginationResult) {
-    var applications = paginationResult.getPageContents();
+    ByteArrayOutputStream json = new ByteArrayOutputStream();
+    try (JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(json)) {
+      generator.writeStartArray();
+      writeApplications(generator, programDefinition, paginationResult.getPageContents());
+      generator.writeEndArray();
+    } catch (IOException e) {
+      // Since it's an in-memory stream, this shouldn't happen.
+      throw new RuntimeException(e);
+    }
+
+    return Pair.of(json.toString(StandardCharsets.UTF_8), paginationResult);
+  }
 
-    DocumentContext jsonApplications = makeEmptyJsonArray();
+  /**
+   * Returns a {@link Source} that streams a page of the applications to all versions of a program
+   * as a JSON array, newest first. {@code envelope} can write JSON around the array, such as an
+   * object it is a field of.
+   *
+   * <p>Applications are loaded {@link #STREAMING_CHUNK_SIZE} at a time and each chunk is written
+   * before the next one is loaded, so memory use doesn't grow with the page size and the first
+   * bytes are sent before the rest of the page has been loaded. The source reads from the database,
+   * so it is run on Akka's blocking IO dispatcher when materialized.
+   *
+   * <p>The source fails if a chunk can't be loaded or written. Any chunks emitted before that are
+   * an incomplete JSON document, so callers that stream to a client should wait for the first chunk
+   * before committing to a response status.
+   */
+  public Source<ByteString, NotUsed> streamPage(
+      ProgramDefinition programDefinition,
+      IdentifierBasedPaginationSpec<Long> paginationSpec,
+      SubmittedApplicationFilter filters,
+      PageEnvelope envelope) {
+    return streamPage(programDefinition, paginationSpec, filters, envelope, STREAMING_CHUNK_SIZE);
+  }
 
-    for (Application application : applications) {
-      CfJsonDocumentContext applicationJson = buildJsonApplication(application, programDefinition);
-      jsonApplications.add("$", applicationJson.getDocumentContext().json());
-    }
+  @VisibleForTesting
+  Source<ByteString, NotUsed> streamPage(
+      ProgramDefinition programDefinition,
+      IdentifierBasedPaginationSpec<Long> paginationSpec,
+      SubmittedApplicationFilter filters,
+      PageEnvelope envelope,
+      int chunkSize) {
+    return Source.unfoldResource(
+        () -> new JsonPageStream(programDefinition, paginationSpec, filters, envelope, chunkSize),
+        JsonPageStream::nextChunk,
+        JsonPageStream::close);
+  }
+
+  /** Writes the JSON around a page of applications streamed by {@link #streamPage}. */
+  public interface PageEnvelope {
+
+    /** Writes nothing, so the array of applications is the whole document. */
+    PageEnvelope NONE =
+        new PageEnvelope() {
+          @Override
+          public void writeStart(JsonGenerator generator) {}
+
+          @Override
+          public void writeEnd(JsonGenerator generator, Optional<Long> nextPageOffsetIdentifier) {}
+        };
+
+    /** Writes the JSON before the array of applications. */
+    void writeStart(JsonGenerator generator) throws IOException;
+
+    /**
+     * Writes the JSON after the array of applications.
+     *
+     * @param nextPageOffsetIdentifier the ID to load the next page of applications from, or empty
+     *     if this was the last page
+     */
+    void writeEnd(JsonGenerator generator, Optional<Long> nextPageOffsetIdentifier)
+        throws IOException;
+  }
 
-    return Pair.of(jsonApplications.jsonString(), paginationResult);
+  /**
+   * Builds the applications in parallel on the {@link ExportExecutionContext}, then writes them to
+   * the generator in order.
+   */
+  private void writeApplications(
+      JsonGenerator generator,
+      ProgramDefinition programDefinition,
+      ImmutableList<Application> applications)
+      throws IOException {
+    for (CfJsonDocumentContext applicationJson :
+        exportExecutionContext.renderAllInOrder(
+            applications, application -> buildJsonApplication(application, programDefinition))) {
+      generator.writeObject(applicationJson.getDocumentContext().json());
+    }
   }
 
   private CfJsonDocumentContext buildJsonApplication(
@@ -205,11 +306,84 @@ public final class JsonExporter {
     return jsonApplication;
   }
 
-  private DocumentContext makeEmptyJsonArray() {
-    return JsonPathProvider.getJsonPath().parse("[]");
-  }
-
   private DocumentContext makeEmptyJsonObject() {
     return JsonPathProvider.getJsonPath().parse("{}");
   }
+
+  /**
+   * Writes a page of applications one chunk at a time. Each call to {@link #nextChunk()} loads the
+   * next chunk of applications older than the last one written and writes them, until the page is
+   * full or there are no more applications.
+   */
+  private final class JsonPageStream implements AutoCloseable {
+    private final ProgramDefinition programDefinition;
+    private final SubmittedApplicationFilter filters;
+    private final PageEnvelope envelope;
+    private final int chunkSize;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final JsonGenerator generator;
+    private int remainingPageSize;
+    private long lastApplicationId;
+    private boolean exhausted = false;
+
+    JsonPageStream(
+        ProgramDefinition programDefinition,
+        IdentifierBasedPaginationSpec<Long> paginationSpec,
+        SubmittedApplicationFilter filters,
+        PageEnvelope envelope,
+        int chunkSize)
+        throws IOException {
+      this.programDefinition = checkNotNull(programDefinition);
+      this.filters = checkNotNull(filters);
+      this.envelope = checkNotNull(envelope);
+      this.chunkSize = chunkSize;
+      this.remainingPageSize = paginationSpec.getPageSize();
+      this.lastApplicationId = paginationSpec.getCurrentPageOffsetIdentifier();
+      this.generator = OBJECT_MAPPER.getFactory().createGenerator(buffer);
+      envelope.writeStart(generator);
+      generator.writeStartArray();
+    }
+
+    /**
+     * Returns the JSON for the next chunk of applications, or empty once the page has been
+     * written. The first chunk also contains the start of the envelope, and the last its end.
+     */
+    Optional<ByteString> nextChunk() throws IOException, ProgramNotFoundException {
+      if (exhausted) {
+        return Optional.empty();
+      }
+
+      PaginationResult<Application> chunk =
+          programService.getSubmittedProgramApplicationsAllVersions(
+              programDefinition.id(),
+              F.Either.Left(
+                  new IdentifierBasedPaginationSpec<>(
+                      Math.min(remainingPageSize, chunkSize), lastApplicationId)),
+              filters);
+      ImmutableList<Application> applications = chunk.getPageContents();
+      writeApplications(generator, programDefinition, applications);
+      remainingPageSize -= applications.size();
+      if (!applications.isEmpty()) {
+        lastApplicationId = Iterables.getLast(applications).id;
+      }
+
+      exhausted = remainingPageSize == 0 || !chunk.hasMorePages();
+      if (exhausted) {
+        generator.writeEndArray();
+        envelope.writeEnd(
+            generator,
+            chunk.hasMorePages() ? Optional.of(lastApplicationId) : Optional.empty());
+      }
+      generator.flush();
+
+      ByteString bytes = ByteString.fromArray(buffer.toByteArray());
+      buffer.reset();
+      return Optional.of(bytes);
+    }
+
+    @Override
+    public void close() throws IOException {
+      generator.close();
+    }
+  }
 }
@@ -9,6 +9,7 @@ import com.itextpdf.text.Anchor;
 import com.itextpdf.text.Chunk;
 import com.itextpdf.text.Document;
 import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Font;
 import com.itextpdf.text.FontFactory;
 import com.itextpdf.text.Paragraph;
 import com.itextpdf.text.pdf.PdfWriter;
@@ -29,6 +30,14 @@ import services.applicant.ReadOnlyApplicantProgramService;
 
 /** PdfExporter is meant to generate PDF files. */
 public final class PdfExporter {
+  // Fonts are only read while building documents, so they are created once and shared by every
+  // document, including documents built at the same time for a bulk export.
+  private static final Font APPLICANT_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16);
+  private static final Font PROGRAM_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 15);
+  private static final Font LABEL_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12);
+  private static final Font ANSWER_FONT = FontFactory.getFont(FontFactory.HELVETICA, 11);
+  private static final Font TIMESTAMP_FONT = FontFactory.getFont(FontFactory.HELVETICA, 10);
+
   private final ApplicantService applicantService;
   private final Provider<LocalDateTime> nowProvider;
   private final String baseUrl;
@@ -53,11 +62,20 @@ public final class PdfExporter {
    * generate the required PDF.
    */
   public InMemoryPdf export(Application application) throws DocumentException, IOException {
-    ReadOnlyApplicantProgramService roApplicantService =
+    return export(
+        application,
         applicantService
             .getReadOnlyApplicantProgramService(application)
             .toCompletableFuture()
-            .join();
+            .join());
+  }
+
+  /**
+   * Like {@link #export(Application)}, for callers that already have the application's {@link
+   * ReadOnlyApplicantProgramService}. Safe to call from several threads at once.
+   */
+  InMemoryPdf export(Application application, ReadOnlyApplicantProgramService roApplicantService)
+      throws DocumentException, IOException {
     ImmutableList<AnswerData> answers = roApplicantService.getSummaryData();
 
     String applicantNameWithApplicationId =
@@ -90,27 +108,17 @@ public final class PdfExporter {
       writer = PdfWriter.getInstance(document, byteArrayOutputStream);
       document.open();
 
-      Paragraph applicant =
-          new Paragraph(
-              applicantNameWithApplicationId, FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16));
-      Paragraph program =
-          new Paragraph(
-              "Program Name : " + programName, FontFactory.getFont(FontFactory.HELVETICA_BOLD, 15));
+      Paragraph applicant = new Paragraph(applicantNameWithApplicationId, APPLICANT_FONT);
+      Paragraph program = new Paragraph("Program Name : " + programName, PROGRAM_FONT);
       document.add(applicant);
       document.add(program);
       if (featureFlags.isStatusTrackingEnabled()) {
-        Paragraph status =
-            new Paragraph(
-                "Status: " + statusValue.orElse("none"),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12));
+        Paragraph status = new Paragraph("Status: " + statusValue.orElse("none"), LABEL_FONT);
         document.add(status);
       }
       document.add(Chunk.NEWLINE);
       for (AnswerData answerData : answers) {
-        Paragraph question =
-            new Paragraph(
-                answerData.questionDefinition().getName(),
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12));
+        Paragraph question = new Paragraph(answerData.questionDefinition().getName(), LABEL_FONT);
         final Paragraph answer;
         if (answerData.encodedFileKey().isPresent()) {
           String encodedFileKey = answerData.encodedFileKey().get();
@@ -121,16 +129,13 @@ public final class PdfExporter {
           answer = new Paragraph();
           answer.add(anchor);
         } else {
-          answer =
-              new Paragraph(
-                  answerData.answerText(), FontFactory.getFont(FontFactory.HELVETICA, 11));
+          answer = new Paragraph(answerData.answerText(), ANSWER_FONT);
         }
         LocalDate date =
             Instant.ofEpochMilli(answerData.timestamp())
                 .atZone(ZoneId.systemDefault())
                 .toLocalDate();
-        Paragraph time =
-            new Paragraph("Answered on : " + date, FontFactory.getFont(FontFactory.HELVETICA, 10));
+        Paragraph time = new Paragraph("Answered on : " + date, TIMESTAMP_FONT);
         time.setAlignment(Paragraph.ALIGN_RIGHT);
         document.add(question);
         document.add(answer);
@@ -0,0 +1,187 @@
+package services.export;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import akka.NotUsed;
+import akka.stream.javadsl.Source;
+import akka.util.ByteString;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.itextpdf.text.DocumentException;
+import com.typesafe.config.Config;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import models.Application;
+import play.inject.ApplicationLifecycle;
+import play.libs.F;
+import repository.SubmittedApplicationFilter;
+import services.IdentifierBasedPaginationSpec;
+import services.applicant.ApplicantService;
+import services.program.ProgramDefinition;
+import services.program.ProgramNotFoundException;
+import services.program.ProgramService;
+
+/**
+ * Exports the applications to a program as a ZIP file of PDFs, one per application.
+ *
+ * <p>The ZIP is streamed as it is generated. Applications are loaded a page at a time and each
+ * page is rendered on a pool of {@code pdf_export_concurrency} threads, so only one page of PDFs is
+ * held in memory at once however many applications the program has.
+ */
+@Singleton
+public final class PdfZipExporter {
+
+  /** The number of applications loaded from the database, and rendered, per chunk of the ZIP. */
+  private static final int STREAMING_PAGE_SIZE = 20;
+
+  private final PdfExporter pdfExporter;
+  private final ProgramService programService;
+  private final ApplicantService applicantService;
+  private final ExecutorService renderExecutor;
+
+  @Inject
+  public PdfZipExporter(
+      PdfExporter pdfExporter,
+      ProgramService programService,
+      ApplicantService applicantService,
+      Config config,
+      ApplicationLifecycle appLifecycle) {
+    this.pdfExporter = checkNotNull(pdfExporter);
+    this.programService = checkNotNull(programService);
+    this.applicantService = checkNotNull(applicantService);
+    this.renderExecutor =
+        Executors.newFixedThreadPool(
+            checkNotNull(config).getInt("pdf_export_concurrency"),
+            new ThreadFactoryBuilder().setNameFormat("pdf-export-%d").setDaemon(true).build());
+
+    checkNotNull(appLifecycle)
+        .addStopHook(
+            () -> {
+              renderExecutor.shutdown();
+              return CompletableFuture.completedFuture(null);
+            });
+  }
+
+  /**
+   * Returns a ZIP containing a PDF of each application submitted to any version of the program
+   * that matches the filters, newest first.
+   */
+  public Source<ByteString, NotUsed> exportProgramApplications(
+      long programId, SubmittedApplicationFilter filters) throws ProgramNotFoundException {
+    ImmutableMap<Long, ProgramDefinition> programDefinitions =
+        programService.getAllProgramDefinitionVersions(programId).stream()
+            .collect(ImmutableMap.toImmutableMap(ProgramDefinition::id, Function.identity()));
+
+    return Source.unfoldResource(
+        () -> new PdfZipStream(programId, filters, programDefinitions),
+        PdfZipStream::nextChunk,
+        PdfZipStream::close);
+  }
+
+  /**
+   * Writes the applications to all versions of a program into a ZIP one page at a time. Each call
+   * to {@link #nextChunk()} loads the next page of applications older than the last one written,
+   * renders their PDFs in parallel, and returns the ZIP entries for them in order.
+   */
+  private final class PdfZipStream implements AutoCloseable {
+    private final long programId;
+    private final SubmittedApplicationFilter filters;
+    private final ImmutableMap<Long, ProgramDefinition> programDefinitions;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final ZipOutputStream zip = new ZipOutputStream(buffer);
+    private long lastApplicationId = Long.MAX_VALUE;
+    private boolean exhausted = false;
+
+    PdfZipStream(
+        long programId,
+        SubmittedApplicationFilter filters,
+        ImmutableMap<Long, ProgramDefinition> programDefinitions) {
+      this.programId = programId;
+      this.filters = checkNotNull(filters);
+      this.programDefinitions = checkNotNull(programDefinitions);
+    }
+
+    /**
+     * Returns the ZIP entries for the next page of applications, or empty once all applications
+     * have been written. The last chunk also contains the ZIP's central directory.
+     */
+    Optional<ByteString> nextChunk() throws IOException, ProgramNotFoundException {
+      if (exhausted) {
+        return Optional.empty();
+      }
+
+      ImmutableList<Application> applications =
+          programService
+              .getSubmittedProgramApplicationsAllVersions(
+                  programId,
+                  F.Either.Left(
+                      new IdentifierBasedPaginationSpec<>(STREAMING_PAGE_SIZE, lastApplicationId)),
+                  filters)
+              .getPageContents();
+
+      ImmutableList.Builder<CompletableFuture<PdfExporter.InMemoryPdf>> pdfs =
+          ImmutableList.builder();
+      for (Application application : applications) {
+        ProgramDefinition programDefinition = getProgramDefinition(application.getProgram().id);
+        pdfs.add(
+            CompletableFuture.supplyAsync(
+                () -> render(application, programDefinition), renderExecutor));
+        lastApplicationId = application.id;
+      }
+      for (CompletableFuture<PdfExporter.InMemoryPdf> pdf : pdfs.build()) {
+        writeEntry(pdf.join());
+      }
+
+      exhausted = applications.size() < STREAMING_PAGE_SIZE;
+      if (exhausted) {
+        zip.finish();
+      }
+
+      ByteString chunk = ByteString.fromArray(buffer.toByteArray());
+      buffer.reset();
+      return Optional.of(chunk);
+    }
+
+    private PdfExporter.InMemoryPdf render(
+        Application application, ProgramDefinition programDefinition) {
+      try {
+        return pdfExporter.export(
+            application,
+            applicantService.getReadOnlyApplicantProgramService(application, programDefinition));
+      } catch (DocumentException | IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+
+    private void writeEntry(PdfExporter.InMemoryPdf pdf) throws IOException {
+      // Applicant names are part of the file name, and must not be read as directories.
+      zip.putNextEntry(new ZipEntry(pdf.getFileName().replaceAll("[/\\\\]", "_")));
+      zip.write(pdf.getByteArray());
+      zip.closeEntry();
+    }
+
+    private ProgramDefinition getProgramDefinition(long applicationProgramId)
+        throws ProgramNotFoundException {
+      ProgramDefinition programDefinition = programDefinitions.get(applicationProgramId);
+      if (programDefinition == null) {
+        return programService.getProgramDefinition(applicationProgramId);
+      }
+      return programDefinition;
+    }
+
+    @Override
+    public void close() throws IOException {
+      zip.close();
+    }
+  }
+}
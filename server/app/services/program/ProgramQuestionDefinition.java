@@ -4,7 +4,16 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import java.util.Optional;
+import java.util.function.Function;
+import services.Path;
+import services.applicant.ApplicantData;
+import services.applicant.question.Scalar;
+import services.question.exceptions.InvalidQuestionTypeException;
+import services.question.exceptions.UnsupportedQuestionTypeException;
 import services.question.types.QuestionDefinition;
 
 /**
@@ -55,6 +64,43 @@ public abstract class ProgramQuestionDefinition {
     return questionDefinition().isPresent();
   }
 
+  /**
+   * The contextualized path for this question when it is not about a repeated entity, such as
+   * {@code applicant.favorite_color}. Questions about repeated entities are contextualized with
+   * their entity instead.
+   */
+  @JsonIgnore
+  @Memoized
+  public Path getNonRepeatedContextualizedPath() {
+    return getQuestionDefinition()
+        .getContextualizedPath(
+            /* repeatedEntity= */ Optional.empty(), ApplicantData.APPLICANT_PATH);
+  }
+
+  /**
+   * The contextualized paths to each of this question's scalars, including metadata scalars, when
+   * it is not about a repeated entity. Enumerator questions only have metadata scalars.
+   *
+   * <p>These are computed once per loaded program, rather than every time a block is rendered or
+   * saved.
+   */
+  @JsonIgnore
+  @Memoized
+  public ImmutableMap<Scalar, Path> getNonRepeatedScalarPaths() {
+    ImmutableSet.Builder<Scalar> scalars = ImmutableSet.builder();
+    if (!getQuestionDefinition().isEnumerator()) {
+      try {
+        scalars.addAll(Scalar.getScalars(getQuestionDefinition().getQuestionType()));
+      } catch (InvalidQuestionTypeException | UnsupportedQuestionTypeException e) {
+        throw new RuntimeException(e);
+      }
+    }
+    scalars.addAll(Scalar.getMetadataScalars());
+    Path questionPath = getNonRepeatedContextualizedPath();
+    return scalars.build().stream()
+        .collect(ImmutableMap.toImmutableMap(Function.identity(), questionPath::join));
+  }
+
   @JsonCreator
   static ProgramQuestionDefinition create(
       @JsonProperty("id") long id, @JsonProperty("optional") boolean optional) {
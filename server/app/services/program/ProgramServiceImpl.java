@@ -7,7 +7,6 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Streams;
 import com.google.inject.Inject;
 import forms.BlockForm;
 import java.util.List;
@@ -22,6 +21,7 @@ import java.util.stream.IntStream;
 import models.Account;
 import models.Application;
 import models.DisplayMode;
+import models.LifecycleStage;
 import models.Program;
 import models.Version;
 import modules.MainModule;
@@ -32,6 +32,7 @@ import repository.ProgramRepository;
 import repository.SubmittedApplicationFilter;
 import repository.UserRepository;
 import repository.VersionRepository;
+import services.BlockingJoins;
 import services.CiviFormError;
 import services.ErrorAnd;
 import services.IdentifierBasedPaginationSpec;
@@ -71,7 +72,7 @@ public final class ProgramServiceImpl implements ProgramService {
   @Override
   public ProgramDefinition getProgramDefinition(long id) throws ProgramNotFoundException {
     try {
-      return getActiveProgramDefinitionAsync(id).toCompletableFuture().join();
+      return BlockingJoins.join(getActiveProgramDefinitionAsync(id));
     } catch (CompletionException e) {
       if (e.getCause() instanceof ProgramNotFoundException) {
         throw new ProgramNotFoundException(id);
@@ -87,6 +88,12 @@ public final class ProgramServiceImpl implements ProgramService {
 
   @Override
   public CompletionStage<ProgramDefinition> getActiveProgramDefinitionAsync(long id) {
+    Optional<ProgramDefinition> cachedDefinition =
+        programRepository.getFullProgramDefinitionFromCache(id);
+    if (cachedDefinition.isPresent()) {
+      return CompletableFuture.completedStage(cachedDefinition.get());
+    }
+
     return programRepository
         .lookupProgram(id)
         .thenComposeAsync(
@@ -108,17 +115,48 @@ public final class ProgramServiceImpl implements ProgramService {
   }
 
   private CompletionStage<ProgramDefinition> syncProgramAssociations(Program program) {
-    if (isActiveOrDraftProgram(program)) {
-      return syncProgramDefinitionQuestions(program.getProgramDefinition())
-          .thenApply(ProgramDefinition::orderBlockDefinitions);
+    Optional<ProgramDefinition> cachedDefinition =
+        programRepository.getFullProgramDefinitionFromCache(program.id);
+    if (cachedDefinition.isPresent()) {
+      return CompletableFuture.completedStage(cachedDefinition.get());
+    }
+
+    // The program's own versions tell whether it is ACTIVE or DRAFT, which avoids looking up (and
+    // possibly creating) the DRAFT version on this read path.
+    ImmutableList<Version> versions = program.getVersions();
+    Optional<Version> activeVersion =
+        versions.stream()
+            .filter(version -> version.getLifecycleStage().equals(LifecycleStage.ACTIVE))
+            .findAny();
+    boolean isDraftProgram =
+        versions.stream()
+            .anyMatch(version -> version.getLifecycleStage().equals(LifecycleStage.DRAFT));
+
+    if (activeVersion.isPresent() || isDraftProgram) {
+      // Published programs only reference questions of the ACTIVE version, which are shared
+      // across requests. Draft programs may reference draft questions as well.
+      CompletionStage<ReadOnlyQuestionService> roQuestionService =
+          activeVersion.isPresent()
+              ? CompletableFuture.completedStage(
+                  questionService.getReadOnlyActiveQuestionService(activeVersion.get()))
+              : questionService.getReadOnlyQuestionService();
+      return syncProgramDefinitionQuestions(program.getProgramDefinition(), roQuestionService)
+          .thenApply(ProgramDefinition::orderBlockDefinitions)
+          .thenApply(
+              programDefinition -> {
+                programRepository.setFullProgramDefinitionCache(program, programDefinition);
+                return programDefinition;
+              });
     }
 
     // Any version that the program is in has all the questions the program has.
-    Version version = program.getVersions().stream().findAny().get();
+    Version version = versions.stream().findAny().get();
     ProgramDefinition programDefinition =
-        syncProgramDefinitionQuestions(program.getProgramDefinition(), version);
+        syncProgramDefinitionQuestions(program.getProgramDefinition(), version)
+            .orderBlockDefinitions();
+    programRepository.setFullProgramDefinitionCache(program, programDefinition);
 
-    return CompletableFuture.completedStage(programDefinition.orderBlockDefinitions());
+    return CompletableFuture.completedStage(programDefinition);
   }
 
   @Override
@@ -240,11 +278,7 @@ public final class ProgramServiceImpl implements ProgramService {
             .setDisplayMode(DisplayMode.valueOf(displayMode))
             .build()
             .toProgram();
-    return ErrorAnd.of(
-        syncProgramDefinitionQuestions(
-                programRepository.updateProgramSync(program).getProgramDefinition())
-            .toCompletableFuture()
-            .join());
+    return ErrorAnd.of(saveAndSyncProgram(program));
   }
 
   /**
@@ -334,11 +368,7 @@ public final class ProgramServiceImpl implements ProgramService {
                 programDefinition.statusDefinitions().setStatuses(toUpdateStatusesBuilder.build()))
             .build()
             .toProgram();
-    return ErrorAnd.of(
-        syncProgramDefinitionQuestions(
-                programRepository.updateProgramSync(program).getProgramDefinition())
-            .toCompletableFuture()
-            .join());
+    return ErrorAnd.of(saveAndSyncProgram(program));
   }
 
   // Program names and program URL slugs must be unique in a given CiviForm
@@ -416,11 +446,7 @@ public final class ProgramServiceImpl implements ProgramService {
     BlockDefinition blockDefinition = maybeBlockDefinition.getResult();
     Program program =
         programDefinition.insertBlockDefinitionInTheRightPlace(blockDefinition).toProgram();
-    ProgramDefinition updatedProgram =
-        syncProgramDefinitionQuestions(
-                programRepository.updateProgramSync(program).getProgramDefinition())
-            .toCompletableFuture()
-            .join();
+    ProgramDefinition updatedProgram = saveAndSyncProgram(program);
     BlockDefinition updatedBlockDefinition =
         updatedProgram.getBlockDefinition(blockDefinition.id());
     return ErrorAnd.of(
@@ -439,10 +465,7 @@ public final class ProgramServiceImpl implements ProgramService {
       throw new RuntimeException(
           "Something happened to the program's block while trying to move it", e);
     }
-    return syncProgramDefinitionQuestions(
-            programRepository.updateProgramSync(program).getProgramDefinition())
-        .toCompletableFuture()
-        .join();
+    return saveAndSyncProgram(program);
   }
 
   @Override
@@ -465,11 +488,7 @@ public final class ProgramServiceImpl implements ProgramService {
                 .add(status)
                 .build());
 
-    return ErrorAnd.of(
-        syncProgramDefinitionQuestions(
-                programRepository.updateProgramSync(program.toProgram()).getProgramDefinition())
-            .toCompletableFuture()
-            .join());
+    return ErrorAnd.of(saveAndSyncProgram(program.toProgram()));
   }
 
   @Override
@@ -501,11 +520,7 @@ public final class ProgramServiceImpl implements ProgramService {
     statusesCopy.set(statusNameToIndex.get(toReplaceStatusName), editedStatus);
     program.statusDefinitions().setStatuses(ImmutableList.copyOf(statusesCopy));
 
-    return ErrorAnd.of(
-        syncProgramDefinitionQuestions(
-                programRepository.updateProgramSync(program.toProgram()).getProgramDefinition())
-            .toCompletableFuture()
-            .join());
+    return ErrorAnd.of(saveAndSyncProgram(program.toProgram()));
   }
 
   @Override
@@ -527,11 +542,7 @@ public final class ProgramServiceImpl implements ProgramService {
     statusesCopy.remove(statusNameToIndex.get(toRemoveStatusName).intValue());
     program.statusDefinitions().setStatuses(ImmutableList.copyOf(statusesCopy));
 
-    return ErrorAnd.of(
-        syncProgramDefinitionQuestions(
-                programRepository.updateProgramSync(program.toProgram()).getProgramDefinition())
-            .toCompletableFuture()
-            .join());
+    return ErrorAnd.of(saveAndSyncProgram(program.toProgram()));
   }
 
   private static ImmutableMap<String, Integer> statusNameToIndexMap(
@@ -613,7 +624,7 @@ public final class ProgramServiceImpl implements ProgramService {
     updatedBlockQuestions.addAll(blockDefinition.programQuestionDefinitions());
 
     ReadOnlyQuestionService roQuestionService =
-        questionService.getReadOnlyQuestionService().toCompletableFuture().join();
+        BlockingJoins.join(questionService.getReadOnlyQuestionService());
 
     for (long questionId : questionIds) {
       ProgramQuestionDefinition question =
@@ -828,7 +839,7 @@ public final class ProgramServiceImpl implements ProgramService {
   public ImmutableList<Application> getSubmittedProgramApplications(long programId)
       throws ProgramNotFoundException {
     Optional<Program> programMaybe =
-        programRepository.lookupProgram(programId).toCompletableFuture().join();
+        BlockingJoins.join(programRepository.lookupProgram(programId));
     if (programMaybe.isEmpty()) {
       throw new ProgramNotFoundException(programId);
     }
@@ -875,9 +886,27 @@ public final class ProgramServiceImpl implements ProgramService {
 
   @Override
   public ImmutableList<ProgramDefinition> getAllProgramDefinitionVersions(long programId) {
-    return programRepository.getAllProgramVersions(programId).stream()
-        .map(program -> syncProgramAssociations(program).toCompletableFuture().join())
-        .collect(ImmutableList.toImmutableList());
+    return BlockingJoins.join(getAllProgramDefinitionVersionsAsync(programId));
+  }
+
+  private CompletionStage<ImmutableList<ProgramDefinition>> getAllProgramDefinitionVersionsAsync(
+      long programId) {
+    return programRepository
+        .getAllProgramVersionsAsync(programId)
+        .thenCompose(
+            programs -> {
+              // Sync the versions concurrently rather than one after another.
+              ImmutableList<CompletableFuture<ProgramDefinition>> definitions =
+                  programs.stream()
+                      .map(program -> syncProgramAssociations(program).toCompletableFuture())
+                      .collect(ImmutableList.toImmutableList());
+              return CompletableFuture.allOf(definitions.toArray(new CompletableFuture[0]))
+                  .thenApply(
+                      unused ->
+                          definitions.stream()
+                              .map(CompletableFuture::join)
+                              .collect(ImmutableList.toImmutableList()));
+            });
   }
 
   private ProgramDefinition updateProgramDefinitionWithBlockDefinitions(
@@ -889,10 +918,7 @@ public final class ProgramServiceImpl implements ProgramService {
       throw new IllegalPredicateOrderingException("This action would invalidate a block condition");
     }
 
-    return syncProgramDefinitionQuestions(
-            programRepository.updateProgramSync(program.toProgram()).getProgramDefinition())
-        .toCompletableFuture()
-        .join();
+    return saveAndSyncProgram(program.toProgram());
   }
 
   private ProgramDefinition updateProgramDefinitionWithBlockDefinition(
@@ -911,11 +937,14 @@ public final class ProgramServiceImpl implements ProgramService {
     return programDefinition.getMaxBlockDefinitionId() + 1;
   }
 
-  private boolean isActiveOrDraftProgram(Program program) {
-    return Streams.concat(
-            versionRepository.getActiveVersion().getPrograms().stream(),
-            versionRepository.getDraftVersion().getPrograms().stream())
-        .anyMatch(p -> p.id.equals(program.id));
+  /**
+   * Saves the program and returns its definition, with its {@link QuestionDefinition}s synced from
+   * the {@link QuestionService}.
+   */
+  private ProgramDefinition saveAndSyncProgram(Program program) {
+    return BlockingJoins.join(
+        syncProgramDefinitionQuestions(
+            programRepository.updateProgramSync(program).getProgramDefinition()));
   }
 
   /**
@@ -926,18 +955,23 @@ public final class ProgramServiceImpl implements ProgramService {
       ProgramDefinition programDefinition) {
     // Note: This method is also used for non question updates.  It'd likely be
     // good to have a focused method for that.
-    return questionService
-        .getReadOnlyQuestionService()
-        .thenApplyAsync(
-            roQuestionService -> {
-              try {
-                return syncProgramDefinitionQuestions(programDefinition, roQuestionService);
-              } catch (QuestionNotFoundException e) {
-                throw new RuntimeException(
-                    String.format("Question not found for Program %s", programDefinition.id()), e);
-              }
-            },
-            httpExecutionContext.current());
+    return syncProgramDefinitionQuestions(
+        programDefinition, questionService.getReadOnlyQuestionService());
+  }
+
+  private CompletionStage<ProgramDefinition> syncProgramDefinitionQuestions(
+      ProgramDefinition programDefinition,
+      CompletionStage<ReadOnlyQuestionService> roQuestionServiceStage) {
+    return roQuestionServiceStage.thenApplyAsync(
+        roQuestionService -> {
+          try {
+            return syncProgramDefinitionQuestions(programDefinition, roQuestionService);
+          } catch (QuestionNotFoundException e) {
+            throw new RuntimeException(
+                String.format("Question not found for Program %s", programDefinition.id()), e);
+          }
+        },
+        httpExecutionContext.current());
   }
 
   private ProgramDefinition syncProgramDefinitionQuestions(
@@ -8,14 +8,18 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
+import com.google.inject.Singleton;
+import com.typesafe.config.Config;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
 import models.Question;
 import models.QuestionTag;
 import models.Version;
 import repository.QuestionRepository;
 import repository.VersionRepository;
+import services.BlockingJoins;
 import services.CiviFormError;
 import services.DeletionStatus;
 import services.ErrorAnd;
@@ -30,18 +34,27 @@ import services.question.types.QuestionDefinition;
  * program-specific applications and {@link services.applicant.ApplicantService} for storing
  * applicants' answers to questions. The full set of questions at a given version defines the data
  * that can be collected for a given applicant across all programs.
+ *
+ * <p>This is a singleton so that the questions of the ACTIVE version can be shared across requests,
+ * see {@link #getReadOnlyActiveQuestionService}.
  */
+@Singleton
 public final class QuestionService {
 
   private final QuestionRepository questionRepository;
   private final Provider<VersionRepository> versionRepositoryProvider;
+  private final boolean questionCacheEnabled;
+  private final AtomicReference<ActiveVersionQuestions> activeVersionQuestions =
+      new AtomicReference<>();
 
   @Inject
   public QuestionService(
       QuestionRepository questionRepository,
-      Provider<VersionRepository> versionRepositoryProvider) {
+      Provider<VersionRepository> versionRepositoryProvider,
+      Config config) {
     this.questionRepository = checkNotNull(questionRepository);
     this.versionRepositoryProvider = checkNotNull(versionRepositoryProvider);
+    this.questionCacheEnabled = checkNotNull(config).getBoolean("question_cache_enabled");
   }
 
   /**
@@ -99,6 +112,32 @@ public final class QuestionService {
     return new ReadOnlyCurrentQuestionServiceImpl(versionRepositoryProvider.get());
   }
 
+  /**
+   * Get a {@link ReadOnlyQuestionService} containing the questions of {@code activeVersion}.
+   * Intended for applicant-facing reads of published programs, which never reference draft
+   * questions.
+   *
+   * <p>A published version never changes, so a single immutable snapshot is shared by all callers
+   * and swapped out only when a different version becomes ACTIVE. If the question cache is
+   * disabled this falls back to {@link #getReadOnlyQuestionServiceSync}.
+   */
+  public ReadOnlyQuestionService getReadOnlyActiveQuestionService(Version activeVersion) {
+    if (!questionCacheEnabled) {
+      return readOnlyQuestionService();
+    }
+    ActiveVersionQuestions snapshot = activeVersionQuestions.get();
+    if (snapshot != null && snapshot.versionId == activeVersion.id) {
+      return snapshot.questions;
+    }
+    ActiveVersionQuestions updatedSnapshot =
+        new ActiveVersionQuestions(
+            activeVersion.id, new ReadOnlyVersionedQuestionServiceImpl(activeVersion));
+    // If a concurrent request installed a snapshot for a different version, the next caller
+    // notices the mismatch and rebuilds it, so a plain set is sufficient here.
+    activeVersionQuestions.set(updatedSnapshot);
+    return updatedSnapshot.questions;
+  }
+
   /**
    * Get a {@link ReadOnlyQuestionService} which implements synchronous, in-memory read behavior for
    * questions in a particular version.
@@ -126,7 +165,7 @@ public final class QuestionService {
     ImmutableSet<CiviFormError> validationErrors = questionDefinition.validate();
 
     Optional<Question> maybeQuestion =
-        questionRepository.lookupQuestion(questionDefinition.getId()).toCompletableFuture().join();
+        BlockingJoins.join(questionRepository.lookupQuestion(questionDefinition.getId()));
     if (maybeQuestion.isEmpty()) {
       throw new InvalidUpdateException(
           String.format("question with id %d does not exist", questionDefinition.getId()));
@@ -151,7 +190,7 @@ public final class QuestionService {
   /** If this question is archived but a new version has not been published yet, un-archive it. */
   public void restoreQuestion(Long id) throws InvalidUpdateException {
     Optional<Question> question =
-        questionRepository.lookupQuestion(id).toCompletableFuture().join();
+        BlockingJoins.join(questionRepository.lookupQuestion(id));
     if (question.isEmpty()) {
       throw new InvalidUpdateException("Did not find question.");
     }
@@ -172,7 +211,7 @@ public final class QuestionService {
   /** If this question is not used in any program, archive it. */
   public void archiveQuestion(Long id) throws InvalidUpdateException {
     Optional<Question> question =
-        questionRepository.lookupQuestion(id).toCompletableFuture().join();
+        BlockingJoins.join(questionRepository.lookupQuestion(id));
     if (question.isEmpty()) {
       throw new InvalidUpdateException("Did not find question.");
     }
@@ -193,10 +232,7 @@ public final class QuestionService {
   /** If this is a draft question, remove it from the draft version and update all programs. */
   public void discardDraft(Long draftId) throws InvalidUpdateException {
     Question question =
-        questionRepository
-            .lookupQuestion(draftId)
-            .toCompletableFuture()
-            .join()
+        BlockingJoins.join(questionRepository.lookupQuestion(draftId))
             .orElseThrow(() -> new InvalidUpdateException("Did not find question."));
 
     // Find the Active version.
@@ -247,7 +283,7 @@ public final class QuestionService {
   public void setExportState(QuestionDefinition questionDefinition, QuestionTag questionExportState)
       throws QuestionNotFoundException, InvalidUpdateException {
     Optional<Question> questionMaybe =
-        questionRepository.lookupQuestion(questionDefinition.getId()).toCompletableFuture().join();
+        BlockingJoins.join(questionRepository.lookupQuestion(questionDefinition.getId()));
     if (questionMaybe.isEmpty()) {
       throw new QuestionNotFoundException(questionDefinition.getId());
     }
@@ -360,4 +396,15 @@ public final class QuestionService {
     }
     return errors.build();
   }
+
+  /** The immutable question snapshot of a single ACTIVE {@link Version}. */
+  private static final class ActiveVersionQuestions {
+    private final long versionId;
+    private final ReadOnlyQuestionService questions;
+
+    private ActiveVersionQuestions(long versionId, ReadOnlyQuestionService questions) {
+      this.versionId = versionId;
+      this.questions = checkNotNull(questions);
+    }
+  }
 }
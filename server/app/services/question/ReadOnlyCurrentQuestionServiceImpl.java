@@ -1,10 +1,13 @@
 package services.question;
 
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import models.Question;
 import models.Version;
@@ -23,19 +26,24 @@ public final class ReadOnlyCurrentQuestionServiceImpl implements ReadOnlyQuestio
 
   private final ImmutableMap<Long, QuestionDefinition> questionsById;
   private final ImmutableSet<QuestionDefinition> upToDateQuestions;
-  private final ActiveAndDraftQuestions activeAndDraftQuestions;
+  // Building this requires the draft version and a preview of publishing it, so it is only done
+  // for callers that need it.
+  private final Supplier<ActiveAndDraftQuestions> activeAndDraftQuestions;
 
   public ReadOnlyCurrentQuestionServiceImpl(VersionRepository repository) {
     Version activeVersion = repository.getActiveVersion();
-    Version draftVersion = repository.getDraftVersion();
+    // Reading questions must not create a draft version, so a missing draft is treated as empty.
+    Optional<Version> draftVersion = repository.getDraftVersionOrEmpty();
+    ImmutableList<Question> draftQuestions =
+        draftVersion.map(Version::getQuestions).orElse(ImmutableList.of());
+    ImmutableList<String> tombstonedQuestionNames =
+        draftVersion.map(Version::getTombstonedQuestionNames).orElse(ImmutableList.of());
     ImmutableMap.Builder<Long, QuestionDefinition> questionIdMap = ImmutableMap.builder();
     ImmutableSet.Builder<QuestionDefinition> upToDateBuilder = ImmutableSet.builder();
     Set<String> namesFoundInDraft = new HashSet<>();
     for (QuestionDefinition qd :
-        draftVersion.getQuestions().stream()
-            .map(Question::getQuestionDefinition)
-            .collect(Collectors.toList())) {
-      if (!draftVersion.getTombstonedQuestionNames().contains(qd.getName())) {
+        draftQuestions.stream().map(Question::getQuestionDefinition).collect(Collectors.toList())) {
+      if (!tombstonedQuestionNames.contains(qd.getName())) {
         // If the question is about to be deleted, it is not "up to date."
         upToDateBuilder.add(qd);
       }
@@ -49,18 +57,19 @@ public final class ReadOnlyCurrentQuestionServiceImpl implements ReadOnlyQuestio
 
       questionIdMap.put(qd.getId(), qd);
       if (!namesFoundInDraft.contains(qd.getName())
-          && !draftVersion.getTombstonedQuestionNames().contains(qd.getName())) {
+          && !tombstonedQuestionNames.contains(qd.getName())) {
         upToDateBuilder.add(qd);
       }
     }
     questionsById = questionIdMap.build();
     upToDateQuestions = upToDateBuilder.build();
-    activeAndDraftQuestions = ActiveAndDraftQuestions.buildFromCurrentVersions(repository);
+    activeAndDraftQuestions =
+        Suppliers.memoize(() -> ActiveAndDraftQuestions.buildFromCurrentVersions(repository));
   }
 
   @Override
   public ActiveAndDraftQuestions getActiveAndDraftQuestions() {
-    return activeAndDraftQuestions;
+    return activeAndDraftQuestions.get();
   }
 
   @Override
@@ -15,22 +15,31 @@ import models.Account;
 public final class TrustedIntermediarySearchResult {
 
   private final Optional<ImmutableList<Account>> accounts;
+  private final int numPages;
   private final Optional<String> errorMessage;
 
   private TrustedIntermediarySearchResult(
-      Optional<ImmutableList<Account>> accounts, Optional<String> errorMessage) {
+      Optional<ImmutableList<Account>> accounts, int numPages, Optional<String> errorMessage) {
     this.accounts = accounts;
+    this.numPages = numPages;
     this.errorMessage = errorMessage;
   }
 
   public static TrustedIntermediarySearchResult success(ImmutableList<Account> searchResult) {
+    return success(searchResult, /* numPages= */ 1);
+  }
+
+  /** A successful search that returned one of {@code numPages} pages of accounts. */
+  public static TrustedIntermediarySearchResult success(
+      ImmutableList<Account> searchResult, int numPages) {
     return new TrustedIntermediarySearchResult(
-        Optional.of(searchResult), /* errorMessage= */ Optional.empty());
+        Optional.of(searchResult), numPages, /* errorMessage= */ Optional.empty());
   }
 
   public static TrustedIntermediarySearchResult fail(
       ImmutableList<Account> allAccount, String errorMessage) {
-    return new TrustedIntermediarySearchResult(Optional.of(allAccount), Optional.of(errorMessage));
+    return new TrustedIntermediarySearchResult(
+        Optional.of(allAccount), /* numPages= */ 1, Optional.of(errorMessage));
   }
 
   public boolean isSuccessful() {
@@ -41,6 +50,11 @@ public final class TrustedIntermediarySearchResult {
     return accounts;
   }
 
+  /** The number of pages of accounts matching the search, at least one. */
+  public int getNumPages() {
+    return numPages;
+  }
+
   public Optional<String> getErrorMessage() {
     return errorMessage;
   }
@@ -7,7 +7,6 @@ import forms.AddApplicantToTrustedIntermediaryGroupForm;
 import forms.UpdateApplicantDobForm;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
-import java.util.Locale;
 import java.util.Optional;
 import javax.inject.Inject;
 import models.Account;
@@ -16,7 +15,10 @@ import models.TrustedIntermediaryGroup;
 import play.data.Form;
 import repository.SearchParameters;
 import repository.UserRepository;
+import services.BlockingJoins;
 import services.DateConverter;
+import services.PageNumberBasedPaginationSpec;
+import services.PaginationResult;
 import services.applicant.exception.ApplicantNotFoundException;
 
 /**
@@ -131,45 +133,41 @@ public final class TrustedIntermediaryService {
    */
   public TrustedIntermediarySearchResult getManagedAccounts(
       SearchParameters searchParameters, TrustedIntermediaryGroup tiGroup) {
-    ImmutableList<Account> allAccounts = tiGroup.getManagedAccounts();
-    if (searchParameters.nameQuery().isEmpty() && searchParameters.dateQuery().isEmpty()) {
-      return TrustedIntermediarySearchResult.success(allAccounts);
+    return getManagedAccounts(
+        searchParameters, tiGroup, PageNumberBasedPaginationSpec.MAX_PAGE_SIZE_SPEC);
+  }
+
+  /**
+   * Gets one page of the TrustedIntermediaryAccount managed by the given TI Group, filtered the
+   * same way as {@link #getManagedAccounts(SearchParameters, TrustedIntermediaryGroup)}. The search
+   * and pagination are done by the database, so only the accounts on the page are loaded.
+   */
+  public TrustedIntermediarySearchResult getManagedAccounts(
+      SearchParameters searchParameters,
+      TrustedIntermediaryGroup tiGroup,
+      PageNumberBasedPaginationSpec paginationSpec) {
+    Optional<String> nameQuery = searchParameters.nameQuery().filter(query -> !query.isEmpty());
+    Optional<String> dateQuery = searchParameters.dateQuery().filter(query -> !query.isEmpty());
+    if ((searchParameters.nameQuery().isPresent() || searchParameters.dateQuery().isPresent())
+        && nameQuery.isEmpty()
+        && dateQuery.isEmpty()) {
+      // A search was requested but there is nothing to match.
+      return TrustedIntermediarySearchResult.success(ImmutableList.of());
     }
-    final ImmutableList<Account> searchedResult;
+
+    final Optional<LocalDate> dateOfBirth;
     try {
-      searchedResult = searchAccounts(searchParameters, allAccounts);
+      dateOfBirth = dateQuery.map(dateConverter::parseIso8601DateToLocalDate);
     } catch (DateTimeParseException e) {
+      // Nothing is searched, so don't load the group's accounts just to return them.
       return TrustedIntermediarySearchResult.fail(
-          allAccounts, "Please enter date in MM/dd/yyyy format");
+          ImmutableList.of(), "Please enter date in MM/dd/yyyy format");
     }
-    return TrustedIntermediarySearchResult.success(searchedResult);
-  }
 
-  private ImmutableList<Account> searchAccounts(
-      SearchParameters searchParameters, ImmutableList<Account> allAccounts) {
-    return allAccounts.stream()
-        .filter(
-            account ->
-                ((account.newestApplicant().get().getApplicantData().getDateOfBirth().isPresent()
-                        && searchParameters.dateQuery().isPresent()
-                        && !searchParameters.dateQuery().get().isEmpty()
-                        && account
-                            .newestApplicant()
-                            .get()
-                            .getApplicantData()
-                            .getDateOfBirth()
-                            .get()
-                            .equals(
-                                dateConverter.parseIso8601DateToLocalDate(
-                                    searchParameters.dateQuery().get())))
-                    || (searchParameters.nameQuery().isPresent()
-                        && !searchParameters.nameQuery().get().isEmpty()
-                        && account
-                            .getApplicantName()
-                            .toLowerCase(Locale.ROOT)
-                            .contains(
-                                searchParameters.nameQuery().get().toLowerCase(Locale.ROOT)))))
-        .collect(ImmutableList.toImmutableList());
+    PaginationResult<Account> accounts =
+        userRepository.searchManagedAccounts(tiGroup.id, nameQuery, dateOfBirth, paginationSpec);
+    return TrustedIntermediarySearchResult.success(
+        accounts.getPageContents(), Math.max(accounts.getNumPages(), 1));
   }
 
   /**
@@ -206,7 +204,7 @@ public final class TrustedIntermediaryService {
     }
     Applicant applicant = optionalAccount.get().newestApplicant().get();
     applicant.getApplicantData().setDateOfBirth(form.get().getDob());
-    userRepository.updateApplicant(applicant).toCompletableFuture().join();
+    BlockingJoins.join(userRepository.updateApplicant(applicant));
     return form;
   }
 
@@ -309,6 +309,22 @@ public final class ProgramApplicationListView extends BaseHtmlView {
                                                 /* applicationStatus= */ Optional.empty(),
                                                 /* ignoreFilters= */ Optional.empty())
                                             .url())
+                                    .withType("submit"),
+                                TagCreator.button("Download PDFs")
+                                    .withClasses(
+                                        ReferenceClasses.DOWNLOAD_ALL_BUTTON,
+                                        ReferenceClasses.MODAL_CLOSE,
+                                        AdminStyles.PRIMARY_BUTTON_STYLES)
+                                    .withFormaction(
+                                        controllers.admin.routes.AdminApplicationController
+                                            .downloadAllPdfs(
+                                                program.id(),
+                                                /* search= */ Optional.empty(),
+                                                /* fromDate= */ Optional.empty(),
+                                                /* untilDate= */ Optional.empty(),
+                                                /* applicationStatus= */ Optional.empty(),
+                                                /* ignoreFilters= */ Optional.empty())
+                                            .url())
                                     .withType("submit"))));
     return Modal.builder(modalId, modalContent)
         .setModalTitle("Download application data")
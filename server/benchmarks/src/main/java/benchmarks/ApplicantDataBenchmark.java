@@ -0,0 +1,85 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import services.Path;
+import services.applicant.ApplicantData;
+
+/**
+ * Benchmarks reading applicant data from JSON, copying it, and writing answers to it through the
+ * {@link services.CfJsonDocumentContext} put methods.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApplicantDataBenchmark {
+
+  @Param({"10", "50", "200"})
+  public int blockCount;
+
+  @Param({"0", "5", "25"})
+  public int householdMemberCount;
+
+  private String json;
+  private ApplicantData applicantData;
+  private Path firstAnswerPath;
+  private Path lastAnswerPath;
+  private Path newAnswerPath;
+
+  @Setup
+  public void setUp() {
+    SyntheticProgram program = SyntheticProgram.create(blockCount, householdMemberCount);
+    json = program.applicantData().asJsonString();
+    applicantData = program.applicantData().copy();
+    firstAnswerPath = program.answerPaths().get(0);
+    lastAnswerPath = program.answerPaths().get(program.answerPaths().size() - 1);
+    newAnswerPath = ApplicantData.APPLICANT_PATH.join("benchmark_answer").join("number");
+  }
+
+  @Benchmark
+  public ApplicantData parse() {
+    return new ApplicantData(json);
+  }
+
+  @Benchmark
+  public ApplicantData copy() {
+    return applicantData.copy();
+  }
+
+  @Benchmark
+  public String serialize() {
+    return applicantData.asJsonString();
+  }
+
+  @Benchmark
+  public ApplicantData putStringFirstAnswer() {
+    applicantData.putString(firstAnswerPath, "Updated answer");
+    return applicantData;
+  }
+
+  /** The last answer is inside a repeated entity when the program ends with a repeated block. */
+  @Benchmark
+  public ApplicantData putStringLastAnswer() {
+    applicantData.putString(lastAnswerPath, "Updated answer");
+    return applicantData;
+  }
+
+  @Benchmark
+  public ApplicantData putLong() {
+    applicantData.putLong(newAnswerPath, 42L);
+    return applicantData;
+  }
+}
@@ -0,0 +1,98 @@
+package benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import models.Applicant;
+import models.Application;
+import models.LifecycleStage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import services.DateConverter;
+import services.applicant.ReadOnlyApplicantProgramServiceImpl;
+import services.export.CsvExporter;
+import services.program.Column;
+import services.program.ColumnType;
+import services.program.ProgramDefinition;
+
+/**
+ * Benchmarks exporting one application to CSV, with a column for every answer. The CSV is written
+ * to a writer that discards it, so only the time taken to build the row is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvExporterBenchmark {
+
+  @Param({"10", "50", "200"})
+  public int blockCount;
+
+  @Param({"0", "5", "25"})
+  public int householdMemberCount;
+
+  private ProgramDefinition programDefinition;
+  private Application application;
+  private CsvExporter exporter;
+
+  @Setup
+  public void setUp() throws IOException {
+    SyntheticProgram program = SyntheticProgram.create(blockCount, householdMemberCount);
+    programDefinition = program.programDefinition();
+    application =
+        new Application(new Applicant(), programDefinition.toProgram(), LifecycleStage.ACTIVE)
+            .setApplicantData(program.applicantData());
+
+    ImmutableList.Builder<Column> columns =
+        ImmutableList.<Column>builder()
+            .add(Column.builder().setHeader("ID").setColumnType(ColumnType.APPLICATION_ID).build())
+            .add(
+                Column.builder()
+                    .setHeader("Submit time")
+                    .setColumnType(ColumnType.SUBMIT_TIME)
+                    .build());
+    program
+        .answerPaths()
+        .forEach(
+            path ->
+                columns.add(
+                    Column.builder()
+                        .setHeader(path.toString())
+                        .setJsonPath(path)
+                        .setColumnType(ColumnType.APPLICANT_ANSWER)
+                        .build()));
+    exporter =
+        new CsvExporter(
+            columns.build(),
+            /* secret= */ "",
+            Writer.nullWriter(),
+            new DateConverter(ZoneId.of("America/Los_Angeles")));
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    exporter.close();
+  }
+
+  @Benchmark
+  public void exportRecord() throws IOException {
+    exporter.exportRecord(
+        application,
+        new ReadOnlyApplicantProgramServiceImpl(
+            application.getApplicantData(), programDefinition, SyntheticProgram.BASE_URL));
+  }
+}
@@ -0,0 +1,62 @@
+package benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import services.Path;
+import services.applicant.question.Scalar;
+
+/** Benchmarks creating and joining {@link Path}s for every answer in an application. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathBenchmark {
+
+  @Param({"10", "50", "200"})
+  public int blockCount;
+
+  @Param({"0", "5", "25"})
+  public int householdMemberCount;
+
+  private ImmutableList<String> answerPathStrings;
+  private ImmutableList<Path> questionPaths;
+
+  @Setup
+  public void setUp() {
+    SyntheticProgram program = SyntheticProgram.create(blockCount, householdMemberCount);
+    answerPathStrings =
+        program.answerPaths().stream().map(Path::toString).collect(ImmutableList.toImmutableList());
+    questionPaths =
+        program.answerPaths().stream()
+            .map(Path::parentPath)
+            .collect(ImmutableList.toImmutableList());
+  }
+
+  @Benchmark
+  public void create(Blackhole blackhole) {
+    for (String answerPath : answerPathStrings) {
+      blackhole.consume(Path.create(answerPath));
+    }
+  }
+
+  @Benchmark
+  public void joinScalar(Blackhole blackhole) {
+    for (Path questionPath : questionPaths) {
+      blackhole.consume(questionPath.join(Scalar.TEXT));
+    }
+  }
+}
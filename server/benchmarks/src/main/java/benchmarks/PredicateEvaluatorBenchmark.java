@@ -0,0 +1,71 @@
+package benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import services.applicant.ApplicantData;
+import services.applicant.predicate.JsonPathPredicateGenerator;
+import services.applicant.predicate.PredicateEvaluator;
+import services.applicant.predicate.PredicateResultMemo;
+import services.program.predicate.AndNode;
+import services.program.predicate.PredicateExpressionNode;
+
+/** Benchmarks evaluating the visibility predicates of every block in a program. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PredicateEvaluatorBenchmark {
+
+  @Param({"10", "50", "200"})
+  public int blockCount;
+
+  @Param({"0", "25"})
+  public int householdMemberCount;
+
+  private ApplicantData applicantData;
+  private JsonPathPredicateGenerator predicateGenerator;
+  private ImmutableList<PredicateExpressionNode> predicates;
+  private PredicateExpressionNode allPredicates;
+
+  @Setup
+  public void setUp() {
+    SyntheticProgram program = SyntheticProgram.create(blockCount, householdMemberCount);
+    applicantData = program.applicantData();
+    predicateGenerator =
+        new JsonPathPredicateGenerator(program.questionDefinitions(), Optional.empty());
+    predicates = program.visibilityPredicates();
+    allPredicates = PredicateExpressionNode.create(AndNode.create(predicates));
+  }
+
+  @Benchmark
+  public void evaluateEach(Blackhole blackhole) {
+    PredicateEvaluator evaluator = new PredicateEvaluator(applicantData, predicateGenerator);
+    for (PredicateExpressionNode predicate : predicates) {
+      blackhole.consume(evaluator.evaluate(predicate));
+    }
+  }
+
+  /** Evaluates the predicates as one AND node, twice, sharing leaf results between the two. */
+  @Benchmark
+  public void evaluateConjunctionWithMemo(Blackhole blackhole) {
+    PredicateEvaluator evaluator =
+        new PredicateEvaluator(applicantData, predicateGenerator, new PredicateResultMemo());
+    blackhole.consume(evaluator.evaluate(allPredicates));
+    blackhole.consume(evaluator.evaluate(allPredicates));
+  }
+}
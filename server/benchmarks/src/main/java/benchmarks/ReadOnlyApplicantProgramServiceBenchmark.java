@@ -0,0 +1,63 @@
+package benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import services.applicant.AnswerData;
+import services.applicant.ApplicantData;
+import services.applicant.Block;
+import services.applicant.ReadOnlyApplicantProgramServiceImpl;
+import services.program.ProgramDefinition;
+
+/**
+ * Benchmarks building the blocks and answers of an application, as every applicant page and every
+ * exported application does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadOnlyApplicantProgramServiceBenchmark {
+
+  @Param({"10", "50", "200"})
+  public int blockCount;
+
+  @Param({"0", "5", "25"})
+  public int householdMemberCount;
+
+  private ApplicantData applicantData;
+  private ProgramDefinition programDefinition;
+
+  @Setup
+  public void setUp() {
+    SyntheticProgram program = SyntheticProgram.create(blockCount, householdMemberCount);
+    applicantData = program.applicantData();
+    programDefinition = program.programDefinition();
+  }
+
+  @Benchmark
+  public ImmutableList<Block> getAllActiveBlocks() {
+    return new ReadOnlyApplicantProgramServiceImpl(
+            applicantData, programDefinition, SyntheticProgram.BASE_URL)
+        .getAllActiveBlocks();
+  }
+
+  @Benchmark
+  public ImmutableList<AnswerData> getSummaryData() {
+    return new ReadOnlyApplicantProgramServiceImpl(
+            applicantData, programDefinition, SyntheticProgram.BASE_URL)
+        .getSummaryData();
+  }
+}
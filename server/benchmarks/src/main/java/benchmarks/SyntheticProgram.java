@@ -0,0 +1,194 @@
+package benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Locale;
+import java.util.Optional;
+import models.DisplayMode;
+import services.LocalizedStrings;
+import services.Path;
+import services.applicant.ApplicantData;
+import services.applicant.question.Scalar;
+import services.program.BlockDefinition;
+import services.program.ProgramDefinition;
+import services.program.ProgramQuestionDefinition;
+import services.program.StatusDefinitions;
+import services.program.predicate.LeafOperationExpressionNode;
+import services.program.predicate.Operator;
+import services.program.predicate.PredicateAction;
+import services.program.predicate.PredicateDefinition;
+import services.program.predicate.PredicateExpressionNode;
+import services.program.predicate.PredicateValue;
+import services.question.types.QuestionDefinition;
+import services.question.types.QuestionDefinitionBuilder;
+import services.question.types.QuestionType;
+
+/**
+ * A program and a fully answered application to it, built in memory so benchmarks don't need a
+ * database.
+ *
+ * <p>The program starts with a block enumerating household members, followed by {@code
+ * blockCount} blocks that each ask one text question. Every fourth block is repeated for each
+ * household member. The other blocks are hidden if the previous one's answer is "hide", which it
+ * never is, so every block is visible but its predicate still has to be evaluated.
+ */
+final class SyntheticProgram {
+
+  static final String BASE_URL = "http://localhost:9000";
+
+  private static final long PROGRAM_ID = 1L;
+  /** The ID of both the enumerator question and the block that asks it. */
+  private static final long ENUMERATOR_ID = 1L;
+
+  private final ProgramDefinition programDefinition;
+  private final ImmutableList<QuestionDefinition> questionDefinitions;
+  private final ApplicantData applicantData;
+  private final ImmutableList<Path> answerPaths;
+
+  private SyntheticProgram(
+      ProgramDefinition programDefinition,
+      ImmutableList<QuestionDefinition> questionDefinitions,
+      ApplicantData applicantData,
+      ImmutableList<Path> answerPaths) {
+    this.programDefinition = programDefinition;
+    this.questionDefinitions = questionDefinitions;
+    this.applicantData = applicantData;
+    this.answerPaths = answerPaths;
+  }
+
+  static SyntheticProgram create(int blockCount, int householdMemberCount) {
+    ImmutableList.Builder<QuestionDefinition> questionDefinitions = ImmutableList.builder();
+    ImmutableList.Builder<BlockDefinition> blockDefinitions = ImmutableList.builder();
+    ImmutableList.Builder<Path> answerPaths = ImmutableList.builder();
+    ApplicantData applicantData = new ApplicantData();
+
+    QuestionDefinition enumerator =
+        new QuestionDefinitionBuilder()
+            .setId(ENUMERATOR_ID)
+            .setName("household members")
+            .setDescription("The applicant's household members")
+            .setQuestionText(LocalizedStrings.of(Locale.US, "Who lives with you?"))
+            .setEntityType(LocalizedStrings.of(Locale.US, "household member"))
+            .setQuestionType(QuestionType.ENUMERATOR)
+            .unsafeBuild();
+    questionDefinitions.add(enumerator);
+    blockDefinitions.add(blockFor(ENUMERATOR_ID, enumerator).build());
+
+    Path householdMembersPath =
+        ApplicantData.APPLICANT_PATH.join(enumerator.getQuestionPathSegment());
+    for (int member = 0; member < householdMemberCount; member++) {
+      applicantData.putString(
+          householdMembersPath.atIndex(member).join(Scalar.ENTITY_NAME), "Member " + member);
+    }
+
+    Optional<QuestionDefinition> previousQuestion = Optional.empty();
+    for (int i = 0; i < blockCount; i++) {
+      long id = ENUMERATOR_ID + 1 + i;
+      boolean repeated = i % 4 == 3;
+      QuestionDefinition question =
+          new QuestionDefinitionBuilder()
+              .setId(id)
+              .setName("question " + letters(i))
+              .setDescription("Question " + i)
+              .setQuestionText(LocalizedStrings.of(Locale.US, "What is answer " + i + "?"))
+              .setQuestionType(QuestionType.TEXT)
+              .setEnumeratorId(repeated ? Optional.of(ENUMERATOR_ID) : Optional.empty())
+              .unsafeBuild();
+      questionDefinitions.add(question);
+
+      BlockDefinition.Builder block = blockFor(id, question);
+      if (repeated) {
+        block.setEnumeratorId(Optional.of(ENUMERATOR_ID));
+        for (int member = 0; member < householdMemberCount; member++) {
+          Path answerPath =
+              householdMembersPath
+                  .atIndex(member)
+                  .join(question.getQuestionPathSegment())
+                  .join(Scalar.TEXT);
+          applicantData.putString(answerPath, "Answer " + i + " for member " + member);
+          answerPaths.add(answerPath);
+        }
+      } else {
+        if (previousQuestion.isPresent()) {
+          block.setVisibilityPredicate(hiddenIfAnswered(previousQuestion.get(), "hide"));
+        }
+        Path answerPath =
+            ApplicantData.APPLICANT_PATH.join(question.getQuestionPathSegment()).join(Scalar.TEXT);
+        applicantData.putString(answerPath, "Answer " + i);
+        answerPaths.add(answerPath);
+        previousQuestion = Optional.of(question);
+      }
+      blockDefinitions.add(block.build());
+    }
+
+    ProgramDefinition programDefinition =
+        ProgramDefinition.builder()
+            .setId(PROGRAM_ID)
+            .setAdminName("synthetic-program")
+            .setAdminDescription("A synthetic program for benchmarks")
+            .setLocalizedName(LocalizedStrings.of(Locale.US, "Synthetic program"))
+            .setLocalizedDescription(LocalizedStrings.of(Locale.US, "A program for benchmarks."))
+            .setExternalLink("")
+            .setStatusDefinitions(new StatusDefinitions())
+            .setDisplayMode(DisplayMode.PUBLIC)
+            .setBlockDefinitions(blockDefinitions.build())
+            .build();
+    return new SyntheticProgram(
+        programDefinition, questionDefinitions.build(), applicantData, answerPaths.build());
+  }
+
+  ProgramDefinition programDefinition() {
+    return programDefinition;
+  }
+
+  ImmutableList<QuestionDefinition> questionDefinitions() {
+    return questionDefinitions;
+  }
+
+  /** The answered applicant data. Benchmarks that change it should work on a copy. */
+  ApplicantData applicantData() {
+    return applicantData;
+  }
+
+  /** The paths of every answer in {@link #applicantData}, in program order. */
+  ImmutableList<Path> answerPaths() {
+    return answerPaths;
+  }
+
+  /** The predicates of every block that has one, in program order. */
+  ImmutableList<PredicateExpressionNode> visibilityPredicates() {
+    return programDefinition.blockDefinitions().stream()
+        .flatMap(block -> block.visibilityPredicate().stream())
+        .map(PredicateDefinition::rootNode)
+        .collect(ImmutableList.toImmutableList());
+  }
+
+  private static BlockDefinition.Builder blockFor(long id, QuestionDefinition question) {
+    return BlockDefinition.builder()
+        .setId(id)
+        .setName("Screen " + id)
+        .setDescription("Screen " + id + " description")
+        .setProgramQuestionDefinitions(
+            ImmutableList.of(ProgramQuestionDefinition.create(question, Optional.of(PROGRAM_ID))));
+  }
+
+  private static PredicateDefinition hiddenIfAnswered(QuestionDefinition question, String value) {
+    return PredicateDefinition.create(
+        PredicateExpressionNode.create(
+            LeafOperationExpressionNode.create(
+                question.getId(), Scalar.TEXT, Operator.EQUAL_TO, PredicateValue.of(value))),
+        PredicateAction.HIDE_BLOCK);
+  }
+
+  /**
+   * Question names may only contain letters and spaces, so numbers them as "a", "b", ..., "z",
+   * "ba", and so on.
+   */
+  private static String letters(int number) {
+    StringBuilder letters = new StringBuilder();
+    do {
+      letters.insert(0, (char) ('a' + number % 26));
+      number /= 26;
+    } while (number > 0);
+    return letters.toString();
+  }
+}
@@ -0,0 +1,15 @@
+# --- Index of repeated entity counts used to build the columns of program application exports.
+
+# --- !Ups
+
+CREATE TABLE IF NOT EXISTS program_column_schemas (
+  id BIGSERIAL PRIMARY KEY,
+  program_id BIGINT NOT NULL UNIQUE,
+  enumerator_cardinalities JSONB NOT NULL DEFAULT '{}',
+  backfilled BOOLEAN NOT NULL DEFAULT FALSE,
+  CONSTRAINT fk_program FOREIGN KEY(program_id) REFERENCES programs(id) ON DELETE CASCADE
+);
+
+# --- !Downs
+
+DROP TABLE IF EXISTS program_column_schemas;
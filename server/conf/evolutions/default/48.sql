@@ -0,0 +1,12 @@
+# --- Backfill program slugs that were never saved.
+
+# --- !Ups
+
+-- Programs only stored their slug once they were updated. For names made of ASCII letters, digits,
+-- spaces and hyphens this matches what the server computes; any other names are still slugified
+-- by the server when read.
+UPDATE programs
+SET slug = lower(trim(both '-' from regexp_replace(name, '[^A-Za-z0-9]+', '-', 'g')))
+WHERE slug IS NULL AND name ~ '^[A-Za-z0-9 -]+$';
+
+# --- !Downs
@@ -0,0 +1,21 @@
+# --- Indexes for listing the submitted applications of all versions of a program.
+
+# --- !Ups
+
+-- Finds the IDs of all versions of a program.
+CREATE INDEX IF NOT EXISTS index_programs_by_name ON programs (name);
+-- Lists a program's applications newest first, seeking past the previous page by ID.
+CREATE INDEX IF NOT EXISTS index_applications_by_program_stage_id
+  ON applications (program_id, lifecycle_stage, id);
+-- Filters a program's applications by submit time or status.
+CREATE INDEX IF NOT EXISTS index_applications_by_program_submit_time
+  ON applications (program_id, submit_time);
+CREATE INDEX IF NOT EXISTS index_applications_by_program_status
+  ON applications (program_id, latest_status);
+
+# --- !Downs
+
+DROP INDEX IF EXISTS index_applications_by_program_status;
+DROP INDEX IF EXISTS index_applications_by_program_submit_time;
+DROP INDEX IF EXISTS index_applications_by_program_stage_id;
+DROP INDEX IF EXISTS index_programs_by_name;
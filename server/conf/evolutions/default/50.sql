@@ -0,0 +1,36 @@
+# --- Indexed search of submitted applications by applicant name and email.
+
+# --- !Ups
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE applications ADD COLUMN IF NOT EXISTS applicant_name_search VARCHAR;
+
+-- Matches Application#setApplicantData: the name as "first last", "last first" and
+-- "last, first" on separate lines, in lower case.
+UPDATE applications
+SET applicant_name_search = lower(
+  names.first_name || ' ' || names.last_name || E'\n'
+  || names.last_name || ' ' || names.first_name || E'\n'
+  || names.last_name || ', ' || names.first_name)
+FROM (
+  SELECT
+    id,
+    (object #>> '{}')::jsonb -> 'applicant' -> 'name' ->> 'first_name' AS first_name,
+    (object #>> '{}')::jsonb -> 'applicant' -> 'name' ->> 'last_name' AS last_name
+  FROM applications
+) AS names
+WHERE applications.id = names.id
+  AND names.first_name IS NOT NULL
+  AND names.last_name IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS index_applications_by_applicant_name_search
+  ON applications USING gin (applicant_name_search gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS index_applications_by_lower_submitter_email
+  ON applications (lower(submitter_email));
+
+# --- !Downs
+
+DROP INDEX IF EXISTS index_applications_by_lower_submitter_email;
+DROP INDEX IF EXISTS index_applications_by_applicant_name_search;
+ALTER TABLE applications DROP COLUMN IF EXISTS applicant_name_search;
@@ -0,0 +1,40 @@
+# --- Searchable applicant name and date of birth for trusted intermediary client lists.
+
+# --- !Ups
+
+ALTER TABLE applicants ADD COLUMN IF NOT EXISTS applicant_name VARCHAR;
+ALTER TABLE applicants ADD COLUMN IF NOT EXISTS date_of_birth DATE;
+
+-- Matches Applicant#synchronizeObject: "last, first", or just the first name if there is no
+-- last name, and the date of birth stored as milliseconds since the epoch at UTC midnight.
+UPDATE applicants
+SET
+  applicant_name = CASE
+    WHEN data.first_name IS NULL THEN NULL
+    WHEN data.last_name IS NULL THEN data.first_name
+    ELSE data.last_name || ', ' || data.first_name
+  END,
+  date_of_birth = CASE
+    WHEN jsonb_typeof(data.date_of_birth) = 'number'
+      THEN (to_timestamp(data.date_of_birth::text::numeric / 1000) AT TIME ZONE 'UTC')::date
+  END
+FROM (
+  SELECT
+    id,
+    (object #>> '{}')::jsonb -> 'applicant' -> 'name' ->> 'first_name' AS first_name,
+    (object #>> '{}')::jsonb -> 'applicant' -> 'name' ->> 'last_name' AS last_name,
+    (object #>> '{}')::jsonb -> 'applicant' -> 'applicant_date_of_birth' AS date_of_birth
+  FROM applicants
+) AS data
+WHERE applicants.id = data.id;
+
+CREATE INDEX IF NOT EXISTS index_accounts_by_managed_by_group ON accounts (managed_by_group_id);
+CREATE INDEX IF NOT EXISTS index_applicants_by_account_when_created
+  ON applicants (account_id, when_created);
+
+# --- !Downs
+
+DROP INDEX IF EXISTS index_applicants_by_account_when_created;
+DROP INDEX IF EXISTS index_accounts_by_managed_by_group;
+ALTER TABLE applicants DROP COLUMN IF EXISTS date_of_birth;
+ALTER TABLE applicants DROP COLUMN IF EXISTS applicant_name;
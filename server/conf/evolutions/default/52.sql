@@ -0,0 +1,25 @@
+# --- Queue outbound emails so they are sent outside of request threads
+
+# --- !Ups
+
+CREATE TABLE IF NOT EXISTS outbound_emails (
+  id BIGSERIAL PRIMARY KEY,
+  to_addresses VARCHAR[] NOT NULL,
+  subject VARCHAR NOT NULL,
+  body VARCHAR NOT NULL,
+  create_time TIMESTAMP NOT NULL,
+  next_attempt_time TIMESTAMP NOT NULL,
+  remaining_attempts SMALLINT NOT NULL,
+  sent_time TIMESTAMP,
+  error_message VARCHAR
+);
+
+-- Only emails still waiting to be sent are looked up by the dispatcher.
+CREATE INDEX index_outbound_emails_pending_by_next_attempt_time
+  ON outbound_emails(next_attempt_time)
+  WHERE sent_time IS NULL AND remaining_attempts > 0;
+
+# --- !Downs
+
+DROP INDEX IF EXISTS index_outbound_emails_pending_by_next_attempt_time;
+DROP TABLE IF EXISTS outbound_emails;
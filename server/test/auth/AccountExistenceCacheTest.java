@@ -0,0 +1,48 @@
+package auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class AccountExistenceCacheTest {
+
+  private final AccountExistenceCache cache = new AccountExistenceCache();
+  private final AtomicInteger lookups = new AtomicInteger();
+
+  @Test
+  public void accountExists_onlyLooksUpAccountsNotFoundRecently() {
+    assertThat(cache.accountExists(1L, () -> lookup(true))).isTrue();
+    assertThat(cache.accountExists(1L, () -> lookup(false))).isTrue();
+
+    assertThat(lookups.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void accountExists_doesNotRememberMissingAccounts() {
+    assertThat(cache.accountExists(1L, () -> lookup(false))).isFalse();
+    assertThat(cache.accountExists(1L, () -> lookup(true))).isTrue();
+
+    assertThat(lookups.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void invalidate_looksUpAccountAgain() {
+    cache.accountExists(1L, () -> lookup(true));
+    cache.accountExists(2L, () -> lookup(true));
+
+    cache.invalidate(1L);
+
+    assertThat(cache.accountExists(1L, () -> lookup(false))).isFalse();
+    assertThat(cache.accountExists(2L, () -> lookup(false))).isTrue();
+
+    cache.invalidateAll();
+
+    assertThat(cache.accountExists(2L, () -> lookup(false))).isFalse();
+  }
+
+  private boolean lookup(boolean exists) {
+    lookups.incrementAndGet();
+    return exists;
+  }
+}
@@ -54,6 +54,7 @@ import services.applications.ProgramAdminApplicationService;
 import services.export.CsvExporterService;
 import services.export.JsonExporter;
 import services.export.PdfExporter;
+import services.export.PdfZipExporter;
 import services.program.ProgramNotFoundException;
 import services.program.ProgramService;
 import services.program.StatusDefinitions;
@@ -629,6 +630,7 @@ public class AdminApplicationControllerTest extends ResetPostgres {
         instanceOf(FormFactory.class),
         instanceOf(JsonExporter.class),
         instanceOf(PdfExporter.class),
+        instanceOf(PdfZipExporter.class),
         instanceOf(ProgramApplicationListView.class),
         instanceOf(ProgramApplicationView.class),
         instanceOf(ProgramAdminApplicationService.class),
@@ -66,7 +66,8 @@ public class ProgramApplicationsApiControllerTest extends AbstractExporterTest {
     Result result = doRequest(requestUrl);
     assertThat(result.status()).isEqualTo(HttpStatus.SC_OK);
 
-    DocumentContext resultJson = JsonPathProvider.getJsonPath().parse(contentAsString(result));
+    DocumentContext resultJson =
+        JsonPathProvider.getJsonPath().parse(contentAsString(result, mat));
     assertThat(resultJson.read("payload.length()", Integer.class)).isEqualTo(1);
     assertThat(resultJson.read("payload[0].application_id", Long.class))
         .isEqualTo(februaryApplication.id);
@@ -86,7 +87,8 @@ public class ProgramApplicationsApiControllerTest extends AbstractExporterTest {
     Result result = doRequest(firstRequestUrl);
     assertThat(result.status()).isEqualTo(HttpStatus.SC_OK);
 
-    DocumentContext resultJson = JsonPathProvider.getJsonPath().parse(contentAsString(result));
+    DocumentContext resultJson =
+        JsonPathProvider.getJsonPath().parse(contentAsString(result, mat));
     assertThat(resultJson.read("payload.length()", Integer.class)).isEqualTo(2);
     assertThat(resultJson.read("payload[0].application_id", Long.class))
         .isEqualTo(marchApplication.id);
@@ -108,7 +110,8 @@ public class ProgramApplicationsApiControllerTest extends AbstractExporterTest {
     Result result = doRequest(firstRequestUrl);
     assertThat(result.status()).isEqualTo(HttpStatus.SC_OK);
 
-    DocumentContext resultJson = JsonPathProvider.getJsonPath().parse(contentAsString(result));
+    DocumentContext resultJson =
+        JsonPathProvider.getJsonPath().parse(contentAsString(result, mat));
     String nextPageToken = resultJson.read("nextPageToken", String.class);
     assertThat(nextPageToken).isNotBlank();
 
@@ -124,7 +127,7 @@ public class ProgramApplicationsApiControllerTest extends AbstractExporterTest {
     result = doRequest(secondRequestUrl);
     assertThat(result.status()).isEqualTo(HttpStatus.SC_OK);
 
-    resultJson = JsonPathProvider.getJsonPath().parse(contentAsString(result));
+    resultJson = JsonPathProvider.getJsonPath().parse(contentAsString(result, mat));
     nextPageToken = resultJson.read("$.nextPageToken", String.class);
     assertThat(nextPageToken).isNull();
     assertThat(resultJson.read("payload[0].application_id", Long.class))
@@ -4,12 +4,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import auth.ApiKeyGrants;
+import com.google.common.collect.ImmutableList;
 import io.ebean.DataIntegrityException;
 import java.time.Instant;
 import java.util.concurrent.CompletionException;
 import models.ApiKey;
 import org.junit.Before;
 import org.junit.Test;
+import services.apikey.ApiKeyUsage;
 
 public class ApiKeyRepositoryTest extends ResetPostgres {
 
@@ -65,4 +67,32 @@ public class ApiKeyRepositoryTest extends ResetPostgres {
         .isInstanceOf(DataIntegrityException.class)
         .hasMessageContaining("violates not-null constraint");
   }
+
+  @Test
+  public void incrementApiKeyUsage_addsToCallCountsAndSetsLastCallIpAddress() {
+    repo.insert(newApiKey("key-a")).toCompletableFuture().join();
+    repo.insert(newApiKey("key-b")).toCompletableFuture().join();
+
+    repo.incrementApiKeyUsage(
+        ImmutableList.of(
+            ApiKeyUsage.create("key-a", 3, "1.1.1.1"), ApiKeyUsage.create("key-b", 1, "2.2.2.2")));
+    repo.incrementApiKeyUsage(ImmutableList.of(ApiKeyUsage.create("key-a", 2, "3.3.3.3")));
+
+    ApiKey keyA = repo.lookupApiKey("key-a").toCompletableFuture().join().get();
+    assertThat(keyA.getCallCount()).isEqualTo(5L);
+    assertThat(keyA.getLastCallIpAddress()).contains("3.3.3.3");
+    ApiKey keyB = repo.lookupApiKey("key-b").toCompletableFuture().join().get();
+    assertThat(keyB.getCallCount()).isEqualTo(1L);
+    assertThat(keyB.getLastCallIpAddress()).contains("2.2.2.2");
+  }
+
+  private static ApiKey newApiKey(String keyId) {
+    return new ApiKey(new ApiKeyGrants())
+        .setName(keyId)
+        .setKeyId(keyId)
+        .setCreatedBy("test@example.com")
+        .setSaltedKeySecret("secret")
+        .setSubnet("0.0.0.0/32")
+        .setExpiration(Instant.ofEpochSecond(100));
+  }
 }
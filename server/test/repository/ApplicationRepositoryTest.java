@@ -3,9 +3,11 @@ package repository;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import akka.stream.javadsl.Sink;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import models.Applicant;
 import models.Application;
@@ -165,7 +167,7 @@ public class ApplicationRepositoryTest extends ResetPostgres {
   }
 
   @Test
-  public void getApplications() {
+  public void streamApplications() {
     Program programOne = createProgram("first");
     Program programTwo = createProgram("second");
 
@@ -181,8 +183,8 @@ public class ApplicationRepositoryTest extends ResetPostgres {
     Application programTwoToday = createSubmittedAppAtInstant(programTwo, today);
     Application programTwoTomorrow = createSubmittedAppAtInstant(programTwo, tomorrow);
 
-    // No filters. Includes all.
-    assertThat(repo.getApplications(TimeFilter.EMPTY).stream().map(a -> a.id))
+    // No filters. Includes all, in the order they were created.
+    assertThat(streamApplicationIds(TimeFilter.EMPTY))
         .containsExactly(
             programOneYesterday.id,
             programOneToday.id,
@@ -193,13 +195,13 @@ public class ApplicationRepositoryTest extends ResetPostgres {
 
     // Only from.
     TimeFilter fromFilter = TimeFilter.builder().setFromTime(Optional.of(today)).build();
-    assertThat(repo.getApplications(fromFilter).stream().map(a -> a.id))
+    assertThat(streamApplicationIds(fromFilter))
         .containsExactly(
             programOneToday.id, programOneTomorrow.id, programTwoToday.id, programTwoTomorrow.id);
 
     // Only to.
     TimeFilter toFilter = TimeFilter.builder().setUntilTime(Optional.of(today)).build();
-    assertThat(repo.getApplications(toFilter).stream().map(a -> a.id))
+    assertThat(streamApplicationIds(toFilter))
         .containsExactly(programOneYesterday.id, programTwoYesterday.id);
 
     // Both.
@@ -208,13 +210,21 @@ public class ApplicationRepositoryTest extends ResetPostgres {
             .setFromTime(Optional.of(today))
             .setUntilTime(Optional.of(tomorrow))
             .build();
-    assertThat(repo.getApplications(bothFilter).stream().map(a -> a.id))
+    assertThat(streamApplicationIds(bothFilter))
         .containsExactly(programOneToday.id, programTwoToday.id);
 
     // Overly restrictive, no apps.
     TimeFilter restrictiveFilter =
         TimeFilter.builder().setFromTime(Optional.of(Instant.now())).build();
-    assertThat(repo.getApplications(restrictiveFilter)).isEmpty();
+    assertThat(streamApplicationIds(restrictiveFilter)).isEmpty();
+  }
+
+  private List<Long> streamApplicationIds(TimeFilter filter) {
+    return repo.streamApplications(filter)
+        .map(application -> application.id)
+        .runWith(Sink.seq(), mat)
+        .toCompletableFuture()
+        .join();
   }
 
   @Test
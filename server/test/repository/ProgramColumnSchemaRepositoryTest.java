@@ -0,0 +1,116 @@
+package repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.Map;
+import java.util.Optional;
+import models.Applicant;
+import models.Application;
+import models.LifecycleStage;
+import models.Program;
+import org.junit.Before;
+import org.junit.Test;
+import services.Path;
+import support.ProgramBuilder;
+
+public class ProgramColumnSchemaRepositoryTest extends ResetPostgres {
+
+  private static final Path HOUSEHOLD_MEMBERS = Path.create("applicant.household_members[]");
+  private static final Path JOBS = Path.create("applicant.household_members[0].jobs[]");
+
+  private ProgramColumnSchemaRepository repo;
+
+  @Before
+  public void setUp() {
+    repo = instanceOf(ProgramColumnSchemaRepository.class);
+  }
+
+  @Test
+  public void submitApplication_recordsLargestRepeatedEntityCounts() {
+    Program program = ProgramBuilder.newActiveProgram().build();
+    ApplicationRepository applicationRepository = instanceOf(ApplicationRepository.class);
+
+    Applicant applicantOne = resourceCreator.insertApplicantWithAccount();
+    applicantOne
+        .getApplicantData()
+        .putRepeatedEntities(HOUSEHOLD_MEMBERS, ImmutableList.of("Anne", "Bailey"));
+    applicantOne.save();
+    Applicant applicantTwo = resourceCreator.insertApplicantWithAccount();
+    applicantTwo.getApplicantData().putRepeatedEntities(HOUSEHOLD_MEMBERS, ImmutableList.of("Cy"));
+    applicantTwo.getApplicantData().putRepeatedEntities(JOBS, ImmutableList.of("Cook"));
+    applicantTwo.save();
+
+    applicationRepository
+        .submitApplication(applicantOne, program, Optional.empty())
+        .toCompletableFuture()
+        .join();
+    applicationRepository
+        .submitApplication(applicantTwo, program, Optional.empty())
+        .toCompletableFuture()
+        .join();
+
+    // The index isn't used until it has been backfilled.
+    assertThat(repo.getBackfilledEnumeratorCardinalities(ImmutableSet.of(program.id))).isEmpty();
+
+    repo.mergeEnumeratorCardinalities(program.id, ImmutableMap.of(), /* backfilled= */ true);
+
+    assertThat(repo.getBackfilledEnumeratorCardinalities(ImmutableSet.of(program.id)))
+        .containsExactly(Map.entry(program.id, ImmutableMap.of(HOUSEHOLD_MEMBERS, 2, JOBS, 1)));
+  }
+
+  @Test
+  public void mergeEnumeratorCardinalities_keepsLargerCountsAndStaysBackfilled() {
+    Program program = ProgramBuilder.newActiveProgram().build();
+
+    repo.mergeEnumeratorCardinalities(
+        program.id, ImmutableMap.of(HOUSEHOLD_MEMBERS, 3, JOBS, 1), /* backfilled= */ true);
+    repo.mergeEnumeratorCardinalities(
+        program.id, ImmutableMap.of(HOUSEHOLD_MEMBERS, 2, JOBS, 4), /* backfilled= */ false);
+
+    assertThat(repo.getBackfilledEnumeratorCardinalities(ImmutableSet.of(program.id)))
+        .containsExactly(Map.entry(program.id, ImmutableMap.of(HOUSEHOLD_MEMBERS, 3, JOBS, 4)));
+  }
+
+  @Test
+  public void backfillEnumeratorCardinalities_countsSubmittedApplicationsAcrossPages() {
+    Program program = ProgramBuilder.newActiveProgram().build();
+    saveApplication(program, LifecycleStage.ACTIVE, ImmutableList.of("Anne"), ImmutableList.of());
+    saveApplication(
+        program, LifecycleStage.OBSOLETE, ImmutableList.of("Bailey"), ImmutableList.of("Cook"));
+    saveApplication(
+        program, LifecycleStage.ACTIVE, ImmutableList.of("Cy", "Dee", "Eli"), ImmutableList.of());
+    // Drafts aren't exported, so they aren't counted.
+    saveApplication(
+        program,
+        LifecycleStage.DRAFT,
+        ImmutableList.of("F", "G", "H", "I"),
+        ImmutableList.of("Pilot", "Chef"));
+
+    // A page size of 2 reads the submitted applications over two pages.
+    ImmutableMap<Path, Integer> cardinalities =
+        repo.backfillEnumeratorCardinalities(program.id, /* pageSize= */ 2);
+
+    assertThat(cardinalities).isEqualTo(ImmutableMap.of(HOUSEHOLD_MEMBERS, 3, JOBS, 1));
+    assertThat(repo.getBackfilledEnumeratorCardinalities(ImmutableSet.of(program.id)))
+        .containsExactly(Map.entry(program.id, cardinalities));
+  }
+
+  private void saveApplication(
+      Program program,
+      LifecycleStage lifecycleStage,
+      ImmutableList<String> householdMembers,
+      ImmutableList<String> jobs) {
+    Applicant applicant = resourceCreator.insertApplicantWithAccount();
+    applicant.getApplicantData().putRepeatedEntities(HOUSEHOLD_MEMBERS, householdMembers);
+    if (!jobs.isEmpty()) {
+      applicant.getApplicantData().putRepeatedEntities(JOBS, jobs);
+    }
+    applicant.save();
+    Application application = new Application(applicant, program, lifecycleStage);
+    application.setApplicantData(applicant.getApplicantData());
+    application.save();
+  }
+}
@@ -3,7 +3,9 @@ package repository;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.typesafe.config.ConfigFactory;
 import io.ebean.DB;
 import java.time.Instant;
 import java.util.Locale;
@@ -20,6 +22,7 @@ import models.Program;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import play.cache.SyncCacheApi;
 import play.libs.F;
 import services.IdentifierBasedPaginationSpec;
 import services.LocalizedStrings;
@@ -29,6 +32,7 @@ import services.WellKnownPaths;
 import services.applicant.ApplicantData;
 import services.application.ApplicationEventDetails;
 import services.application.ApplicationEventDetails.StatusEvent;
+import services.program.ProgramDefinition;
 import services.program.ProgramNotFoundException;
 import services.program.StatusDefinitions;
 import support.CfTestHelpers;
@@ -182,6 +186,69 @@ public class ProgramRepositoryTest extends ResetPostgres {
         .isEqualTo(LocalizedStrings.of(Locale.US, "new name"));
   }
 
+  @Test
+  public void getFullProgramDefinitionFromCache_cacheDisabled_isEmpty() {
+    Program program = resourceCreator.insertActiveProgram("cache disabled");
+
+    repo.setFullProgramDefinitionCache(program, program.getProgramDefinition());
+
+    assertThat(repo.getFullProgramDefinitionFromCache(program.id)).isEmpty();
+  }
+
+  @Test
+  public void getFullProgramDefinitionFromCache_activeProgram_cachedUntilPublish() {
+    ProgramRepository cachingRepo = createRepoWithProgramCache();
+    Program program = resourceCreator.insertActiveProgram("active program");
+    ProgramDefinition definition = program.getProgramDefinition();
+
+    cachingRepo.setFullProgramDefinitionCache(program, definition);
+    assertThat(cachingRepo.getFullProgramDefinitionFromCache(program.id)).hasValue(definition);
+
+    versionRepo.publishNewSynchronizedVersion();
+    assertThat(cachingRepo.getFullProgramDefinitionFromCache(program.id)).isEmpty();
+  }
+
+  @Test
+  public void getFullProgramDefinitionFromCache_draftProgram_isNotCached() {
+    ProgramRepository cachingRepo = createRepoWithProgramCache();
+    Program program = resourceCreator.insertDraftProgram("draft program");
+
+    cachingRepo.setFullProgramDefinitionCache(program, program.getProgramDefinition());
+
+    assertThat(cachingRepo.getFullProgramDefinitionFromCache(program.id)).isEmpty();
+  }
+
+  @Test
+  public void updateProgramSync_invalidatesCachedProgramDefinition() {
+    ProgramRepository cachingRepo = createRepoWithProgramCache();
+    Program program = resourceCreator.insertActiveProgram("cached program");
+    cachingRepo.setFullProgramDefinitionCache(program, program.getProgramDefinition());
+
+    cachingRepo.updateProgramSync(
+        new Program(
+            program.getProgramDefinition().toBuilder()
+                .setLocalizedName(LocalizedStrings.of(Locale.US, "new name"))
+                .build()));
+
+    assertThat(cachingRepo.getFullProgramDefinitionFromCache(program.id)).isEmpty();
+  }
+
+  private ProgramRepository createRepoWithProgramCache() {
+    return new ProgramRepository(
+        instanceOf(DatabaseExecutionContext.class),
+        () -> versionRepo,
+        ConfigFactory.parseMap(
+            ImmutableMap.of(
+                "program_cache_enabled",
+                true,
+                "program_cache_expiration_seconds",
+                3600,
+                "application_count_cache_seconds",
+                0)),
+        instanceOf(SyncCacheApi.class),
+        instanceOf(SyncCacheApi.class));
+  }
+
   @Test
   public void getAllProgramNames() {
     resourceCreator.insertActiveProgram("old name");
@@ -604,4 +671,49 @@ public class ProgramRepositoryTest extends ResetPostgres {
     assertThat(paginationResult.getPageContents().size()).isEqualTo(1);
     assertThat(paginationResult.getPageContents().get(0).getApplicant()).isEqualTo(applicantOne);
   }
+
+  @Test
+  public void getApplicationsForAllProgramVersions_cachedCount_pagesByTheCachedCount() {
+    ProgramRepository countCachingRepo =
+        new ProgramRepository(
+            instanceOf(DatabaseExecutionContext.class),
+            () -> versionRepo,
+            ConfigFactory.parseMap(
+                ImmutableMap.of(
+                    "program_cache_enabled",
+                    false,
+                    "program_cache_expiration_seconds",
+                    3600,
+                    "application_count_cache_seconds",
+                    60)),
+            instanceOf(SyncCacheApi.class),
+            instanceOf(SyncCacheApi.class));
+    Program program = resourceCreator.insertActiveProgram("test program");
+    resourceCreator.insertActiveApplication(
+        resourceCreator.insertApplicantWithAccount(Optional.of("one@example.com")), program);
+    resourceCreator.insertActiveApplication(
+        resourceCreator.insertApplicantWithAccount(Optional.of("two@example.com")), program);
+
+    PaginationResult<Application> paginationResult =
+        countCachingRepo.getApplicationsForAllProgramVersions(
+            program.id,
+            F.Either.Left(new IdentifierBasedPaginationSpec<>(2, Long.MAX_VALUE)),
+            SubmittedApplicationFilter.EMPTY);
+
+    assertThat(paginationResult.getNumPages()).isEqualTo(1);
+    assertThat(paginationResult.hasMorePages()).isFalse();
+
+    resourceCreator.insertActiveApplication(
+        resourceCreator.insertApplicantWithAccount(Optional.of("three@example.com")), program);
+    paginationResult =
+        countCachingRepo.getApplicationsForAllProgramVersions(
+            program.id,
+            F.Either.Left(new IdentifierBasedPaginationSpec<>(2, Long.MAX_VALUE)),
+            SubmittedApplicationFilter.EMPTY);
+
+    // The count is cached, but whether there is a next page is known from the page itself.
+    assertThat(paginationResult.getNumPages()).isEqualTo(1);
+    assertThat(paginationResult.hasMorePages()).isTrue();
+    assertThat(paginationResult.getPageContents()).hasSize(2);
+  }
 }
@@ -0,0 +1,43 @@
+package repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.prometheus.client.CollectorRegistry;
+import org.junit.Test;
+
+public class QueryTimingsTest {
+
+  @Test
+  public void time_returnsResultAndRecordsQuery() {
+    double before = queryCount("QueryTimingsTest.returnsResult");
+
+    assertThat(QueryTimings.time("QueryTimingsTest.returnsResult", () -> "result"))
+        .isEqualTo("result");
+
+    assertThat(queryCount("QueryTimingsTest.returnsResult")).isEqualTo(before + 1);
+  }
+
+  @Test
+  public void time_queryThrows_recordsQuery() {
+    double before = queryCount("QueryTimingsTest.throws");
+
+    assertThatThrownBy(
+            () ->
+                QueryTimings.timeUpdate(
+                    "QueryTimingsTest.throws",
+                    () -> {
+                      throw new IllegalStateException();
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(queryCount("QueryTimingsTest.throws")).isEqualTo(before + 1);
+  }
+
+  private static double queryCount(String label) {
+    Double count =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "civiform_database_query_seconds_count", new String[] {"query"}, new String[] {label});
+    return count == null ? 0 : count;
+  }
+}
@@ -0,0 +1,119 @@
+package repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+
+public class SemaphoreBoundedExecutorTest {
+
+  private final SemaphoreBoundedExecutor executor =
+      new SemaphoreBoundedExecutor(
+          2,
+          new ThreadFactoryBuilder()
+              .setNameFormat("test-executor-%d")
+              // Tasks that throw are expected in these tests.
+              .setUncaughtExceptionHandler((thread, e) -> {})
+              .build());
+
+  @After
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  public void execute_runsAtMostMaxConcurrencyTasksAtOnce() throws Exception {
+    int taskCount = 20;
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    CountDownLatch finished = new CountDownLatch(taskCount);
+
+    for (int i = 0; i < taskCount; i++) {
+      executor.execute(
+          () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+              TimeUnit.MILLISECONDS.sleep(5);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            finished.countDown();
+          });
+    }
+
+    assertThat(finished.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  public void execute_taskThrows_keepsRunningQueuedTasks() throws Exception {
+    CountDownLatch finished = new CountDownLatch(3);
+
+    for (int i = 0; i < 3; i++) {
+      executor.execute(
+          () -> {
+            finished.countDown();
+            throw new IllegalStateException("task failed");
+          });
+    }
+
+    assertThat(finished.await(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  public void execute_afterShutdown_rejectsTask() {
+    AtomicInteger ran = new AtomicInteger();
+    executor.shutdown();
+
+    assertThatThrownBy(() -> executor.execute(ran::incrementAndGet))
+        .isInstanceOf(RejectedExecutionException.class);
+    assertThat(ran.get()).isEqualTo(0);
+  }
+
+  @Test
+  public void shutdown_withQueuedTasks_dropsThemWhenRunningTasksFinish() throws Exception {
+    List<Throwable> uncaught = new CopyOnWriteArrayList<>();
+    List<Thread> workers = new CopyOnWriteArrayList<>();
+    SemaphoreBoundedExecutor singleThreadExecutor =
+        new SemaphoreBoundedExecutor(
+            1,
+            runnable -> {
+              Thread worker = new Thread(runnable);
+              worker.setUncaughtExceptionHandler((thread, e) -> uncaught.add(e));
+              workers.add(worker);
+              return worker;
+            });
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger queuedRan = new AtomicInteger();
+    singleThreadExecutor.execute(
+        () -> {
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    singleThreadExecutor.execute(queuedRan::incrementAndGet);
+
+    singleThreadExecutor.shutdown();
+    release.countDown();
+    for (Thread worker : workers) {
+      worker.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    // The queued task is dropped, and the running task's thread finishes without an error.
+    assertThat(queuedRan.get()).isEqualTo(0);
+    assertThat(uncaught).isEmpty();
+    assertThatThrownBy(() -> singleThreadExecutor.execute(queuedRan::incrementAndGet))
+        .isInstanceOf(RejectedExecutionException.class);
+  }
+}
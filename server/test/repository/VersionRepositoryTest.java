@@ -36,6 +36,68 @@ public class VersionRepositoryTest extends ResetPostgres {
     versionRepository = instanceOf(VersionRepository.class);
   }
 
+  @Test
+  public void getDraftVersionOrEmpty_doesNotCreateDraft() {
+    assertThat(versionRepository.getDraftVersionOrEmpty()).isEmpty();
+    assertThat(
+            DB.find(Version.class).where().eq("lifecycle_stage", LifecycleStage.DRAFT).findCount())
+        .isEqualTo(0);
+
+    Version draft = versionRepository.getDraftVersion();
+
+    assertThat(versionRepository.getDraftVersionOrEmpty().map(version -> version.id))
+        .hasValue(draft.id);
+  }
+
+  @Test
+  public void isDraftProgram_withoutDraftVersion_isFalseAndDoesNotCreateDraft() {
+    Program activeProgram = resourceCreator.insertActiveProgram("active program");
+
+    assertThat(versionRepository.isDraftProgram(activeProgram.id)).isFalse();
+    assertThat(versionRepository.getDraftVersionOrEmpty()).isEmpty();
+  }
+
+  @Test
+  public void getActiveVersionId_followsPublishedVersion() {
+    Version originalActive = versionRepository.getActiveVersion();
+    assertThat(versionRepository.getActiveVersionId()).isEqualTo(originalActive.id);
+
+    resourceCreator.insertActiveProgram("program");
+    versionRepository.publishNewSynchronizedVersion();
+
+    Version newActive = versionRepository.getActiveVersion();
+    assertThat(newActive.id).isNotEqualTo(originalActive.id);
+    assertThat(versionRepository.getActiveVersionId()).isEqualTo(newActive.id);
+  }
+
+  @Test
+  public void getActiveVersionId_reloadedWhenVersionsAreModifiedDirectly() {
+    Version originalActive = versionRepository.getActiveVersion();
+    assertThat(versionRepository.getActiveVersionId()).isEqualTo(originalActive.id);
+
+    originalActive.setLifecycleStage(LifecycleStage.OBSOLETE).save();
+    Version newActive = new Version(LifecycleStage.ACTIVE);
+    newActive.save();
+
+    assertThat(versionRepository.getActiveVersionId()).isEqualTo(newActive.id);
+  }
+
+  @Test
+  public void getActiveProgramIdForSlug_followsPublishedVersion() {
+    Program activeProgram = resourceCreator.insertActiveProgram("active program");
+    Program draftProgram = resourceCreator.insertDraftProgram("draft program");
+
+    assertThat(versionRepository.getActiveProgramIdForSlug("active-program"))
+        .hasValue(activeProgram.id);
+    assertThat(versionRepository.getActiveProgramIdForSlug("draft-program")).isEmpty();
+
+    versionRepository.publishNewSynchronizedVersion();
+
+    assertThat(versionRepository.getActiveProgramIdForSlug("draft-program"))
+        .hasValue(draftProgram.id);
+    assertThat(versionRepository.getActiveProgramIdForSlug("active-program")).isPresent();
+  }
+
   @Test
   public void testPublish_tombstonesProgramsAndQuestionsOnlyCreatedInTheDraftVersion() {
     Question draftOnlyQuestion = resourceCreator.insertQuestion("draft-only-question");
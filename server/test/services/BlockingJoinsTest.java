@@ -0,0 +1,73 @@
+package services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.prometheus.client.CollectorRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+
+public class BlockingJoinsTest {
+
+  private static final String CALLER = "services.BlockingJoinsTest.joinSoonCompletedFuture";
+
+  @Test
+  public void join_returnsResult() {
+    assertThat(BlockingJoins.join(CompletableFuture.completedFuture("result"))).isEqualTo("result");
+  }
+
+  @Test
+  public void join_failedFuture_throwsCompletionException() {
+    CompletableFuture<String> failed = CompletableFuture.failedFuture(new IllegalStateException());
+
+    assertThatThrownBy(() -> BlockingJoins.join(failed))
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void join_onDefaultDispatcherThread_countsBlockingJoin() throws Exception {
+    double before = blockingJoinCount();
+
+    runOnThreadNamed("application-akka.actor.default-dispatcher-1", this::joinSoonCompletedFuture);
+
+    assertThat(blockingJoinCount()).isEqualTo(before + 1);
+  }
+
+  @Test
+  public void join_onOtherThread_doesNotCountJoin() throws Exception {
+    double before = blockingJoinCount();
+
+    runOnThreadNamed("application-database.dispatcher-1", this::joinSoonCompletedFuture);
+
+    assertThat(blockingJoinCount()).isEqualTo(before);
+  }
+
+  private void joinSoonCompletedFuture() {
+    CompletableFuture<String> future = new CompletableFuture<>();
+    CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS)
+        .execute(() -> future.complete("result"));
+    assertThat(BlockingJoins.join(future)).isEqualTo("result");
+  }
+
+  private static void runOnThreadNamed(String name, Runnable runnable) throws Exception {
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    Thread thread = new Thread(runnable, name);
+    thread.setUncaughtExceptionHandler((unused, e) -> failure.set(e));
+    thread.start();
+    thread.join();
+    if (failure.get() != null) {
+      throw new AssertionError(failure.get());
+    }
+  }
+
+  private static double blockingJoinCount() {
+    Double count =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "civiform_blocking_joins_total", new String[] {"caller"}, new String[] {CALLER});
+    return count == null ? 0 : count;
+  }
+}
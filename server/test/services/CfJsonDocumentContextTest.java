@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.testing.EqualsTester;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -552,6 +553,22 @@ public class CfJsonDocumentContextTest {
     assertThat(data.asJsonString()).isEqualTo(expected);
   }
 
+  @Test
+  public void readJsonValue() {
+    CfJsonDocumentContext data = new CfJsonDocumentContext();
+    data.putString(Path.create("applicant.children[0].name"), "Anne");
+    data.putLong(Path.create("applicant.children[1].age"), 3L);
+
+    assertThat(data.readJsonValue(Path.create("applicant.children[0].name"))).contains("Anne");
+    assertThat(data.readJsonValue(Path.create("applicant.children[1].age"))).contains(3L);
+    assertThat(data.readJsonValue(Path.create("applicant.children[1]")))
+        .contains(ImmutableMap.of("age", 3L));
+    assertThat(data.readJsonValue(Path.create("applicant.children[]")).get()).asList().hasSize(2);
+    assertThat(data.readJsonValue(Path.create("applicant.children[2]"))).isEmpty();
+    assertThat(data.readJsonValue(Path.create("applicant.children[0].age"))).isEmpty();
+    assertThat(data.readJsonValue(Path.create("applicant.children[0].name.first"))).isEmpty();
+  }
+
   @Test
   public void evalPredicate_pathDoesNotExist() {
     CfJsonDocumentContext data = new CfJsonDocumentContext();
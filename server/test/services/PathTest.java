@@ -169,6 +169,19 @@ public class PathTest {
     assertThat(path.toString()).isEqualTo("applicant.my.path.another");
   }
 
+  @Test
+  public void create_sameString_returnsSameInstance() {
+    assertThat(Path.create("applicant.interned.path"))
+        .isSameAs(Path.create("applicant.interned.path"));
+  }
+
+  @Test
+  public void join_lowerCasesJoinedPath() {
+    Path path = Path.create("Applicant.My").join("Another.PATH");
+
+    assertThat(path.segments()).containsExactly("applicant", "my", "another", "path");
+  }
+
   @Test
   public void join_withMultipleSegments_parentPathWorks() {
     Path path = Path.create("one");
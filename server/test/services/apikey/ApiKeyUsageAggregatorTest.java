@@ -0,0 +1,69 @@
+package services.apikey;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import akka.actor.ActorSystem;
+import auth.ApiKeyGrants;
+import com.google.common.collect.ImmutableMap;
+import com.typesafe.config.ConfigFactory;
+import java.time.Instant;
+import models.ApiKey;
+import org.junit.Before;
+import org.junit.Test;
+import play.inject.ApplicationLifecycle;
+import repository.ApiKeyRepository;
+import repository.DatabaseExecutionContext;
+import repository.ResetPostgres;
+
+public class ApiKeyUsageAggregatorTest extends ResetPostgres {
+
+  private ApiKeyRepository repo;
+  private ApiKeyUsageAggregator aggregator;
+
+  @Before
+  public void setUp() {
+    repo = instanceOf(ApiKeyRepository.class);
+    // Flush only when the test asks, so scheduled flushes don't race with the assertions.
+    aggregator =
+        new ApiKeyUsageAggregator(
+            repo,
+            instanceOf(ActorSystem.class),
+            instanceOf(DatabaseExecutionContext.class),
+            instanceOf(ApplicationLifecycle.class),
+            ConfigFactory.parseMap(ImmutableMap.of("api_keys_usage_flush_interval_seconds", 3600)));
+    repo.insert(
+            new ApiKey(new ApiKeyGrants())
+                .setName("key name")
+                .setKeyId("key-id")
+                .setCreatedBy("test@example.com")
+                .setSaltedKeySecret("secret")
+                .setSubnet("0.0.0.0/32")
+                .setExpiration(Instant.ofEpochSecond(100)))
+        .toCompletableFuture()
+        .join();
+  }
+
+  @Test
+  public void flush_writesUsageRecordedSinceLastFlush() {
+    aggregator.recordUsage("key-id", "1.1.1.1");
+    aggregator.recordUsage("key-id", "2.2.2.2");
+
+    assertThat(lookupKey().getCallCount()).isEqualTo(0L);
+
+    aggregator.flush();
+
+    assertThat(lookupKey().getCallCount()).isEqualTo(2L);
+    assertThat(lookupKey().getLastCallIpAddress()).contains("2.2.2.2");
+
+    aggregator.recordUsage("key-id", "3.3.3.3");
+    aggregator.flush();
+    aggregator.flush();
+
+    assertThat(lookupKey().getCallCount()).isEqualTo(3L);
+    assertThat(lookupKey().getLastCallIpAddress()).contains("3.3.3.3");
+  }
+
+  private ApiKey lookupKey() {
+    return repo.lookupApiKey("key-id").toCompletableFuture().join().get();
+  }
+}
@@ -3,6 +3,7 @@ package services.applicant;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.util.Locale;
 import java.util.Optional;
@@ -79,4 +80,54 @@ public class ApplicantDataTest {
     ApplicantData applicantData = new ApplicantData();
     assertThat(applicantData.getDateOfBirth()).isEqualTo(Optional.empty());
   }
+
+  @Test
+  public void copy_isNotAffectedByLaterUpdatesToTheOriginal() {
+    ApplicantData data = new ApplicantData();
+    data.setUserName("First Last");
+    ApplicantData copy = data.copy();
+    copy.lock();
+
+    data.putString(Path.create("applicant.color"), "blue");
+    data.maybeDelete(Path.create("applicant.name"));
+
+    assertThat(copy.asJsonString())
+        .isEqualTo("{\"applicant\":{\"name\":{\"last_name\":\"Last\",\"first_name\":\"First\"}}}");
+    assertThat(data.asJsonString()).isEqualTo("{\"applicant\":{\"color\":\"blue\"}}");
+  }
+
+  @Test
+  public void copy_updatesDoNotAffectTheOriginal() {
+    ApplicantData data = new ApplicantData(Optional.of(Locale.FRENCH), "{\"applicant\":{}}");
+    ApplicantData copy = data.copy();
+
+    copy.putString(Path.create("applicant.color"), "blue");
+
+    assertThat(copy.preferredLocale()).isEqualTo(Locale.FRENCH);
+    assertThat(copy.readString(Path.create("applicant.color"))).contains("blue");
+    assertThat(data.hasPath(Path.create("applicant.color"))).isFalse();
+  }
+
+  @Test
+  public void getRepeatedEntityCounts_countsNestedRepeatedEntities() {
+    ApplicantData data = new ApplicantData();
+    Path householdMembers = Path.create("applicant.household_members[]");
+    data.putRepeatedEntities(householdMembers, ImmutableList.of("Anne", "Bailey"));
+    data.putRepeatedEntities(
+        householdMembers.atIndex(1).join("jobs[]"), ImmutableList.of("Cook", "Driver", "Pilot"));
+    data.putLong(Path.create("applicant.selections"), 1L);
+
+    assertThat(data.getRepeatedEntityCounts())
+        .containsExactlyInAnyOrderEntriesOf(
+            ImmutableMap.of(
+                householdMembers, 2, Path.create("applicant.household_members[1].jobs[]"), 3));
+  }
+
+  @Test
+  public void getRepeatedEntityCounts_noRepeatedEntities() {
+    ApplicantData data = new ApplicantData();
+    data.setUserName("First Last");
+
+    assertThat(data.getRepeatedEntityCounts()).isEmpty();
+  }
 }
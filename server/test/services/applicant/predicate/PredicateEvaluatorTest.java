@@ -6,6 +6,7 @@ import com.google.common.collect.ImmutableList;
 import java.util.Optional;
 import org.junit.Before;
 import org.junit.Test;
+import services.Path;
 import services.applicant.ApplicantData;
 import services.applicant.question.ApplicantQuestion;
 import services.applicant.question.Scalar;
@@ -71,6 +72,26 @@ public class PredicateEvaluatorTest {
     assertThat(evaluator.evaluate(node)).isFalse();
   }
 
+  @Test
+  public void evaluate_withMemo_reusesLeafNodeResults() {
+    PredicateExpressionNode node =
+        PredicateExpressionNode.create(
+            LeafOperationExpressionNode.create(
+                addressQuestion.getId(),
+                Scalar.CITY,
+                Operator.EQUAL_TO,
+                PredicateValue.of("Seattle")));
+    PredicateResultMemo memo = new PredicateResultMemo();
+
+    applicantData.putString(applicantQuestion.createAddressQuestion().getCityPath(), "Seattle");
+    assertThat(new PredicateEvaluator(applicantData, generator, memo).evaluate(node)).isTrue();
+
+    // A memo is only valid while the data doesn't change, so this shows the result was reused.
+    applicantData.putString(applicantQuestion.createAddressQuestion().getCityPath(), "Tacoma");
+    assertThat(new PredicateEvaluator(applicantData, generator, memo).evaluate(node)).isTrue();
+    assertThat(evaluator.evaluate(node)).isFalse();
+  }
+
   @Test
   public void evaluate_andNode_returnsTrue() {
     LeafOperationExpressionNode city =
@@ -236,4 +257,145 @@ public class PredicateEvaluatorTest {
 
     assertThat(evaluator.evaluate(PredicateExpressionNode.create(andNode))).isFalse();
   }
+
+  @Test
+  public void evaluate_leafNode_matchesJsonPathEvaluation() throws Exception {
+    QuestionDefinition numberQuestion =
+        questionBank.applicantJugglingNumber().getQuestionDefinition();
+    QuestionDefinition checkboxQuestion =
+        questionBank.applicantKitchenTools().getQuestionDefinition();
+    generator =
+        new JsonPathPredicateGenerator(
+            ImmutableList.of(addressQuestion, numberQuestion, checkboxQuestion), Optional.empty());
+    evaluator = new PredicateEvaluator(applicantData, generator);
+
+    applicantData.putString(applicantQuestion.createAddressQuestion().getCityPath(), "Seattle");
+    // A cleared answer is stored as null.
+    applicantData.putString(applicantQuestion.createAddressQuestion().getStatePath(), "");
+    applicantData.putLong(
+        new ApplicantQuestion(numberQuestion, applicantData, Optional.empty())
+            .createNumberQuestion()
+            .getNumberPath(),
+        5L);
+    Path selectionsPath =
+        new ApplicantQuestion(checkboxQuestion, applicantData, Optional.empty())
+            .createMultiSelectQuestion()
+            .getSelectionPath();
+    applicantData.putLong(selectionsPath.asArrayElement().atIndex(0), 1L);
+    applicantData.putLong(selectionsPath.asArrayElement().atIndex(1), 2L);
+
+    long addressId = addressQuestion.getId();
+    long numberId = numberQuestion.getId();
+    long checkboxId = checkboxQuestion.getId();
+    ImmutableList<LeafOperationExpressionNode> leafNodes =
+        ImmutableList.of(
+            LeafOperationExpressionNode.create(
+                addressId, Scalar.CITY, Operator.EQUAL_TO, PredicateValue.of("Seattle")),
+            LeafOperationExpressionNode.create(
+                addressId, Scalar.CITY, Operator.NOT_EQUAL_TO, PredicateValue.of("Seattle")),
+            LeafOperationExpressionNode.create(
+                addressId,
+                Scalar.CITY,
+                Operator.IN,
+                PredicateValue.listOfStrings(ImmutableList.of("Tacoma", "Seattle"))),
+            LeafOperationExpressionNode.create(
+                addressId,
+                Scalar.CITY,
+                Operator.NOT_IN,
+                PredicateValue.listOfStrings(ImmutableList.of("Tacoma", "Seattle"))),
+            // Unanswered scalars.
+            LeafOperationExpressionNode.create(
+                addressId, Scalar.STREET, Operator.EQUAL_TO, PredicateValue.of("Main St.")),
+            LeafOperationExpressionNode.create(
+                addressId, Scalar.STREET, Operator.NOT_EQUAL_TO, PredicateValue.of("Main St.")),
+            LeafOperationExpressionNode.create(
+                addressId,
+                Scalar.STREET,
+                Operator.NOT_IN,
+                PredicateValue.listOfStrings(ImmutableList.of("Main St."))),
+            LeafOperationExpressionNode.create(
+                addressId, Scalar.STATE, Operator.EQUAL_TO, PredicateValue.of("WA")),
+            LeafOperationExpressionNode.create(
+                addressId, Scalar.STATE, Operator.NOT_EQUAL_TO, PredicateValue.of("WA")),
+            LeafOperationExpressionNode.create(
+                numberId, Scalar.NUMBER, Operator.EQUAL_TO, PredicateValue.of(5)),
+            LeafOperationExpressionNode.create(
+                numberId, Scalar.NUMBER, Operator.NOT_EQUAL_TO, PredicateValue.of(5)),
+            LeafOperationExpressionNode.create(
+                numberId, Scalar.NUMBER, Operator.GREATER_THAN, PredicateValue.of(4)),
+            LeafOperationExpressionNode.create(
+                numberId, Scalar.NUMBER, Operator.GREATER_THAN_OR_EQUAL_TO, PredicateValue.of(6)),
+            LeafOperationExpressionNode.create(
+                numberId, Scalar.NUMBER, Operator.LESS_THAN, PredicateValue.of(5)),
+            LeafOperationExpressionNode.create(
+                numberId, Scalar.NUMBER, Operator.LESS_THAN_OR_EQUAL_TO, PredicateValue.of(5)),
+            LeafOperationExpressionNode.create(
+                numberId,
+                Scalar.NUMBER,
+                Operator.IN,
+                PredicateValue.listOfLongs(ImmutableList.of(4L, 5L))),
+            LeafOperationExpressionNode.create(
+                numberId,
+                Scalar.NUMBER,
+                Operator.NOT_IN,
+                PredicateValue.listOfLongs(ImmutableList.of(4L, 5L))),
+            LeafOperationExpressionNode.create(
+                checkboxId,
+                Scalar.SELECTIONS,
+                Operator.ANY_OF,
+                PredicateValue.listOfStrings(ImmutableList.of("2", "3"))),
+            LeafOperationExpressionNode.create(
+                checkboxId,
+                Scalar.SELECTIONS,
+                Operator.NONE_OF,
+                PredicateValue.listOfStrings(ImmutableList.of("2", "3"))),
+            LeafOperationExpressionNode.create(
+                checkboxId,
+                Scalar.SELECTIONS,
+                Operator.SUBSET_OF,
+                PredicateValue.listOfStrings(ImmutableList.of("1", "2", "3"))),
+            LeafOperationExpressionNode.create(
+                checkboxId,
+                Scalar.SELECTIONS,
+                Operator.SUBSET_OF,
+                PredicateValue.listOfStrings(ImmutableList.of("2", "3"))));
+
+    for (LeafOperationExpressionNode leafNode : leafNodes) {
+      assertThat(evaluator.evaluate(PredicateExpressionNode.create(leafNode)))
+          .as(leafNode.toString())
+          .isEqualTo(applicantData.evalPredicate(generator.fromLeafNode(leafNode)));
+    }
+  }
+
+  @Test
+  public void evaluate_leafNode_repeatedEntities_trueIfAnyEntityMatches() {
+    QuestionDefinition enumeratorQuestion =
+        questionBank.applicantHouseholdMembers().getQuestionDefinition();
+    generator =
+        new JsonPathPredicateGenerator(ImmutableList.of(enumeratorQuestion), Optional.empty());
+    evaluator = new PredicateEvaluator(applicantData, generator);
+    applicantData.putRepeatedEntities(
+        new ApplicantQuestion(enumeratorQuestion, applicantData, Optional.empty())
+            .getContextualizedPath(),
+        ImmutableList.of("Anne", "Xylia"));
+
+    assertThat(
+            evaluator.evaluate(
+                PredicateExpressionNode.create(
+                    LeafOperationExpressionNode.create(
+                        enumeratorQuestion.getId(),
+                        Scalar.ENTITY_NAME,
+                        Operator.EQUAL_TO,
+                        PredicateValue.of("Xylia")))))
+        .isTrue();
+    assertThat(
+            evaluator.evaluate(
+                PredicateExpressionNode.create(
+                    LeafOperationExpressionNode.create(
+                        enumeratorQuestion.getId(),
+                        Scalar.ENTITY_NAME,
+                        Operator.EQUAL_TO,
+                        PredicateValue.of("Bailey")))))
+        .isFalse();
+  }
 }
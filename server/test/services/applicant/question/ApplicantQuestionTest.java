@@ -49,6 +49,51 @@ public class ApplicantQuestionTest {
         .containsExactlyElementsOf(expected.entrySet());
   }
 
+  @Test
+  public void getContextualizedPath_withScalar_reusesPathsOfProgramQuestion() {
+    ProgramQuestionDefinition programQuestionDefinition =
+        ProgramQuestionDefinition.create(
+            testQuestionBank.applicantName().getQuestionDefinition(), Optional.empty());
+    ApplicantQuestion question =
+        new ApplicantQuestion(programQuestionDefinition, new ApplicantData(), Optional.empty());
+    ApplicantQuestion otherQuestion =
+        new ApplicantQuestion(programQuestionDefinition, new ApplicantData(), Optional.empty());
+
+    assertThat(question.getContextualizedPath(Scalar.FIRST_NAME))
+        .isEqualTo(Path.create("applicant.applicant_name.first_name"))
+        .isSameAs(otherQuestion.getContextualizedPath(Scalar.FIRST_NAME));
+    assertThat(question.getContextualizedPath(Scalar.UPDATED_AT))
+        .isEqualTo(Path.create("applicant.applicant_name.updated_at"));
+  }
+
+  @Test
+  public void getContextualizedPath_withScalarForRepeatedQuestion_isContextualizedByEntity() {
+    ApplicantData applicantData = new ApplicantData();
+    Path householdMembersPath =
+        ApplicantData.APPLICANT_PATH.join(
+            testQuestionBank
+                .applicantHouseholdMembers()
+                .getQuestionDefinition()
+                .getQuestionPathSegment());
+    QuestionAnswerer.answerEnumeratorQuestion(
+        applicantData, householdMembersPath, ImmutableList.of("first", "second"));
+    RepeatedEntity second =
+        RepeatedEntity.createRepeatedEntities(
+                (EnumeratorQuestionDefinition)
+                    testQuestionBank.applicantHouseholdMembers().getQuestionDefinition(),
+                Optional.empty(),
+                applicantData)
+            .get(1);
+    ApplicantQuestion question =
+        new ApplicantQuestion(
+            testQuestionBank.applicantHouseholdMemberName().getQuestionDefinition(),
+            applicantData,
+            Optional.of(second));
+
+    assertThat(question.getContextualizedPath(Scalar.FIRST_NAME))
+        .isEqualTo(householdMembersPath.atIndex(1).join("household_members_name.first_name"));
+  }
+
   @Test
   public void getContextualizedScalars_forEnumerationQuestion_throwsInvalidQuestionTypeException() {
     ApplicantQuestion enumerationApplicantQuestion =
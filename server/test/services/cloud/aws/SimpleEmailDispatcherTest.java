@@ -0,0 +1,202 @@
+package services.cloud.aws;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.typesafe.config.Config;
+import io.ebean.DB;
+import io.ebean.Database;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import models.OutboundEmail;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import play.inject.ApplicationLifecycle;
+import repository.OutboundEmailRepository;
+import repository.ResetPostgres;
+import software.amazon.awssdk.services.ses.SesClient;
+import software.amazon.awssdk.services.ses.model.SendEmailRequest;
+import software.amazon.awssdk.services.ses.model.SesException;
+
+public class SimpleEmailDispatcherTest extends ResetPostgres {
+
+  private final Database database = DB.getDefault();
+  private final Clock clock = Clock.systemUTC();
+  private SesClient sesClient;
+  private SimpleEmail simpleEmail;
+  private SimpleEmailDispatcher dispatcher;
+
+  @Before
+  public void setUp() {
+    SimpleEmail.NullClient client = new SimpleEmail.NullClient();
+    sesClient = client.get();
+    OutboundEmailRepository repo = instanceOf(OutboundEmailRepository.class);
+    simpleEmail = new SimpleEmail("sender@example.com", client, repo, clock);
+    dispatcher =
+        new SimpleEmailDispatcher(
+            simpleEmail,
+            repo,
+            clock,
+            instanceOf(Config.class),
+            instanceOf(ApplicationLifecycle.class));
+  }
+
+  @Test
+  public void send_onlyQueuesEmail() {
+    simpleEmail.send("user@example.com", "subject", "body");
+
+    verify(sesClient, never()).sendEmail(any(SendEmailRequest.class));
+    OutboundEmail email = findOnlyEmail();
+    assertThat(email.getToAddresses()).containsExactly("user@example.com");
+    assertThat(email.getSentTime()).isEmpty();
+  }
+
+  @Test
+  public void send_withoutAddresses_doesNotQueueEmail() {
+    simpleEmail.send(ImmutableList.of(), "subject", "body");
+
+    assertThat(database.find(OutboundEmail.class).findCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void dispatchDueEmails_sendsQueuedEmails() {
+    simpleEmail.send(ImmutableList.of("a@example.com", "b@example.com"), "subject", "body");
+
+    dispatcher.dispatchDueEmails();
+
+    ArgumentCaptor<SendEmailRequest> request = ArgumentCaptor.forClass(SendEmailRequest.class);
+    verify(sesClient).sendEmail(request.capture());
+    assertThat(request.getValue().source()).isEqualTo("sender@example.com");
+    assertThat(request.getValue().destination().toAddresses())
+        .containsExactly("a@example.com", "b@example.com");
+    assertThat(request.getValue().message().subject().data()).isEqualTo("subject");
+    assertThat(request.getValue().message().body().text().data()).isEqualTo("body");
+    assertThat(findOnlyEmail().getSentTime()).isPresent();
+
+    // Sent emails aren't sent again.
+    dispatcher.dispatchDueEmails();
+    verify(sesClient).sendEmail(any(SendEmailRequest.class));
+  }
+
+  @Test
+  public void dispatchDueEmails_failure_retriesLater() {
+    when(sesClient.sendEmail(any(SendEmailRequest.class)))
+        .thenThrow(SesException.builder().message("throttled").build());
+    Instant start = clock.instant();
+    simpleEmail.send("user@example.com", "subject", "body");
+
+    dispatcher.dispatchDueEmails();
+
+    OutboundEmail email = findOnlyEmail();
+    assertThat(email.getSentTime()).isEmpty();
+    assertThat(email.getRemainingAttempts()).isEqualTo(OutboundEmail.MAX_ATTEMPTS - 1);
+    assertThat(email.getErrorMessage().get()).contains("throttled");
+    assertThat(email.getNextAttemptTime()).isAfter(start);
+
+    // The email isn't due again yet.
+    dispatcher.dispatchDueEmails();
+    verify(sesClient).sendEmail(any(SendEmailRequest.class));
+  }
+
+  @Test
+  public void dispatchDueEmails_lastAttemptFails_givesUp() {
+    when(sesClient.sendEmail(any(SendEmailRequest.class)))
+        .thenThrow(SesException.builder().message("rejected").build());
+    OutboundEmail email =
+        new OutboundEmail(ImmutableList.of("user@example.com"), "subject", "body", clock.instant());
+    for (int i = 1; i < OutboundEmail.MAX_ATTEMPTS; i++) {
+      email.decrementRemainingAttempts();
+    }
+    email.save();
+
+    dispatcher.dispatchDueEmails();
+
+    email.refresh();
+    assertThat(email.getSentTime()).isEmpty();
+    assertThat(email.getRemainingAttempts()).isEqualTo(0);
+    assertThat(email.getErrorMessage().get()).contains("rejected");
+  }
+
+  @Test
+  public void dispatchDueEmails_sendsEmailsBeyondOneBatch() {
+    int emailCount = instanceOf(Config.class).getInt("email_dispatch_batch_size") + 1;
+    for (int i = 0; i < emailCount; i++) {
+      simpleEmail.send("user" + i + "@example.com", "subject", "body");
+    }
+
+    dispatcher.dispatchDueEmails();
+
+    assertThat(database.find(OutboundEmail.class).where().isNull("sentTime").findCount())
+        .isEqualTo(0);
+  }
+
+  @Test
+  public void dispatchDueEmails_pollFails_nextPollSendsEmails() {
+    OutboundEmailRepository repo = spy(instanceOf(OutboundEmailRepository.class));
+    doThrow(new RuntimeException("connection refused"))
+        .doCallRealMethod()
+        .when(repo)
+        .claimDueEmails(anyInt(), any(), any());
+    SimpleEmailDispatcher failingDispatcher =
+        new SimpleEmailDispatcher(
+            simpleEmail,
+            repo,
+            clock,
+            instanceOf(Config.class),
+            instanceOf(ApplicationLifecycle.class));
+    simpleEmail.send("user@example.com", "subject", "body");
+
+    // The failure is logged rather than thrown, so the schedule running the polls isn't cancelled.
+    failingDispatcher.dispatchDueEmails();
+    verify(sesClient, never()).sendEmail(any(SendEmailRequest.class));
+
+    failingDispatcher.dispatchDueEmails();
+    verify(sesClient).sendEmail(any(SendEmailRequest.class));
+    assertThat(findOnlyEmail().getSentTime()).isPresent();
+  }
+
+  @Test
+  public void purgeExpiredEmails_deletesOnlyOldFinishedEmails() {
+    int retentionDays = instanceOf(Config.class).getInt("email_retention_days");
+    Instant expired = clock.instant().minus(Duration.ofDays(retentionDays + 1));
+    Instant recent = clock.instant().minus(Duration.ofDays(retentionDays - 1));
+
+    OutboundEmail sentLongAgo = saveEmail(expired);
+    sentLongAgo.setSentTime(expired);
+    sentLongAgo.save();
+    OutboundEmail sentRecently = saveEmail(expired);
+    sentRecently.setSentTime(recent);
+    sentRecently.save();
+    OutboundEmail failedLongAgo = saveEmail(expired);
+    for (int i = 0; i < OutboundEmail.MAX_ATTEMPTS; i++) {
+      failedLongAgo.decrementRemainingAttempts();
+    }
+    failedLongAgo.save();
+    OutboundEmail stillPending = saveEmail(expired);
+
+    dispatcher.purgeExpiredEmails();
+
+    assertThat(database.find(OutboundEmail.class).findList().stream().map(email -> email.id))
+        .containsExactlyInAnyOrder(sentRecently.id, stillPending.id);
+  }
+
+  private OutboundEmail saveEmail(Instant nextAttemptTime) {
+    OutboundEmail email =
+        new OutboundEmail(ImmutableList.of("user@example.com"), "subject", "body", nextAttemptTime);
+    email.save();
+    return email;
+  }
+
+  private OutboundEmail findOnlyEmail() {
+    return database.find(OutboundEmail.class).findOne();
+  }
+}
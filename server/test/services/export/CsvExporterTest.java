@@ -2,6 +2,7 @@ package services.export;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import akka.util.ByteString;
 import com.typesafe.config.Config;
 import featureflags.FeatureFlags;
 import java.time.ZoneId;
@@ -13,6 +14,8 @@ import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 import org.junit.Test;
 import org.mockito.Mockito;
+import repository.ProgramColumnSchemaRepository;
+import repository.SubmittedApplicationFilter;
 import repository.TimeFilter;
 import services.DateConverter;
 import services.applicant.ApplicantData;
@@ -107,6 +110,80 @@ public class CsvExporterTest extends AbstractExporterTest {
         .contains(String.format("/admin/programs/%d/files/my-file-key", fakeProgram.id));
   }
 
+  @Test
+  public void programAllVersionsCsv_streamsSubmittedApplicationsNewestFirst() throws Exception {
+    createFakeQuestions();
+    createFakeProgram();
+    createFakeApplications();
+
+    CsvExporterService exporterService = instanceOf(CsvExporterService.class);
+    String csv =
+        exporterService
+            .getProgramAllVersionsCsv(fakeProgram.id, SubmittedApplicationFilter.EMPTY)
+            .runFold(ByteString.emptyByteString(), ByteString::concat, mat)
+            .toCompletableFuture()
+            .join()
+            .utf8String();
+    CSVParser parser = CSVParser.parse(csv, DEFAULT_FORMAT);
+    List<CSVRecord> records = parser.getRecords();
+
+    assertThat(parser.getHeaderNames()).startsWith("Applicant ID", "Application ID");
+    assertThat(records).hasSize(3);
+    assertThat(records.get(0).get("Application ID")).isEqualTo(applicationFour.id.toString());
+    assertThat(records.get(1).get("Application ID")).isEqualTo(applicationTwo.id.toString());
+    assertThat(records.get(2).get("Application ID")).isEqualTo(applicationOne.id.toString());
+  }
+
+  @Test
+  public void programAllVersionsCsv_withRepeatedEntities_derivesColumnsFromProgram()
+      throws Exception {
+    createFakeQuestions();
+    createFakeProgram();
+    createFakeApplications();
+    createFakeProgramWithEnumerator();
+
+    CsvExporterService exporterService = instanceOf(CsvExporterService.class);
+    String csv =
+        exporterService
+            .getProgramAllVersionsCsv(
+                fakeProgramWithEnumerator.id, SubmittedApplicationFilter.EMPTY)
+            .runFold(ByteString.emptyByteString(), ByteString::concat, mat)
+            .toCompletableFuture()
+            .join()
+            .utf8String();
+    CSVParser parser = CSVParser.parse(csv, DEFAULT_FORMAT);
+
+    // Repeated entity columns go up to the largest number of entities any applicant entered.
+    assertThat(parser.getHeaderNames())
+        .containsExactly(
+            "Applicant ID",
+            "Application ID",
+            "Applicant language",
+            "Submit time",
+            "Submitted by",
+            "Status",
+            "applicant name (first_name)",
+            "applicant name (middle_name)",
+            "applicant name (last_name)",
+            "applicant favorite color (text)",
+            "applicant monthly income (currency)",
+            "applicant household members[0] - household members name (first_name)",
+            "applicant household members[0] - household members name (middle_name)",
+            "applicant household members[0] - household members name (last_name)",
+            "applicant household members[1] - household members name (first_name)",
+            "applicant household members[1] - household members name (middle_name)",
+            "applicant household members[1] - household members name (last_name)",
+            "applicant household members[0] - household members jobs[0] - household"
+                + " members days worked (number)",
+            "applicant household members[0] - household members jobs[1] - household"
+                + " members days worked (number)",
+            "applicant household members[0] - household members jobs[2] - household"
+                + " members days worked (number)",
+            "applicant household members[1] - household members jobs[0] - household"
+                + " members days worked (number)");
+    assertThat(parser.getRecords()).hasSize(3);
+  }
+
   @Test
   public void createAndSubmitTimes_presentAndInPST() throws Exception {
 
@@ -115,8 +192,7 @@ public class CsvExporterTest extends AbstractExporterTest {
     createFakeApplications();
 
     CsvExporterService exporterService = instanceOf(CsvExporterService.class);
-    CSVParser parser =
-        CSVParser.parse(exporterService.getDemographicsCsv(TimeFilter.EMPTY), DEFAULT_FORMAT);
+    CSVParser parser = CSVParser.parse(getDemographicsCsv(exporterService), DEFAULT_FORMAT);
     CSVRecord firstApplicationRecord = parser.getRecords().get(0);
 
     assertThat(firstApplicationRecord.get("Create time")).isEqualTo("2022/04/09 3:07:02 AM PDT");
@@ -153,11 +229,13 @@ public class CsvExporterTest extends AbstractExporterTest {
     CsvExporterService exporterService =
         new CsvExporterService(
             instanceOf(ProgramService.class),
+            instanceOf(ProgramColumnSchemaRepository.class),
             instanceOf(QuestionService.class),
             instanceOf(ApplicantService.class),
             featureFlags,
             instanceOf(Config.class),
-            dateConverter);
+            dateConverter,
+            instanceOf(ExportExecutionContext.class));
 
     CSVParser parser =
         CSVParser.parse(exporterService.getProgramCsv(fakeProgram.id), DEFAULT_FORMAT);
@@ -179,8 +257,7 @@ public class CsvExporterTest extends AbstractExporterTest {
     createFakeProgramWithEnumerator();
 
     CsvExporterService exporterService = instanceOf(CsvExporterService.class);
-    CSVParser parser =
-        CSVParser.parse(exporterService.getDemographicsCsv(TimeFilter.EMPTY), DEFAULT_FORMAT);
+    CSVParser parser = CSVParser.parse(getDemographicsCsv(exporterService), DEFAULT_FORMAT);
 
     assertThat(parser.getHeaderNames())
         .containsExactly(
@@ -196,8 +273,7 @@ public class CsvExporterTest extends AbstractExporterTest {
   @Test
   public void demographicsCsv_noEntities() throws Exception {
     CsvExporterService exporterService = instanceOf(CsvExporterService.class);
-    CSVParser parser =
-        CSVParser.parse(exporterService.getDemographicsCsv(TimeFilter.EMPTY), DEFAULT_FORMAT);
+    CSVParser parser = CSVParser.parse(getDemographicsCsv(exporterService), DEFAULT_FORMAT);
 
     assertThat(parser.getHeaderNames())
         .containsExactly(
@@ -292,4 +368,13 @@ public class CsvExporterTest extends AbstractExporterTest {
                         + " members days worked (number)"))
         .isEqualTo("100");
   }
+
+  private static String getDemographicsCsv(CsvExporterService exporterService) {
+    return exporterService
+        .getDemographicsCsv(TimeFilter.EMPTY)
+        .runFold(ByteString.emptyByteString(), ByteString::concat, mat)
+        .toCompletableFuture()
+        .join()
+        .utf8String();
+  }
 }
@@ -0,0 +1,61 @@
+package services.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+import repository.ResetPostgres;
+
+public class ExportExecutionContextTest extends ResetPostgres {
+
+  private static final ImmutableList<Integer> ELEMENTS =
+      IntStream.range(0, 50).boxed().collect(ImmutableList.toImmutableList());
+
+  private ExportExecutionContext exportExecutionContext;
+
+  @Before
+  public void setUp() {
+    exportExecutionContext = instanceOf(ExportExecutionContext.class);
+  }
+
+  @Test
+  public void renderInOrder_emitsInUpstreamOrder() {
+    List<String> rendered =
+        Source.from(ELEMENTS)
+            .via(exportExecutionContext.renderInOrder(ExportExecutionContextTest::slowerForEarlier))
+            .runWith(Sink.seq(), mat)
+            .toCompletableFuture()
+            .join();
+
+    assertThat(rendered).containsExactlyElementsOf(expected());
+  }
+
+  @Test
+  public void renderAllInOrder_returnsInInputOrder() {
+    assertThat(
+            exportExecutionContext.renderAllInOrder(
+                ELEMENTS, ExportExecutionContextTest::slowerForEarlier))
+        .containsExactlyElementsOf(expected());
+  }
+
+  /** Renders earlier elements more slowly, so they'd be emitted last if order weren't kept. */
+  private static String slowerForEarlier(int element) {
+    try {
+      Thread.sleep(ELEMENTS.size() - element);
+    } catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+    return "row " + element;
+  }
+
+  private static ImmutableList<String> expected() {
+    return ELEMENTS.stream()
+        .map(element -> "row " + element)
+        .collect(ImmutableList.toImmutableList());
+  }
+}
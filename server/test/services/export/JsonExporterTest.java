@@ -2,7 +2,12 @@ package services.export;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import akka.stream.javadsl.Sink;
+import akka.util.ByteString;
+import com.fasterxml.jackson.core.JsonGenerator;
 import featureflags.FeatureFlags;
+import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 import models.Application;
 import models.Program;
@@ -172,7 +177,8 @@ public class JsonExporterTest extends AbstractExporterTest {
             instanceOf(ApplicantService.class),
             instanceOf(ProgramService.class),
             featureFlags,
-            dateConverter);
+            dateConverter,
+            instanceOf(ExportExecutionContext.class));
 
     String resultJsonString =
         exporter
@@ -188,6 +194,127 @@ public class JsonExporterTest extends AbstractExporterTest {
     resultAsserter.assertDoesNotHavePath("$[0].status");
   }
 
+  @Test
+  public void streamPage_writesPageInsideEnvelope() throws Exception {
+    createFakeQuestions();
+    createFakeProgram();
+    createFakeApplications();
+
+    String resultJsonString =
+        instanceOf(JsonExporter.class)
+            .streamPage(
+                fakeProgram.getProgramDefinition(),
+                new IdentifierBasedPaginationSpec<>(2, Long.MAX_VALUE),
+                SubmittedApplicationFilter.EMPTY,
+                new JsonExporter.PageEnvelope() {
+                  @Override
+                  public void writeStart(JsonGenerator generator) throws IOException {
+                    generator.writeStartObject();
+                    generator.writeFieldName("applications");
+                  }
+
+                  @Override
+                  public void writeEnd(
+                      JsonGenerator generator, Optional<Long> nextPageOffsetIdentifier)
+                      throws IOException {
+                    generator.writeNumberField("next", nextPageOffsetIdentifier.orElseThrow());
+                    generator.writeEndObject();
+                  }
+                })
+            .runFold(ByteString.emptyByteString(), ByteString::concat, mat)
+            .toCompletableFuture()
+            .join()
+            .utf8String();
+    CfJsonDocumentContext resultJson = new CfJsonDocumentContext(resultJsonString);
+
+    assertThat((int) resultJson.getDocumentContext().read("$.applications.length()"))
+        .isEqualTo(2);
+    assertThat(resultJson.readLong(Path.create("applications[0].application_id")))
+        .contains(applicationFour.id);
+    assertThat(resultJson.readLong(Path.create("applications[1].application_id")))
+        .contains(applicationTwo.id);
+    assertThat(resultJson.readLong(Path.create("next"))).contains(applicationTwo.id);
+  }
+
+  @Test
+  public void streamPage_pageLargerThanChunk_writesEachChunkInOrder() throws Exception {
+    createFakeQuestions();
+    createFakeProgram();
+    createFakeApplications();
+
+    List<ByteString> chunks =
+        streamPage(new IdentifierBasedPaginationSpec<>(3, Long.MAX_VALUE), /* chunkSize= */ 2);
+    CfJsonDocumentContext resultJson = new CfJsonDocumentContext(concat(chunks));
+
+    // Two applications in the first chunk, and the one left in the page in the second.
+    assertThat(chunks).hasSize(2);
+    assertThat((int) resultJson.getDocumentContext().read("$.applications.length()"))
+        .isEqualTo(3);
+    assertThat(resultJson.readLong(Path.create("applications[0].application_id")))
+        .contains(applicationFour.id);
+    assertThat(resultJson.readLong(Path.create("applications[1].application_id")))
+        .contains(applicationTwo.id);
+    assertThat(resultJson.readLong(Path.create("applications[2].application_id")))
+        .contains(applicationOne.id);
+    assertThat(resultJson.readLong(Path.create("next"))).isEmpty();
+  }
+
+  @Test
+  public void streamPage_pageEndsBeforeLastApplication_offsetsNextPageFromLastChunk()
+      throws Exception {
+    createFakeQuestions();
+    createFakeProgram();
+    createFakeApplications();
+
+    List<ByteString> chunks =
+        streamPage(new IdentifierBasedPaginationSpec<>(2, Long.MAX_VALUE), /* chunkSize= */ 1);
+    CfJsonDocumentContext resultJson = new CfJsonDocumentContext(concat(chunks));
+
+    assertThat(chunks).hasSize(2);
+    assertThat((int) resultJson.getDocumentContext().read("$.applications.length()"))
+        .isEqualTo(2);
+    assertThat(resultJson.readLong(Path.create("applications[0].application_id")))
+        .contains(applicationFour.id);
+    assertThat(resultJson.readLong(Path.create("applications[1].application_id")))
+        .contains(applicationTwo.id);
+    assertThat(resultJson.readLong(Path.create("next"))).contains(applicationTwo.id);
+  }
+
+  /** Streams a page of {@code fakeProgram} inside an object with its next page offset, if any. */
+  private List<ByteString> streamPage(
+      IdentifierBasedPaginationSpec<Long> paginationSpec, int chunkSize) {
+    return instanceOf(JsonExporter.class)
+        .streamPage(
+            fakeProgram.getProgramDefinition(),
+            paginationSpec,
+            SubmittedApplicationFilter.EMPTY,
+            new JsonExporter.PageEnvelope() {
+              @Override
+              public void writeStart(JsonGenerator generator) throws IOException {
+                generator.writeStartObject();
+                generator.writeFieldName("applications");
+              }
+
+              @Override
+              public void writeEnd(
+                  JsonGenerator generator, Optional<Long> nextPageOffsetIdentifier)
+                  throws IOException {
+                if (nextPageOffsetIdentifier.isPresent()) {
+                  generator.writeNumberField("next", nextPageOffsetIdentifier.get());
+                }
+                generator.writeEndObject();
+              }
+            },
+            chunkSize)
+        .runWith(Sink.seq(), mat)
+        .toCompletableFuture()
+        .join();
+  }
+
+  private static String concat(List<ByteString> chunks) {
+    return chunks.stream().reduce(ByteString.emptyByteString(), ByteString::concat).utf8String();
+  }
+
   private void testApplicationTopLevelAnswers(
       Program program, ResultAsserter resultAsserter, Application application, int resultIndex) {
     resultAsserter.assertValueAtPath(
@@ -0,0 +1,54 @@
+package services.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import akka.util.ByteString;
+import com.google.common.collect.ImmutableList;
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.parser.PdfTextExtractor;
+import java.io.ByteArrayInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import models.Application;
+import org.junit.Before;
+import org.junit.Test;
+import repository.SubmittedApplicationFilter;
+
+public class PdfZipExporterTest extends AbstractExporterTest {
+
+  @Before
+  public void createTestData() throws Exception {
+    createFakeQuestions();
+    createFakeProgram();
+    createFakeApplications();
+  }
+
+  @Test
+  public void exportProgramApplications_zipsPdfOfEachSubmittedApplicationNewestFirst()
+      throws Exception {
+    ByteString zip =
+        instanceOf(PdfZipExporter.class)
+            .exportProgramApplications(fakeProgram.id, SubmittedApplicationFilter.EMPTY)
+            .runFold(ByteString.emptyByteString(), ByteString::concat, mat)
+            .toCompletableFuture()
+            .join();
+
+    ImmutableList<Application> expectedApplications =
+        ImmutableList.of(applicationFour, applicationTwo, applicationOne);
+    try (ZipInputStream entries = new ZipInputStream(new ByteArrayInputStream(zip.toArray()))) {
+      for (Application application : expectedApplications) {
+        String applicantNameWithApplicationId =
+            String.format(
+                "%s (%d)", application.getApplicantData().getApplicantName(), application.id);
+        ZipEntry entry = entries.getNextEntry();
+
+        assertThat(entry.getName()).startsWith(applicantNameWithApplicationId).endsWith(".pdf");
+        PdfReader pdfReader = new PdfReader(entries.readAllBytes());
+        assertThat(PdfTextExtractor.getTextFromPage(pdfReader, 1))
+            .startsWith(applicantNameWithApplicationId);
+        pdfReader.close();
+      }
+      assertThat(entries.getNextEntry()).isNull();
+    }
+  }
+}
@@ -3,6 +3,8 @@ package services.question;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.google.common.collect.ImmutableMap;
+import com.typesafe.config.ConfigFactory;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
@@ -10,6 +12,7 @@ import models.LifecycleStage;
 import models.Question;
 import org.junit.Before;
 import org.junit.Test;
+import repository.QuestionRepository;
 import repository.ResetPostgres;
 import repository.VersionRepository;
 import services.CiviFormError;
@@ -302,4 +305,48 @@ public class QuestionServiceTest extends ResetPostgres {
         .isInstanceOf(InvalidUpdateException.class);
     assertThat(versionRepository.getDraftVersion().getTombstonedQuestionNames()).isEmpty();
   }
+
+  @Test
+  public void getReadOnlyActiveQuestionService_isSharedWithinActiveVersion() throws Exception {
+    QuestionService cachingQuestionService = createQuestionServiceWithCache();
+    Question nameQuestion = testQuestionBank.applicantName();
+
+    ReadOnlyQuestionService snapshot =
+        cachingQuestionService.getReadOnlyActiveQuestionService(
+            versionRepository.getActiveVersion());
+
+    assertThat(snapshot.getQuestionDefinition(nameQuestion.id).getName())
+        .isEqualTo(nameQuestion.getQuestionDefinition().getName());
+    assertThat(
+            cachingQuestionService.getReadOnlyActiveQuestionService(
+                versionRepository.getActiveVersion()))
+        .isSameAs(snapshot);
+  }
+
+  @Test
+  public void getReadOnlyActiveQuestionService_isReplacedWhenNewVersionIsPublished()
+      throws Exception {
+    QuestionService cachingQuestionService = createQuestionServiceWithCache();
+    Question nameQuestion = testQuestionBank.applicantName();
+    resourceCreator.insertActiveProgram("program");
+    ReadOnlyQuestionService snapshot =
+        cachingQuestionService.getReadOnlyActiveQuestionService(
+            versionRepository.getActiveVersion());
+
+    versionRepository.publishNewSynchronizedVersion();
+
+    ReadOnlyQuestionService updatedSnapshot =
+        cachingQuestionService.getReadOnlyActiveQuestionService(
+            versionRepository.getActiveVersion());
+    assertThat(updatedSnapshot).isNotSameAs(snapshot);
+    assertThat(updatedSnapshot.getQuestionDefinition(nameQuestion.id).getName())
+        .isEqualTo(nameQuestion.getQuestionDefinition().getName());
+  }
+
+  private QuestionService createQuestionServiceWithCache() {
+    return new QuestionService(
+        instanceOf(QuestionRepository.class),
+        () -> versionRepository,
+        ConfigFactory.parseMap(ImmutableMap.of("question_cache_enabled", true)));
+  }
 }
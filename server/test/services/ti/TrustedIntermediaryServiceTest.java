@@ -21,6 +21,7 @@ import play.data.FormFactory;
 import play.mvc.Http;
 import repository.SearchParameters;
 import repository.UserRepository;
+import services.PageNumberBasedPaginationSpec;
 import services.applicant.ApplicantData;
 import services.applicant.exception.ApplicantNotFoundException;
 
@@ -289,11 +290,60 @@ public class TrustedIntermediaryServiceTest extends WithMockedProfiles {
             .build();
     TrustedIntermediarySearchResult tiResult =
         service.getManagedAccounts(searchParameters, tiGroup);
-    assertThat(tiResult.getAccounts().get().size()).isEqualTo(tiGroup.getManagedAccounts().size());
+    assertThat(tiResult.getAccounts().get()).isEmpty();
     assertThat(tiResult.getErrorMessage().get())
         .isEqualTo("Please enter date in MM/dd/yyyy format");
   }
 
+  @Test
+  public void getManagedAccounts_paginated_returnsOnePageOrderedByName() {
+    TrustedIntermediaryGroup group = repo.createNewTrustedIntermediaryGroup("group", "desc");
+    setupTIAccount("Third", "2022-07-08", "page-email3", group);
+    setupTIAccount("First", "2022-07-08", "page-email1", group);
+    setupTIAccount("Second", "2022-12-12", "page-email2", group);
+    SearchParameters searchParameters =
+        SearchParameters.builder()
+            .setNameQuery(Optional.empty())
+            .setDateQuery(Optional.empty())
+            .build();
+
+    TrustedIntermediarySearchResult firstPage =
+        service.getManagedAccounts(
+            searchParameters, group, new PageNumberBasedPaginationSpec(/* pageSize= */ 2));
+    TrustedIntermediarySearchResult secondPage =
+        service.getManagedAccounts(
+            searchParameters,
+            group,
+            new PageNumberBasedPaginationSpec(/* pageSize= */ 2, /* currentPage= */ 2));
+
+    assertThat(firstPage.getNumPages()).isEqualTo(2);
+    assertThat(firstPage.getAccounts().get())
+        .extracting(Account::getEmailAddress)
+        .containsExactly("page-email1", "page-email2");
+    assertThat(secondPage.getAccounts().get())
+        .extracting(Account::getEmailAddress)
+        .containsExactly("page-email3");
+  }
+
+  @Test
+  public void getManagedAccounts_searchByNameOrDob_matchesEither() {
+    TrustedIntermediaryGroup group = repo.createNewTrustedIntermediaryGroup("group", "desc");
+    setupTIAccount("Emily", "2022-07-08", "either-email1", group);
+    setupTIAccount("Other", "2022-12-12", "either-email2", group);
+    setupTIAccount("Third", "2022-07-10", "either-email3", group);
+    SearchParameters searchParameters =
+        SearchParameters.builder()
+            .setNameQuery(Optional.of("eMiLy"))
+            .setDateQuery(Optional.of("2022-12-12"))
+            .build();
+
+    TrustedIntermediarySearchResult tiResult = service.getManagedAccounts(searchParameters, group);
+
+    assertThat(tiResult.getAccounts().get())
+        .extracting(Account::getEmailAddress)
+        .containsExactly("either-email1", "either-email2");
+  }
+
   private void setupTIAccount(
       String firstName, String dob, String email, TrustedIntermediaryGroup tiGroup) {
     Account account = new Account();